@@ -1,81 +1,606 @@
 package org.ays.auth.config;
 
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import io.jsonwebtoken.Jwts;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ays.auth.model.enums.AysConfigurationParameter;
+import org.ays.auth.model.enums.AysTokenSignatureAlgorithm;
 import org.ays.auth.util.AysKeyConverter;
+import org.ays.common.util.AysJsonUtil;
 import org.ays.parameter.model.AysParameter;
 import org.ays.parameter.service.AysParameterService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
 
+import java.lang.reflect.Type;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 /**
  * Configuration class for AYS token-related properties such as issuer, token expiration times and cryptographic keys.
+ * <p>
+ * The properties are kept in an immutable, versioned {@link Snapshot} which is refreshed periodically
+ * from the `AUTH_` parameters, so token lifetimes can be changed and keys can be rotated without restarting the application.
+ * Tokens are signed with the algorithm in the `AUTH_TOKEN_SIGNATURE_ALGORITHM` parameter,
+ * which has to be changed together with the key parameters.
+ * A changed key pair is only taken into use if its public key verifies a token signed by its private key
+ * with the configured algorithm, otherwise the current keys are kept.
+ * </p>
+ * <p>
+ * Tokens carry the id of their key pair in the `kid` header. The public keys of all key pairs are published
+ * in the `AUTH_TOKEN_VERIFICATION_KEYS` parameter with the times they were published and retired,
+ * so every instance verifies the tokens of every other instance:
+ * <ul>
+ *     <li>A new key pair is published as soon as an instance reads it, and the instances keep signing
+ *     with the previous key pair for one refresh interval, until all of them have read the new public key.</li>
+ *     <li>A retired public key is kept for verification until the refresh tokens signed with it have expired.</li>
+ *     <li>The parameter is only updated if it has not been changed since it was read, otherwise it is read again
+ *     and the new key pair is added to the public keys which another instance has published in the meantime.</li>
+ * </ul>
+ * An instance which starts during that interval has no previous private key, so it signs with the new key pair at once.
+ * </p>
  */
 @Slf4j
-@Getter
 @Configuration
 public class AysTokenConfigurationParameter {
 
     /**
-     * The issuer value to be used in JWTs generated by the application.
+     * Maximum number of times the public keys are read and published again
+     * when another instance has changed them in the meantime.
      */
-    private final String issuer;
+    private static final int MAX_PUBLICATION_ATTEMPTS = 3;
+
+    private final AysParameterService parameterService;
+
+    private final Duration publicationDelay;
+
+    private volatile Snapshot snapshot;
+
     /**
-     * The number of minutes until access tokens expire.
+     * Constructs a new AysTokenConfiguration instance using AysParameterService to retrieve relevant configuration parameters.
+     *
+     * @param parameterService   the AysParameterService instance to use for parameter retrieval
+     * @param refreshDelayMillis the delay between the refreshes of the configuration, which is also the time
+     *                           a new key pair is published before tokens are signed with it
      */
-    private final Integer accessTokenExpireMinute;
+    public AysTokenConfigurationParameter(AysParameterService parameterService,
+                                          @Value("${ays.auth.token-configuration.refresh-delay-millis:60000}") long refreshDelayMillis) {
+
+        log.info("AYS Token Configuration is initializing with AYS Parameters...");
+
+        this.parameterService = parameterService;
+        this.publicationDelay = Duration.ofMillis(refreshDelayMillis);
+
+        this.snapshot = this.createSnapshot(1, null);
+
+        log.info("AYS Token Configuration is initialized!");
+    }
+
+
     /**
-     * The number of days until refresh tokens expire.
+     * Reads the `AUTH_` parameters again and replaces the current snapshot with a new version if any of them has changed.
+     * A new key pair is published before the snapshot is replaced.
      */
-    private final Integer refreshTokenExpireDay;
+    @Scheduled(fixedDelayString = "${ays.auth.token-configuration.refresh-delay-millis:60000}")
+    public void refresh() {
+
+        final Snapshot currentSnapshot = this.snapshot;
+        final Snapshot newSnapshot = this.createSnapshot(currentSnapshot.version + 1, currentSnapshot);
+        if (newSnapshot.isSameAs(currentSnapshot)) {
+            return;
+        }
+
+        this.snapshot = newSnapshot;
+        log.info("AYS Token Configuration is refreshed to version {}", newSnapshot.version);
+    }
+
     /**
-     * The private key used for token signing and verification.
+     * Reads the `AUTH_` parameters and creates a snapshot from them, publishing its key pair if it has not been published yet.
+     * If another instance has changed the published keys since they were read, they are read and published again.
      */
-    private final PrivateKey privateKey;
+    private Snapshot createSnapshot(final int version, final Snapshot previousSnapshot) {
+
+        Snapshot newSnapshot = null;
+        for (int attempt = 1; attempt <= MAX_PUBLICATION_ATTEMPTS; attempt++) {
+
+            final Set<AysParameter> configurationParameters = parameterService.findAll("AUTH_");
+            newSnapshot = Snapshot.of(version, configurationParameters, previousSnapshot, this.publicationDelay);
+            if (!newSnapshot.unpublished || this.publish(newSnapshot)) {
+                return newSnapshot;
+            }
+        }
+
+        log.warn("Token verification key {} could not be published, because the published keys were changed concurrently",
+                newSnapshot.configuredKey.keyId);
+        return newSnapshot;
+    }
+
     /**
-     * The public key used for token verification.
+     * Saves the published keys of the snapshot if the `AUTH_TOKEN_VERIFICATION_KEYS` parameter has not been changed
+     * since the snapshot was created. If they cannot be saved, they are saved again on the next refresh,
+     * and the new key pair is not signed with until then.
+     *
+     * @return {@code false} if the parameter has been changed by another instance and should be read again,
+     * otherwise {@code true}, even if the published keys could not be saved because of another error
      */
-    private final PublicKey publicKey;
+    private boolean publish(final Snapshot snapshot) {
+
+        try {
+            final boolean isPublished = parameterService.updateDefinition(
+                    AysParameter.builder()
+                            .name(AysConfigurationParameter.AUTH_TOKEN_VERIFICATION_KEYS.name())
+                            .definition(AysJsonUtil.toJson(snapshot.publishedKeys))
+                            .build(),
+                    snapshot.publishedKeysDefinition
+            );
+            if (isPublished) {
+                log.info("Token verification key {} is published", snapshot.configuredKey.keyId);
+            }
+            return isPublished;
+        } catch (RuntimeException exception) {
+            log.warn("Token verification key {} could not be published", snapshot.configuredKey.keyId, exception);
+            return true;
+        }
+    }
 
     /**
-     * Constructs a new AysTokenConfiguration instance using AysParameterService to retrieve relevant configuration parameters.
+     * Returns the current snapshot of the token configuration.
+     * Values which are used together, such as a private key and its key id, should be read from the same snapshot.
      *
-     * @param parameterService the AysParameterService instance to use for parameter retrieval
+     * @return the current {@link Snapshot}
      */
-    public AysTokenConfigurationParameter(AysParameterService parameterService) {
+    public Snapshot getSnapshot() {
+        return this.snapshot;
+    }
 
-        log.info("AYS Token Configuration is initializing with AYS Parameters...");
+    /**
+     * @return the issuer value to be used in JWTs generated by the application
+     */
+    public String getIssuer() {
+        return this.snapshot.issuer;
+    }
 
-        final Set<AysParameter> configurationParameters = parameterService.findAll("AUTH_");
+    /**
+     * @return the number of minutes until access tokens expire
+     */
+    public Integer getAccessTokenExpireMinute() {
+        return this.snapshot.accessTokenExpireMinute;
+    }
 
-        this.issuer = AysConfigurationParameter.AYS.getDefaultValue();
+    /**
+     * @return the number of days until refresh tokens expire
+     */
+    public Integer getRefreshTokenExpireDay() {
+        return this.snapshot.refreshTokenExpireDay;
+    }
 
-        this.accessTokenExpireMinute = Optional
-                .ofNullable(AysParameter.getDefinition(AysConfigurationParameter.AUTH_ACCESS_TOKEN_EXPIRE_MINUTE, configurationParameters))
-                .map(Integer::valueOf)
-                .orElse(Integer.valueOf(AysConfigurationParameter.AUTH_ACCESS_TOKEN_EXPIRE_MINUTE.getDefaultValue()));
+    /**
+     * @return the private key used for token signing
+     */
+    public PrivateKey getPrivateKey() {
+        return this.snapshot.privateKey;
+    }
 
-        this.refreshTokenExpireDay = Optional
-                .ofNullable(AysParameter.getDefinition(AysConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY, configurationParameters))
-                .map(Integer::valueOf)
-                .orElse(Integer.valueOf(AysConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY.getDefaultValue()));
+    /**
+     * @return the public key used for token verification
+     */
+    public PublicKey getPublicKey() {
+        return this.snapshot.publicKey;
+    }
 
-        final String encryptedPrivateKeyPem = Optional
-                .ofNullable(AysParameter.getDefinition(AysConfigurationParameter.AUTH_TOKEN_PRIVATE_KEY, configurationParameters))
-                .orElse(AysConfigurationParameter.AUTH_TOKEN_PRIVATE_KEY.getDefaultValue());
-        this.privateKey = AysKeyConverter.convertPrivateKey(encryptedPrivateKeyPem);
+    /**
+     * @return the algorithm used for token signing
+     */
+    public AysTokenSignatureAlgorithm getSignatureAlgorithm() {
+        return this.snapshot.signatureAlgorithm;
+    }
 
-        final String encryptedPublicKeyPem = Optional
-                .ofNullable(AysParameter.getDefinition(AysConfigurationParameter.AUTH_TOKEN_PUBLIC_KEY, configurationParameters))
-                .orElse(AysConfigurationParameter.AUTH_TOKEN_PUBLIC_KEY.getDefaultValue());
-        this.publicKey = AysKeyConverter.convertPublicKey(encryptedPublicKeyPem);
 
-        log.info("AYS Token Configuration is initialized!");
+    /**
+     * An immutable, versioned snapshot of the token configuration.
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Snapshot {
+
+        private static final Type PUBLISHED_KEYS_TYPE = new TypeToken<List<PublishedKey>>() {
+        }.getType();
+
+        /**
+         * The version of the snapshot, incremented on every change.
+         */
+        private final int version;
+        /**
+         * The issuer value to be used in JWTs generated by the application.
+         */
+        private final String issuer;
+        /**
+         * The number of minutes until access tokens expire.
+         */
+        private final Integer accessTokenExpireMinute;
+        /**
+         * The number of days until refresh tokens expire.
+         */
+        private final Integer refreshTokenExpireDay;
+        /**
+         * The private key used for token signing.
+         */
+        private final PrivateKey privateKey;
+        /**
+         * The public key used for token verification.
+         */
+        private final PublicKey publicKey;
+        /**
+         * The algorithm used for token signing.
+         */
+        private final AysTokenSignatureAlgorithm signatureAlgorithm;
+        /**
+         * The id of the key pair, derived from the public key and written to the `kid` header of the tokens.
+         */
+        private final String keyId;
+        /**
+         * The public keys of the published and the retained key pairs with their algorithms by their ids.
+         */
+        @Getter(AccessLevel.NONE)
+        private final Map<String, VerificationKey> verificationKeys;
+
+        /**
+         * The key pair tokens are signed with.
+         */
+        @Getter(AccessLevel.NONE)
+        private final SigningKey signingKey;
+        /**
+         * The key pair in the key parameters, which is signed with once it has been published for one refresh interval.
+         */
+        @Getter(AccessLevel.NONE)
+        private final SigningKey configuredKey;
+        /**
+         * The public keys in the `AUTH_TOKEN_VERIFICATION_KEYS` parameter, including the configured key pair.
+         */
+        @Getter(AccessLevel.NONE)
+        private final List<PublishedKey> publishedKeys;
+        /**
+         * The definition of the `AUTH_TOKEN_VERIFICATION_KEYS` parameter which the published keys were read from.
+         */
+        @Getter(AccessLevel.NONE)
+        private final String publishedKeysDefinition;
+        /**
+         * Whether the configured key pair is missing in the `AUTH_TOKEN_VERIFICATION_KEYS` parameter.
+         */
+        @Getter(AccessLevel.NONE)
+        private final boolean unpublished;
+
+        /**
+         * Returns the public key with the given key id, if the tokens of that key are signed with the given algorithm.
+         * Tokens which were issued before key ids were added to the headers have no key id,
+         * and are verified with the current public key.
+         *
+         * @param keyId     the key id in the `kid` header of the token, may be {@code null}
+         * @param algorithm the algorithm in the `alg` header of the token
+         * @return the public key, or {@code null} if the key id is unknown, its key has been retired for too long,
+         * or its key pair signs with another algorithm
+         */
+        public PublicKey getVerificationKey(final String keyId, final String algorithm) {
+
+            final VerificationKey verificationKey = keyId != null
+                    ? this.verificationKeys.get(keyId)
+                    : this.verificationKeys.get(this.keyId);
+
+            if (verificationKey == null || !verificationKey.algorithm.getAlgorithm().getId().equals(algorithm)) {
+                return null;
+            }
+            return verificationKey.publicKey;
+        }
+
+        /**
+         * Creates a snapshot from the given parameters.
+         * <p>
+         * If the configured key pair has not been published yet, it is added to the published keys as published now,
+         * and the published keys in use are retired when it is signed with. The configured key pair is signed with
+         * once it has been published for the publication delay, until then the key pair of the previous snapshot is signed with.
+         * </p>
+         */
+        private static Snapshot of(final int version,
+                                   final Set<AysParameter> configurationParameters,
+                                   final Snapshot previousSnapshot,
+                                   final Duration publicationDelay) {
+
+            final LocalDateTime now = LocalDateTime.now();
+
+            final Integer accessTokenExpireMinute = Integer.valueOf(
+                    getDefinition(AysConfigurationParameter.AUTH_ACCESS_TOKEN_EXPIRE_MINUTE, configurationParameters)
+            );
+            final Integer refreshTokenExpireDay = Integer.valueOf(
+                    getDefinition(AysConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY, configurationParameters)
+            );
+            final LocalDateTime retentionThreshold = now.minusDays(refreshTokenExpireDay);
+
+            final SigningKey configuredKey = getConfiguredKey(configurationParameters, previousSnapshot);
+
+            final String publishedKeysDefinition = getDefinition(AysConfigurationParameter.AUTH_TOKEN_VERIFICATION_KEYS, configurationParameters);
+            final List<PublishedKey> publishedKeys = getPublishedKeys(publishedKeysDefinition);
+            PublishedKey configuredPublishedKey = publishedKeys.stream()
+                    .filter(publishedKey -> publishedKey.keyId.equals(configuredKey.keyId) && publishedKey.retiredAt == null)
+                    .findFirst()
+                    .orElse(null);
+
+            final boolean unpublished = configuredPublishedKey == null;
+            if (unpublished) {
+                final boolean isFirstKey = previousSnapshot == null && publishedKeys.stream()
+                        .noneMatch(publishedKey -> publishedKey.retiredAt == null);
+                final LocalDateTime publishedAt = isFirstKey ? now.minus(publicationDelay) : now;
+                final String retiredAt = publishedAt.plus(publicationDelay).toString();
+
+                publishedKeys.removeIf(publishedKey -> publishedKey.keyId.equals(configuredKey.keyId)
+                        || (publishedKey.retiredAt != null && LocalDateTime.parse(publishedKey.retiredAt).isBefore(retentionThreshold)));
+                publishedKeys.forEach(publishedKey -> {
+                    if (publishedKey.retiredAt == null) {
+                        publishedKey.retiredAt = retiredAt;
+                    }
+                });
+
+                configuredPublishedKey = new PublishedKey(
+                        configuredKey.keyId,
+                        configuredKey.encryptedPublicKeyPem,
+                        configuredKey.signatureAlgorithmName,
+                        publishedAt.toString(),
+                        null
+                );
+                publishedKeys.add(configuredPublishedKey);
+            }
+
+            final LocalDateTime activatedAt = LocalDateTime.parse(configuredPublishedKey.publishedAt).plus(publicationDelay);
+            final SigningKey signingKey = previousSnapshot == null || !activatedAt.isAfter(now)
+                    ? configuredKey
+                    : previousSnapshot.signingKey;
+
+            final Map<String, VerificationKey> verificationKeys = new HashMap<>();
+            if (previousSnapshot != null) {
+                verificationKeys.putAll(previousSnapshot.getRetainedVerificationKeys(retentionThreshold));
+                if (!previousSnapshot.signingKey.keyId.equals(signingKey.keyId)) {
+                    verificationKeys.put(previousSnapshot.signingKey.keyId, previousSnapshot.signingKey.toVerificationKey(now));
+                }
+            }
+            publishedKeys.stream()
+                    .filter(publishedKey -> publishedKey.retiredAt == null || LocalDateTime.parse(publishedKey.retiredAt).isAfter(retentionThreshold))
+                    .forEach(publishedKey -> toVerificationKey(publishedKey, previousSnapshot)
+                            .ifPresent(verificationKey -> verificationKeys.put(publishedKey.keyId, verificationKey)));
+            verificationKeys.put(configuredKey.keyId, configuredKey.toVerificationKey(null));
+            verificationKeys.put(signingKey.keyId, signingKey.toVerificationKey(null));
+
+            return new Snapshot(
+                    version,
+                    AysConfigurationParameter.AYS.getDefaultValue(),
+                    accessTokenExpireMinute,
+                    refreshTokenExpireDay,
+                    signingKey.privateKey,
+                    signingKey.publicKey,
+                    signingKey.signatureAlgorithm,
+                    signingKey.keyId,
+                    Map.copyOf(verificationKeys),
+                    signingKey,
+                    configuredKey,
+                    List.copyOf(publishedKeys),
+                    publishedKeysDefinition,
+                    unpublished
+            );
+        }
+
+        /**
+         * Returns the key pair in the key parameters.
+         * If the key definitions are the same as in the previous snapshot, its converted keys are reused.
+         * If they have changed but cannot be taken into use, the key pair of the previous snapshot is kept.
+         */
+        private static SigningKey getConfiguredKey(final Set<AysParameter> configurationParameters,
+                                                   final Snapshot previousSnapshot) {
+
+            final String encryptedPrivateKeyPem = getDefinition(AysConfigurationParameter.AUTH_TOKEN_PRIVATE_KEY, configurationParameters);
+            final String encryptedPublicKeyPem = getDefinition(AysConfigurationParameter.AUTH_TOKEN_PUBLIC_KEY, configurationParameters);
+            final String signatureAlgorithmName = getDefinition(AysConfigurationParameter.AUTH_TOKEN_SIGNATURE_ALGORITHM, configurationParameters);
+
+            if (previousSnapshot != null && previousSnapshot.configuredKey.hasKeys(encryptedPrivateKeyPem, encryptedPublicKeyPem, signatureAlgorithmName)) {
+                return previousSnapshot.configuredKey;
+            }
+
+            try {
+                final AysTokenSignatureAlgorithm signatureAlgorithm = AysTokenSignatureAlgorithm.valueOf(signatureAlgorithmName);
+                final PrivateKey privateKey = AysKeyConverter.convertPrivateKey(encryptedPrivateKeyPem);
+                final PublicKey publicKey = AysKeyConverter.convertPublicKey(encryptedPublicKeyPem);
+                verifyKeyPair(privateKey, publicKey, signatureAlgorithm);
+
+                return new SigningKey(
+                        privateKey,
+                        publicKey,
+                        signatureAlgorithm,
+                        generateKeyId(publicKey),
+                        encryptedPrivateKeyPem,
+                        encryptedPublicKeyPem,
+                        signatureAlgorithmName
+                );
+            } catch (RuntimeException exception) {
+                if (previousSnapshot == null) {
+                    throw exception;
+                }
+                log.warn("Token keys have changed but could not be taken into use, the current keys are kept", exception);
+                return previousSnapshot.configuredKey;
+            }
+        }
+
+        /**
+         * Returns a mutable copy of the public keys in the definition of the `AUTH_TOKEN_VERIFICATION_KEYS` parameter,
+         * or an empty list if the definition cannot be read.
+         */
+        private static List<PublishedKey> getPublishedKeys(final String definition) {
+
+            try {
+                final List<PublishedKey> publishedKeys = AysJsonUtil.fromJson(definition, PUBLISHED_KEYS_TYPE);
+                return publishedKeys != null ? new ArrayList<>(publishedKeys) : new ArrayList<>();
+            } catch (JsonParseException exception) {
+                log.warn("Token verification keys could not be read, they are published again", exception);
+                return new ArrayList<>();
+            }
+        }
+
+        /**
+         * Returns the verification key of the given published key.
+         * If the previous snapshot already verifies with the key, its converted public key is reused.
+         */
+        private static Optional<VerificationKey> toVerificationKey(final PublishedKey publishedKey,
+                                                                   final Snapshot previousSnapshot) {
+
+            final LocalDateTime retiredAt = Optional.ofNullable(publishedKey.retiredAt)
+                    .map(LocalDateTime::parse)
+                    .orElse(null);
+
+            final VerificationKey previousVerificationKey = previousSnapshot != null
+                    ? previousSnapshot.verificationKeys.get(publishedKey.keyId)
+                    : null;
+            if (previousVerificationKey != null) {
+                return Optional.of(new VerificationKey(previousVerificationKey.publicKey, previousVerificationKey.algorithm, retiredAt));
+            }
+
+            try {
+                return Optional.of(new VerificationKey(
+                        AysKeyConverter.convertPublicKey(publishedKey.publicKey),
+                        AysTokenSignatureAlgorithm.valueOf(publishedKey.signatureAlgorithm),
+                        retiredAt
+                ));
+            } catch (RuntimeException exception) {
+                log.warn("Token verification key {} could not be converted", publishedKey.keyId, exception);
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * Returns the public keys of this snapshot which have been retired after the given threshold,
+         * so they may still verify unexpired refresh tokens.
+         */
+        private Map<String, VerificationKey> getRetainedVerificationKeys(final LocalDateTime retentionThreshold) {
+
+            final Map<String, VerificationKey> retainedVerificationKeys = new HashMap<>();
+            this.verificationKeys.forEach((keyId, verificationKey) -> {
+                if (verificationKey.retiredAt != null && verificationKey.retiredAt.isAfter(retentionThreshold)) {
+                    retainedVerificationKeys.put(keyId, verificationKey);
+                }
+            });
+            return retainedVerificationKeys;
+        }
+
+        private boolean isSameAs(final Snapshot snapshot) {
+            return this.keyId.equals(snapshot.keyId)
+                    && this.accessTokenExpireMinute.equals(snapshot.accessTokenExpireMinute)
+                    && this.refreshTokenExpireDay.equals(snapshot.refreshTokenExpireDay)
+                    && this.verificationKeys.keySet().equals(snapshot.verificationKeys.keySet());
+        }
+
+        private static String getDefinition(final AysConfigurationParameter configurationParameter,
+                                            final Set<AysParameter> configurationParameters) {
+
+            return Optional
+                    .ofNullable(AysParameter.getDefinition(configurationParameter, configurationParameters))
+                    .orElse(configurationParameter.getDefaultValue());
+        }
+
+        private static void verifyKeyPair(final PrivateKey privateKey,
+                                          final PublicKey publicKey,
+                                          final AysTokenSignatureAlgorithm signatureAlgorithm) {
+
+            final String probe = Jwts.builder()
+                    .subject(AysConfigurationParameter.AYS.getDefaultValue())
+                    .signWith(privateKey, signatureAlgorithm.getAlgorithm())
+                    .compact();
+            Jwts.parser()
+                    .verifyWith(publicKey)
+                    .build()
+                    .parseSignedClaims(probe);
+        }
+
+        private static String generateKeyId(final PublicKey publicKey) {
+            try {
+                final byte[] digest = MessageDigest.getInstance("SHA-256").digest(publicKey.getEncoded());
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 12));
+            } catch (NoSuchAlgorithmException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+
+    }
+
+    /**
+     * A key pair which signs tokens, together with the key definitions it was converted from.
+     */
+    @RequiredArgsConstructor
+    private static final class SigningKey {
+
+        private final PrivateKey privateKey;
+        private final PublicKey publicKey;
+        private final AysTokenSignatureAlgorithm signatureAlgorithm;
+        private final String keyId;
+        private final String encryptedPrivateKeyPem;
+        private final String encryptedPublicKeyPem;
+        private final String signatureAlgorithmName;
+
+        private boolean hasKeys(final String encryptedPrivateKeyPem,
+                                final String encryptedPublicKeyPem,
+                                final String signatureAlgorithmName) {
+
+            return this.encryptedPrivateKeyPem.equals(encryptedPrivateKeyPem)
+                    && this.encryptedPublicKeyPem.equals(encryptedPublicKeyPem)
+                    && this.signatureAlgorithmName.equals(signatureAlgorithmName);
+        }
+
+        private VerificationKey toVerificationKey(final LocalDateTime retiredAt) {
+            return new VerificationKey(this.publicKey, this.signatureAlgorithm, retiredAt);
+        }
+
+    }
+
+    /**
+     * A public key which verifies tokens, together with the algorithm of its key pair
+     * and the time its key pair was replaced by a new one.
+     */
+    @RequiredArgsConstructor
+    private static final class VerificationKey {
+
+        private final PublicKey publicKey;
+        private final AysTokenSignatureAlgorithm algorithm;
+        private final LocalDateTime retiredAt;
+
+    }
+
+    /**
+     * A public key as it is stored in the `AUTH_TOKEN_VERIFICATION_KEYS` parameter,
+     * with the times it was published and its key pair was replaced by a new one.
+     */
+    @NoArgsConstructor
+    @AllArgsConstructor
+    private static final class PublishedKey {
+
+        private String keyId;
+        private String publicKey;
+        private String signatureAlgorithm;
+        private String publishedAt;
+        private String retiredAt;
+
     }
 
 }
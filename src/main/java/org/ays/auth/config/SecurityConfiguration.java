@@ -3,9 +3,12 @@ package org.ays.auth.config;
 import lombok.RequiredArgsConstructor;
 import org.ays.auth.filter.AysBearerTokenAuthenticationFilter;
 import org.ays.auth.security.AysAuthenticationEntryPoint;
+import org.ays.auth.security.AysMethodSecurityExpressionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.config.annotation.authentication.configuration.EnableGlobalAuthentication;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -14,6 +17,7 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.session.SessionRegistryImpl;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
@@ -24,6 +28,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class provides the security configuration for the application.
@@ -32,8 +37,10 @@ import java.util.List;
  * method which sets up the security configuration for HTTP requests.
  * The {@link SessionAuthenticationStrategy} is defined in the {@link #sessionAuthenticationStrategy()} method which registers
  * the session authentication strategy with the session registry.
- * The {@link PasswordEncoder} is defined in the {@link #passwordEncoder()} method which sets up the password encoder
+ * The {@link PasswordEncoder} is defined in the {@link #passwordEncoder(int)} method which sets up the password encoder
  * for the application.
+ * The {@link MethodSecurityExpressionHandler} is defined in the {@link #methodSecurityExpressionHandler()} method which
+ * evaluates the authority checks of method security annotations.
  */
 @Configuration
 @EnableWebSecurity
@@ -42,6 +49,7 @@ import java.util.List;
 @RequiredArgsConstructor
 class SecurityConfiguration {
 
+    private static final String BCRYPT_ENCODING_ID = "bcrypt";
 
     /**
      * Returns a new instance of the {@link RegisterSessionAuthenticationStrategy} class that
@@ -105,14 +113,38 @@ class SecurityConfiguration {
     }
 
     /**
-     * Returns a new instance of the {@link BCryptPasswordEncoder} class that sets up the password encoder
+     * Returns a new instance of the {@link DelegatingPasswordEncoder} class that sets up the password encoder
      * for the application.
+     * New passwords are encoded with a {@link BCryptPasswordEncoder} of the configured strength and prefixed with
+     * its encoding id. Passwords which have been encoded without an encoding id are verified with the same encoder,
+     * and {@link PasswordEncoder#upgradeEncoding(String)} reports them to be encoded again.
      *
+     * @param bcryptStrength the log rounds of the {@link BCryptPasswordEncoder}
      * @return the new instance of {@link PasswordEncoder}
      */
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(@Value("${ays.auth.password-hashing.bcrypt-strength:10}") int bcryptStrength) {
+
+        final BCryptPasswordEncoder bcryptPasswordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+
+        final DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                BCRYPT_ENCODING_ID,
+                Map.of(BCRYPT_ENCODING_ID, bcryptPasswordEncoder)
+        );
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcryptPasswordEncoder);
+        return passwordEncoder;
+    }
+
+    /**
+     * Returns a new instance of the {@link AysMethodSecurityExpressionHandler} class that evaluates
+     * the authority checks of {@code @PreAuthorize} annotations with the interned authority sets of the tokens.
+     * The method is static, so that the handler is created before the method security configuration.
+     *
+     * @return the new instance of {@link MethodSecurityExpressionHandler}
+     */
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
+        return new AysMethodSecurityExpressionHandler();
     }
 
 }
@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ays.auth.model.AysToken;
+import org.ays.auth.model.AysVerifiedToken;
 import org.ays.auth.service.AysInvalidTokenService;
 import org.ays.auth.service.AysTokenService;
 import org.springframework.http.HttpHeaders;
@@ -21,7 +22,8 @@ import java.io.IOException;
  * AysBearerTokenAuthenticationFilter is a filter that intercepts HTTP requests and processes the Bearer tokens included in the Authorization headers.
  * If the token is valid, the user is authenticated and added to the SecurityContext for the duration of the request.
  * If the token is invalid, a 401 Unauthorized response is returned.
- * <p>The filter uses an instance of AysTokenService to verify and validate the token and retrieve the user authentication.
+ * <p>The filter uses an instance of AysTokenService to verify and validate the token only once and
+ * retrieves the user authentication from the verified token.
  */
 @Slf4j
 @Component
@@ -44,12 +46,11 @@ public class AysBearerTokenAuthenticationFilter extends OncePerRequestFilter {
         if (AysToken.isBearerToken(authorizationHeader)) {
             final String jwt = AysToken.getJwt(authorizationHeader);
 
-            tokenService.verifyAndValidate(jwt);
+            final AysVerifiedToken verifiedToken = tokenService.verifyAndValidate(jwt);
 
-            final String tokenId = tokenService.getPayload(jwt).getId();
-            invalidTokenService.checkForInvalidityOfToken(tokenId);
+            invalidTokenService.checkForInvalidityOfToken(verifiedToken.getId());
 
-            final var authentication = tokenService.getAuthentication(jwt);
+            final var authentication = verifiedToken.getAuthentication();
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
 
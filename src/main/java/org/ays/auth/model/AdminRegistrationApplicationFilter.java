@@ -2,7 +2,6 @@ package org.ays.auth.model;
 
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.collections4.CollectionUtils;
 import org.ays.auth.model.entity.AdminRegistrationApplicationEntity;
 import org.ays.auth.model.enums.AdminRegistrationApplicationStatus;
 import org.ays.common.model.AysFilter;
@@ -22,27 +21,25 @@ public class AdminRegistrationApplicationFilter implements AysFilter {
 
     /**
      * Converts this filter configuration into a {@link Specification} for querying {@link AdminRegistrationApplicationEntity}.
-     * If statuses are specified, generates a specification that filters by each status using an OR condition.
+     * If statuses are specified, generates a specification that filters by the statuses using a single IN condition.
      *
      * @return A {@link Specification} that encapsulates the filter criteria.
      */
     @Override
     public Specification<AdminRegistrationApplicationEntity> toSpecification() {
+        return AysFilter.in("status", this.statuses);
+    }
 
-        Specification<AdminRegistrationApplicationEntity> specification = Specification.where(null);
-
-        if (!CollectionUtils.isEmpty(this.statuses)) {
-            Specification<AdminRegistrationApplicationEntity> statusSpecification = this.statuses.stream()
-                    .map(status -> (Specification<AdminRegistrationApplicationEntity>) (root, query, criteriaBuilder) ->
-                            criteriaBuilder.equal(root.get("status"), status))
-                    .reduce(Specification::or)
-                    .orElse(null);
-
-            specification = specification.and(statusSpecification);
-        }
-
-        return specification;
-
+    /**
+     * Builds the key of the admin registration applications matched by this filter, from its statuses.
+     *
+     * @return the key of this filter
+     */
+    @Override
+    public String toCountKey() {
+        return AysFilter.CountKey.builder()
+                .withAll("statuses", this.statuses)
+                .build();
     }
 
 }
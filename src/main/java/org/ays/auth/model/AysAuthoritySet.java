@@ -0,0 +1,138 @@
+package org.ays.auth.model;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable set of the granted authorities of a token, built from its permissions claim.
+ * <p>
+ * Most users share a few identical permission lists, so the sets are interned by {@link #of(List)}:
+ * identical permission lists return the same shared instance, and the authorities of a list are only built once.
+ * Membership is checked in constant time by the permission name, and whether the set contains
+ * the {@value #SUPER_PERMISSION} permission is computed once when the set is built.
+ * </p>
+ */
+public final class AysAuthoritySet extends AbstractSet<GrantedAuthority> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3915027386404471195L;
+
+    /**
+     * The name of the permission which grants every other permission.
+     */
+    public static final String SUPER_PERMISSION = "super";
+
+    /**
+     * Maximum number of interned sets, beyond which new permission lists are not interned anymore.
+     */
+    private static final int MAXIMUM_INTERNED_COUNT = 1024;
+
+    private static final AysAuthoritySet EMPTY = new AysAuthoritySet(List.of());
+
+    private static final Map<List<String>, AysAuthoritySet> INTERNED_SETS = new ConcurrentHashMap<>();
+
+    private final List<GrantedAuthority> authorities;
+    private final Set<String> permissionNames;
+    private final boolean superPermitted;
+
+    private AysAuthoritySet(final List<String> permissionNames) {
+
+        final Set<String> distinctPermissionNames = new LinkedHashSet<>(permissionNames);
+        final List<GrantedAuthority> grantedAuthorities = new ArrayList<>(distinctPermissionNames.size());
+        distinctPermissionNames.forEach(permissionName -> grantedAuthorities.add(new SimpleGrantedAuthority(permissionName)));
+
+        this.authorities = List.copyOf(grantedAuthorities);
+        this.permissionNames = Set.copyOf(distinctPermissionNames);
+        this.superPermitted = this.permissionNames.contains(SUPER_PERMISSION);
+    }
+
+
+    /**
+     * Returns the interned authority set of the given permission names.
+     *
+     * @param permissionNames the permission names in the permissions claim of a token, may be {@code null}
+     * @return the shared {@link AysAuthoritySet}, which is empty if there are no permission names
+     */
+    public static AysAuthoritySet of(final List<String> permissionNames) {
+
+        if (permissionNames == null || permissionNames.isEmpty()) {
+            return EMPTY;
+        }
+
+        final AysAuthoritySet internedSet = INTERNED_SETS.get(permissionNames);
+        if (internedSet != null) {
+            return internedSet;
+        }
+
+        final List<String> key = List.copyOf(permissionNames);
+        final AysAuthoritySet authoritySet = new AysAuthoritySet(key);
+        if (INTERNED_SETS.size() >= MAXIMUM_INTERNED_COUNT) {
+            return authoritySet;
+        }
+
+        final AysAuthoritySet previousSet = INTERNED_SETS.putIfAbsent(key, authoritySet);
+        return previousSet != null ? previousSet : authoritySet;
+    }
+
+    /**
+     * Checks whether the set contains the authority with the given name.
+     *
+     * @param authority the name of the authority
+     * @return {@code true} if the set contains the authority
+     */
+    public boolean hasAuthority(final String authority) {
+        return this.permissionNames.contains(authority);
+    }
+
+    /**
+     * Checks whether the set contains any of the authorities with the given names.
+     *
+     * @param authorities the names of the authorities
+     * @return {@code true} if the set contains at least one of the authorities
+     */
+    public boolean hasAnyAuthority(final String... authorities) {
+        for (final String authority : authorities) {
+            if (this.permissionNames.contains(authority)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether the set contains the {@value #SUPER_PERMISSION} permission.
+     *
+     * @return {@code true} if the set contains the super permission
+     */
+    public boolean isSuperPermitted() {
+        return this.superPermitted;
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        return object instanceof GrantedAuthority grantedAuthority
+                && this.permissionNames.contains(grantedAuthority.getAuthority());
+    }
+
+    @Override
+    public Iterator<GrantedAuthority> iterator() {
+        return this.authorities.iterator();
+    }
+
+    @Override
+    public int size() {
+        return this.authorities.size();
+    }
+
+}
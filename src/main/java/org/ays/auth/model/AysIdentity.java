@@ -1,27 +1,33 @@
 package org.ays.auth.model;
 
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import org.ays.auth.model.enums.AysTokenClaims;
-import org.ays.common.model.enums.BeanScope;
-import org.ays.common.util.AysListUtil;
-import org.springframework.context.annotation.Scope;
-import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Collection;
 
 /**
  * This class provides a representation of the identity of the authenticated user in the AYS service.
  * It manages information about the user's ID, roles, and associated institution based on JWT claims.
  * <p>
- * Designed to be request-scoped, each HTTP request will have its own instance of this class.
- * This ensures that user-specific details are appropriately isolated per request.
- * The proxy mode is set to {@link org.springframework.context.annotation.ScopedProxyMode#TARGET_CLASS}
- * to allow for lazy initialization and dependency injection of request-scoped beans.
+ * The identity is a singleton which reads an immutable {@link Snapshot} of the current authentication.
+ * The snapshot of a verified token is extracted once, when the bearer token filter builds the authentication,
+ * and travels with the authentication in the {@link SecurityContextHolder}. So the identity is bound to the thread
+ * in the same way as the security context, and it is available to asynchronous tasks which propagate the security context.
+ * Authentications which do not carry a snapshot are converted into one on every access.
+ * </p>
  */
 @Component
-@Scope(value = BeanScope.SCOPE_REQUEST, proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class AysIdentity {
 
     /**
@@ -31,18 +37,26 @@ public class AysIdentity {
      * @return the user ID as a {@link String}
      */
     public String getUserId() {
-        return this.getJwt().getClaim(AysTokenClaims.USER_ID.getValue());
+        return this.getSnapshot().getUserId();
     }
 
     /**
      * Checks if the authenticated user has a super admin role.
-     * This is determined by inspecting the user's permissions in the JWT claims.
+     * This is determined by the precomputed super flag of the user's {@link AysAuthoritySet}.
      *
      * @return {@code true} if the user has the "super" permission, {@code false} otherwise
      */
     public boolean isSuperAdmin() {
-        final List<String> permissions = AysListUtil.to(this.getJwt().getClaim(AysTokenClaims.USER_PERMISSIONS.getValue()), String.class);
-        return permissions.stream().anyMatch(permission -> permission.equals("super"));
+        return this.getSnapshot().getAuthorities().isSuperPermitted();
+    }
+
+    /**
+     * Returns the authorities of the authenticated user.
+     *
+     * @return the {@link AysAuthoritySet} of the authenticated user
+     */
+    public AysAuthoritySet getAuthorities() {
+        return this.getSnapshot().getAuthorities();
     }
 
     /**
@@ -52,7 +66,7 @@ public class AysIdentity {
      * @return the institution ID as a {@link String}
      */
     public String getInstitutionId() {
-        return this.getJwt().getClaim(AysTokenClaims.INSTITUTION_ID.getValue());
+        return this.getSnapshot().getInstitutionId();
     }
 
     /**
@@ -62,17 +76,76 @@ public class AysIdentity {
      * @return the access token value as a {@link String}
      */
     public String getAccessToken() {
-        return this.getJwt().getTokenValue();
+        return this.getSnapshot().getAccessToken();
+    }
+
+    /**
+     * Retrieves the unique identifier (jti) of the access token used for the current session.
+     * The identifier is read from the already verified JWT, so the token is not parsed again.
+     *
+     * @return the access token id as a {@link String}
+     */
+    public String getAccessTokenId() {
+        return this.getSnapshot().getAccessTokenId();
     }
 
     /**
-     * Retrieves the JWT token for the authenticated user from the security context.
-     * This method is used internally to access user-specific claims from the JWT.
+     * Returns the immutable snapshot of the authenticated user's identity.
+     * The snapshot can be passed to code which runs outside of the security context of the request.
      *
-     * @return the JWT token as a {@link Jwt} object
+     * @return the {@link Snapshot} of the current authentication
      */
-    private Jwt getJwt() {
-        return ((Jwt) SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+    public Snapshot getSnapshot() {
+
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getDetails() instanceof Snapshot snapshot) {
+            return snapshot;
+        }
+
+        return Snapshot.of((Jwt) authentication.getPrincipal(), authentication.getAuthorities());
+    }
+
+
+    /**
+     * An immutable snapshot of the identity of an authenticated user, extracted once from its verified token.
+     */
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Snapshot implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = -5310279870627412316L;
+
+        private final String userId;
+        private final String institutionId;
+        private final String accessToken;
+        private final String accessTokenId;
+        private final AysAuthoritySet authorities;
+
+        /**
+         * Extracts the snapshot of the identity from the given token and authorities.
+         * The authorities are converted into an {@link AysAuthoritySet} if they are not already one.
+         *
+         * @param jwt         the verified token of the user
+         * @param authorities the granted authorities of the user
+         * @return the {@link Snapshot} of the identity
+         */
+        public static Snapshot of(final Jwt jwt, final Collection<? extends GrantedAuthority> authorities) {
+
+            final AysAuthoritySet authoritySet = authorities instanceof AysAuthoritySet interned
+                    ? interned
+                    : AysAuthoritySet.of(AuthorityUtils.authorityListToSet(authorities).stream().toList());
+
+            return new Snapshot(
+                    jwt.getClaim(AysTokenClaims.USER_ID.getValue()),
+                    jwt.getClaim(AysTokenClaims.INSTITUTION_ID.getValue()),
+                    jwt.getTokenValue(),
+                    jwt.getId(),
+                    authoritySet
+            );
+        }
+
     }
 
 }
@@ -4,7 +4,6 @@ import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.collections4.CollectionUtils;
 import org.ays.auth.model.entity.AysRoleEntity;
 import org.ays.auth.model.enums.AysRoleStatus;
 import org.ays.common.model.AysFilter;
@@ -54,28 +53,26 @@ public class AysRoleFilter implements AysFilter {
     @Override
     public Specification<AysRoleEntity> toSpecification() {
 
-        Specification<AysRoleEntity> specification = Specification.where(null);
+        final Specification<AysRoleEntity> institutionSpecification = (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("institutionId"), this.institutionId);
 
-        specification = specification.and((root, query, criteriaBuilder) ->
-                criteriaBuilder.equal(root.get("institutionId"), this.institutionId));
-
-        if (this.name != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(criteriaBuilder.upper(root.get("name")), "%" + this.name.toUpperCase() + "%"));
-        }
-
-        if (!CollectionUtils.isEmpty(this.statuses)) {
-
-            Specification<AysRoleEntity> statusSpecification = this.statuses.stream()
-                    .map(status -> (Specification<AysRoleEntity>) (root, query, criteriaBuilder) ->
-                            criteriaBuilder.equal(root.get("status"), status))
-                    .reduce(Specification::or)
-                    .orElse(null);
-
-            specification = specification.and(statusSpecification);
-        }
+        return Specification.where(institutionSpecification)
+                .and(AysFilter.containsIgnoreCase("name", this.name))
+                .and(AysFilter.in("status", this.statuses));
+    }
 
-        return specification;
+    /**
+     * Builds the key of the roles matched by this filter, from its institution ID, name and statuses.
+     *
+     * @return the key of this filter
+     */
+    @Override
+    public String toCountKey() {
+        return AysFilter.CountKey.builder()
+                .with("institutionId", this.institutionId)
+                .with("name", this.name)
+                .withAll("statuses", this.statuses)
+                .build();
     }
 
 }
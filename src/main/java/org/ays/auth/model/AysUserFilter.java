@@ -4,7 +4,6 @@ import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.collections4.CollectionUtils;
 import org.ays.auth.model.entity.AysUserEntity;
 import org.ays.auth.model.enums.AysUserStatus;
 import org.ays.common.model.AysFilter;
@@ -25,6 +24,11 @@ import java.util.Set;
  * <p>
  * When converting to a {@link Specification}, it combines the criteria using logical AND operations.
  * </p>
+ * <p>
+ * The first name, last name and city match the users whose values start with the given values,
+ * for example "Ah" matches "Ahmet" but not "Mahmut". The email address and the phone number match the users
+ * whose values contain the given values.
+ * </p>
  *
  * @see AysUserEntity
  * @see AysFilter
@@ -61,9 +65,13 @@ public class AysUserFilter implements AysFilter {
      * Converts the current filter criteria into a {@link Specification} for querying users.
      * <p>
      * This method builds a {@link Specification} based on the filter properties. It uses
-     * the first name and last name for partial matching (case-insensitive), filters by the provided
-     * user statuses, phone number, city, and institution ID. If no specific filter properties are specified,
-     * those criteria are not included in the final specification.
+     * the first name, last name and city for prefix matching and the email address and phone number for
+     * partial matching, filters by the provided user statuses and the institution ID.
+     * If no specific filter properties are specified, those criteria are not included in the final specification.
+     * </p>
+     * <p>
+     * Text columns are matched case-insensitively by their default collation instead of {@code UPPER}, and the prefix
+     * matches are {@code LIKE 'value%'}, so that the queries can use the indexes which start with the institution ID.
      * </p>
      *
      * @return a {@link Specification} object representing the query criteria based on the current filter.
@@ -71,55 +79,45 @@ public class AysUserFilter implements AysFilter {
     @Override
     public Specification<AysUserEntity> toSpecification() {
 
-        Specification<AysUserEntity> specification = Specification.where(null);
-
-        specification = specification.and((root, query, criteriaBuilder) ->
-                criteriaBuilder.equal(root.get("institutionId"), this.institutionId));
-
-        if (!CollectionUtils.isEmpty(this.statuses)) {
-
-            Specification<AysUserEntity> statusSpecification = this.statuses.stream()
-                    .map(status -> (Specification<AysUserEntity>) (root, query, criteriaBuilder) ->
-                            criteriaBuilder.equal(root.get("status"), status))
-                    .reduce(Specification::or)
-                    .orElse(null);
-
-            specification = specification.and(statusSpecification);
-        }
-
-        if (this.firstName != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(criteriaBuilder.upper(root.get("firstName")), "%" + this.firstName.toUpperCase() + "%"));
-        }
-
-        if (this.lastName != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(criteriaBuilder.upper(root.get("lastName")), "%" + this.lastName.toUpperCase() + "%"));
-        }
-
-        if (this.emailAddress != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(criteriaBuilder.upper(root.get("emailAddress")), "%" + this.emailAddress.toUpperCase() + "%"));
-        }
-
-        if (this.phoneNumber != null && StringUtils.hasText(this.phoneNumber.getCountryCode())) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(root.get("countryCode"), "%" + this.phoneNumber.getCountryCode() + "%"));
-        }
-
-        if (this.phoneNumber != null && StringUtils.hasText(this.phoneNumber.getLineNumber())) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(root.get("lineNumber"), "%" + this.phoneNumber.getLineNumber() + "%"));
-        }
-
-        if (this.city != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(criteriaBuilder.upper(root.get("city")), "%" + this.city.toUpperCase() + "%"));
-        }
-
-        return specification;
+        final Specification<AysUserEntity> institutionSpecification = (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("institutionId"), this.institutionId);
+
+        final String countryCode = this.phoneNumber != null && StringUtils.hasText(this.phoneNumber.getCountryCode())
+                ? this.phoneNumber.getCountryCode() : null;
+        final String lineNumber = this.phoneNumber != null && StringUtils.hasText(this.phoneNumber.getLineNumber())
+                ? this.phoneNumber.getLineNumber() : null;
+
+        return Specification.where(institutionSpecification)
+                .and(AysFilter.in("status", this.statuses))
+                .and(AysFilter.startsWith("firstName", this.firstName))
+                .and(AysFilter.startsWith("lastName", this.lastName))
+                .and(AysFilter.contains("emailAddress", this.emailAddress))
+                .and(AysFilter.contains("countryCode", countryCode))
+                .and(AysFilter.contains("lineNumber", lineNumber))
+                .and(AysFilter.startsWith("city", this.city));
+    }
 
+    /**
+     * Builds the key of the users matched by this filter, from its institution ID and all of its other criteria.
+     *
+     * @return the key of this filter
+     */
+    @Override
+    public String toCountKey() {
+
+        final String countryCode = this.phoneNumber != null ? this.phoneNumber.getCountryCode() : null;
+        final String lineNumber = this.phoneNumber != null ? this.phoneNumber.getLineNumber() : null;
+
+        return AysFilter.CountKey.builder()
+                .with("institutionId", this.institutionId)
+                .withAll("statuses", this.statuses)
+                .with("firstName", this.firstName)
+                .with("lastName", this.lastName)
+                .with("emailAddress", this.emailAddress)
+                .with("countryCode", countryCode)
+                .with("lineNumber", lineNumber)
+                .with("city", this.city)
+                .build();
     }
 
 }
-
@@ -0,0 +1,105 @@
+package org.ays.auth.model;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import lombok.Builder;
+import lombok.Getter;
+import org.ays.auth.model.enums.AysTokenClaims;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.io.Serial;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A representation of a JWT which has already been parsed, signature verified and validated.
+ * It carries the header, the claims and the granted authorities of the token,
+ * so that consumers do not need to parse the same token again.
+ */
+@Getter
+@Builder
+public class AysVerifiedToken {
+
+    private String value;
+    private JwsHeader header;
+    private Claims claims;
+    private AysAuthoritySet authorities;
+
+    /**
+     * The authentication of the token, built once on first access and reused afterwards.
+     */
+    @Getter(lazy = true)
+    private final UsernamePasswordAuthenticationToken authentication = this.buildAuthentication();
+
+    /**
+     * Returns the unique identifier (jti) of the token.
+     *
+     * @return the token id as a {@link String}
+     */
+    public String getId() {
+        return this.claims.getId();
+    }
+
+    /**
+     * Returns the expiration time of the token.
+     *
+     * @return the expiration time as an {@link Instant}
+     */
+    public Instant getExpiresAt() {
+        return this.claims.getExpiration().toInstant();
+    }
+
+    /**
+     * Builds an authenticated {@link UsernamePasswordAuthenticationToken} whose principal is a {@link Jwt}
+     * created from the verified header and claims of the token,
+     * whose authorities are the shared {@link AysAuthoritySet} of the token,
+     * and whose details are the {@link AysIdentity.Snapshot} of the token.
+     *
+     * @return the authenticated {@link UsernamePasswordAuthenticationToken}
+     */
+    private UsernamePasswordAuthenticationToken buildAuthentication() {
+
+        final Jwt jwt = new Jwt(
+                this.value,
+                this.claims.getIssuedAt().toInstant(),
+                this.getExpiresAt(),
+                Map.of(
+                        AysTokenClaims.TYPE.getValue(), this.header.getType(),
+                        AysTokenClaims.ALGORITHM.getValue(), this.header.getAlgorithm()
+                ),
+                this.claims
+        );
+
+        return new AuthenticationToken(jwt, this.authorities);
+    }
+
+
+    /**
+     * An authenticated {@link UsernamePasswordAuthenticationToken} which returns the {@link AysAuthoritySet} it is built with,
+     * instead of a copy of it, so that authority checks can use its constant-time lookups.
+     * The {@link AysIdentity.Snapshot} of the token is extracted once and kept as the details of the authentication.
+     */
+    private static final class AuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+        @Serial
+        private static final long serialVersionUID = 6184563216475130258L;
+
+        private final AysAuthoritySet authorities;
+
+        private AuthenticationToken(final Jwt jwt, final AysAuthoritySet authorities) {
+            super(jwt, null, authorities);
+            this.authorities = authorities;
+            super.setDetails(AysIdentity.Snapshot.of(jwt, authorities));
+        }
+
+        @Override
+        public Collection<GrantedAuthority> getAuthorities() {
+            return this.authorities;
+        }
+
+    }
+
+}
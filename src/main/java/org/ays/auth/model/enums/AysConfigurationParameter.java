@@ -17,6 +17,8 @@ public enum AysConfigurationParameter {
     AUTH_REFRESH_TOKEN_EXPIRE_DAY("1"),
     AUTH_TOKEN_PRIVATE_KEY(""),
     AUTH_TOKEN_PUBLIC_KEY(""),
+    AUTH_TOKEN_SIGNATURE_ALGORITHM("RS256"),
+    AUTH_TOKEN_VERIFICATION_KEYS("[]"),
     FE_URL("http://localhost:3000");
 
     private final String defaultValue;
@@ -18,6 +18,7 @@ public enum AysTokenClaims {
     USER_CITY("userCity"),
     USER_EMAIL_ADDRESS("userEmailAddress"),
     USER_PERMISSIONS("userPermissions"),
+    USER_PERMISSION_BITMAP("userPermissionBitmap"),
     USER_FIRST_NAME("userFirstName"),
     USER_LAST_NAME("userLastName"),
     USER_LAST_LOGIN_AT("userLastLoginAt"),
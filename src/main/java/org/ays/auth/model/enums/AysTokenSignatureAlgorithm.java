@@ -0,0 +1,34 @@
+package org.ays.auth.model.enums;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AysTokenSignatureAlgorithm enum represents the algorithms which can be used to sign the tokens of an AYS system.
+ * The algorithm is chosen with the `AUTH_TOKEN_SIGNATURE_ALGORITHM` parameter
+ * and must match the type of the keys in the `AUTH_TOKEN_PRIVATE_KEY` and `AUTH_TOKEN_PUBLIC_KEY` parameters.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AysTokenSignatureAlgorithm {
+
+    /**
+     * RSASSA-PKCS1-v1_5 with SHA-256, signs with an RSA key.
+     */
+    RS256(Jwts.SIG.RS256),
+
+    /**
+     * ECDSA with SHA-256, signs with an EC key on the P-256 curve.
+     */
+    ES256(Jwts.SIG.ES256),
+
+    /**
+     * EdDSA, signs with an Ed25519 key.
+     */
+    ED25519(Jwts.SIG.EdDSA);
+
+    private final SignatureAlgorithm algorithm;
+
+}
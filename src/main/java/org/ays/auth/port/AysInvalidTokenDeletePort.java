@@ -6,15 +6,20 @@ import java.time.LocalDateTime;
 
 /**
  * A port interface for deleting {@link AysInvalidToken} based on created timestamp.
- * Defines a method to delete all tokens created before a specified expiration threshold.
+ * Defines a method to delete the tokens created before a specified expiration threshold in bounded chunks.
  */
 public interface AysInvalidTokenDeletePort {
 
     /**
-     * Deletes all {@link AysInvalidToken} created before a specified expiration threshold.
+     * Deletes a chunk of at most {@code limit} {@link AysInvalidToken}s, with the oldest created timestamps,
+     * created before a specified expiration threshold.
+     * Each call runs in its own short transaction, so callers delete all such tokens by calling it
+     * until fewer tokens than the limit are deleted.
      *
-     * @param expirationThreshold The timestamp threshold before which all tokens will be deleted.
+     * @param expirationThreshold The timestamp threshold before which tokens will be deleted.
+     * @param limit               The maximum number of tokens to delete.
+     * @return The number of deleted tokens.
      */
-    void deleteAllByCreatedAtBefore(LocalDateTime expirationThreshold);
+    int deleteAllByCreatedAtBefore(LocalDateTime expirationThreshold, int limit);
 
 }
@@ -2,6 +2,8 @@ package org.ays.auth.port;
 
 import org.ays.auth.model.AysInvalidToken;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,4 +20,16 @@ public interface AysInvalidTokenReadPort {
      */
     Optional<AysInvalidToken> findByTokenId(String tokenId);
 
+    /**
+     * Retrieves the {@link AysInvalidToken}s which come after the given created timestamp and ID,
+     * ordered by created timestamp and ID.
+     * The last {@link AysInvalidToken} of a chunk is the start of the next chunk.
+     *
+     * @param createdAt The inclusive lower bound of the created timestamps.
+     * @param id        The exclusive lower bound of the IDs of the {@link AysInvalidToken}s created at exactly {@code createdAt}.
+     * @param limit     The maximum number of {@link AysInvalidToken}s to retrieve.
+     * @return A list of the found {@link AysInvalidToken}s, or an empty list if none are found.
+     */
+    List<AysInvalidToken> findAllCreatedAfter(LocalDateTime createdAt, Long id, int limit);
+
 }
@@ -38,6 +38,16 @@ public interface AysUserReadPort {
      */
     Optional<AysUser> findByEmailAddress(String emailAddress);
 
+    /**
+     * Retrieves the fields of a {@link AysUser} which are needed for the login by its email address.
+     * The user only contains its identity, status, password, login attempt, the ID and name of its institution,
+     * and the IDs of its roles with the names of their permissions.
+     *
+     * @param emailAddress The email address of the user to retrieve.
+     * @return An optional containing the {@link AysUser} if found, otherwise empty.
+     */
+    Optional<AysUser> findForLoginByEmailAddress(String emailAddress);
+
     /**
      * Finds a user by their phone number, which is a concatenation of country code and line number.
      *
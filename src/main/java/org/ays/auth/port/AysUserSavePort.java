@@ -2,6 +2,8 @@ package org.ays.auth.port;
 
 import org.ays.auth.model.AysUser;
 
+import java.util.List;
+
 /**
  * Port interface for saving and updating user information.
  */
@@ -15,4 +17,26 @@ public interface AysUserSavePort {
      */
     AysUser save(AysUser user);
 
+    /**
+     * Saves only the password value of a user with a targeted update.
+     *
+     * @param password The password whose value is to be saved.
+     */
+    void savePassword(AysUser.Password password);
+
+    /**
+     * Saves only the login attempt of a user with a targeted update,
+     * or upserts the login attempt by the user ID if the user did not have one when it was loaded.
+     *
+     * @param user The user whose login attempt is to be saved.
+     */
+    void saveLoginAttempt(AysUser user);
+
+    /**
+     * Saves only the login attempts of the given users with targeted updates in a single transaction.
+     *
+     * @param users The users whose login attempts are to be saved.
+     */
+    void saveLoginAttempts(List<AysUser> users);
+
 }
@@ -11,13 +11,11 @@ import org.ays.auth.port.AdminRegistrationApplicationSavePort;
 import org.ays.auth.repository.AdminRegistrationApplicationRepository;
 import org.ays.common.model.AysPage;
 import org.ays.common.model.AysPageable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.ays.common.repository.AysPageRepository;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -31,6 +29,8 @@ class AdminRegistrationApplicationAdapter implements AdminRegistrationApplicatio
 
     private final AdminRegistrationApplicationRepository adminRegistrationApplicationRepository;
 
+    private final AysPageRepository pageRepository;
+
 
     private final AdminRegistrationApplicationEntityToDomainMapper adminRegistrationApplicationEntityToDomainMapper = AdminRegistrationApplicationEntityToDomainMapper.initialize();
     private final AdminRegistrationApplicationToEntityMapper adminRegistrationApplicationToEntityMapper = AdminRegistrationApplicationToEntityMapper.initialize();
@@ -47,24 +47,15 @@ class AdminRegistrationApplicationAdapter implements AdminRegistrationApplicatio
     public AysPage<AdminRegistrationApplication> findAll(final AysPageable aysPageable,
                                                          final AdminRegistrationApplicationFilter filter) {
 
-        final Pageable pageable = aysPageable.toPageable();
-
         final Specification<AdminRegistrationApplicationEntity> specification = Optional
                 .ofNullable(filter)
                 .map(AdminRegistrationApplicationFilter::toSpecification)
                 .orElse(Specification.allOf());
 
-        final Page<AdminRegistrationApplicationEntity> applicationEntitiesPage = adminRegistrationApplicationRepository
-                .findAll(specification, pageable);
-
-        final List<AdminRegistrationApplication> registerApplications = adminRegistrationApplicationEntityToDomainMapper
-                .map(applicationEntitiesPage.getContent());
+        final AysPage<AdminRegistrationApplicationEntity> applicationEntitiesPage = pageRepository
+                .findAll(AdminRegistrationApplicationEntity.class, specification, aysPageable, filter);
 
-        return AysPage.of(
-                filter,
-                applicationEntitiesPage,
-                registerApplications
-        );
+        return applicationEntitiesPage.map(adminRegistrationApplicationEntityToDomainMapper::map);
     }
 
     /**
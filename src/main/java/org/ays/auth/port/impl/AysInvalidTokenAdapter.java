@@ -9,17 +9,21 @@ import org.ays.auth.port.AysInvalidTokenDeletePort;
 import org.ays.auth.port.AysInvalidTokenReadPort;
 import org.ays.auth.port.AysInvalidTokenSavePort;
 import org.ays.auth.repository.AysInvalidTokenRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 /**
  * Adapter class that implements read, save, and delete ports for handling {@link AysInvalidToken} entities.
- * This component interacts with the {@link AysInvalidTokenRepository} to perform database operations.
+ * This component interacts with the {@link AysInvalidTokenRepository} to perform database operations,
+ * and with the {@link JdbcTemplate} to insert {@link AysInvalidToken} entities in batches.
  */
 @Component
 @RequiredArgsConstructor
@@ -27,12 +31,19 @@ import java.util.Set;
 class AysInvalidTokenAdapter implements AysInvalidTokenReadPort, AysInvalidTokenSavePort, AysInvalidTokenDeletePort {
 
     private final AysInvalidTokenRepository invalidTokenRepository;
+    private final JdbcTemplate jdbcTemplate;
 
 
     private final AysInvalidTokenEntityToDomainMapper invalidTokenEntityToDomainMapper = AysInvalidTokenEntityToDomainMapper.initialize();
     private final AysInvalidTokenToEntityMapper invalidTokenToEntityMapper = AysInvalidTokenToEntityMapper.initialize();
 
 
+    /**
+     * Maximum number of rows inserted with a single multi-row insert statement.
+     */
+    private static final int INSERT_BATCH_SIZE = 500;
+
+
     /**
      * Retrieves an {@link AysInvalidToken} by its token ID.
      *
@@ -45,8 +56,29 @@ class AysInvalidTokenAdapter implements AysInvalidTokenReadPort, AysInvalidToken
         return invalidTokenEntity.map(invalidTokenEntityToDomainMapper::map);
     }
 
+    /**
+     * Retrieves the {@link AysInvalidToken}s which come after the given created timestamp and ID,
+     * ordered by created timestamp and ID.
+     *
+     * @param createdAt The inclusive lower bound of the created timestamps.
+     * @param id        The exclusive lower bound of the IDs of the {@link AysInvalidToken}s created at exactly {@code createdAt}.
+     * @param limit     The maximum number of {@link AysInvalidToken}s to retrieve.
+     * @return A list of the found {@link AysInvalidToken}s, or an empty list if none are found.
+     */
+    @Override
+    public List<AysInvalidToken> findAllCreatedAfter(final LocalDateTime createdAt, final Long id, final int limit) {
+        final List<AysInvalidTokenEntity> invalidTokenEntities = invalidTokenRepository
+                .findAllCreatedAfter(createdAt, id, Limit.of(limit));
+        return invalidTokenEntityToDomainMapper.map(invalidTokenEntities);
+    }
+
     /**
      * Saves a set of {@link AysInvalidToken} entities to the database.
+     * <p>
+     * Hibernate cannot batch inserts of entities with identity IDs, so the entities are inserted
+     * with multi-row insert statements of at most {@value #INSERT_BATCH_SIZE} rows instead of one insert per token.
+     * The audit fields are filled by {@link AysInvalidTokenEntity#prePersist()} as for any persisted entity.
+     * </p>
      *
      * @param invalidTokens The set of {@link AysInvalidToken} entities to save.
      */
@@ -54,18 +86,51 @@ class AysInvalidTokenAdapter implements AysInvalidTokenReadPort, AysInvalidToken
     @Transactional
     public void saveAll(final Set<AysInvalidToken> invalidTokens) {
         final List<AysInvalidTokenEntity> invalidTokenEntities = invalidTokenToEntityMapper.map(invalidTokens);
-        invalidTokenRepository.saveAll(invalidTokenEntities);
+        invalidTokenEntities.forEach(AysInvalidTokenEntity::prePersist);
+
+        for (int fromIndex = 0; fromIndex < invalidTokenEntities.size(); fromIndex += INSERT_BATCH_SIZE) {
+            final int toIndex = Math.min(fromIndex + INSERT_BATCH_SIZE, invalidTokenEntities.size());
+            this.insertAll(invalidTokenEntities.subList(fromIndex, toIndex));
+        }
+    }
+
+    private void insertAll(final List<AysInvalidTokenEntity> invalidTokenEntities) {
+
+        final StringBuilder sql = new StringBuilder("INSERT INTO AYS_INVALID_TOKEN (TOKEN_ID, CREATED_USER, CREATED_AT) VALUES ");
+        final List<Object> parameters = new ArrayList<>(invalidTokenEntities.size() * 3);
+        for (final AysInvalidTokenEntity invalidTokenEntity : invalidTokenEntities) {
+            if (!parameters.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?)");
+            parameters.add(invalidTokenEntity.getTokenId());
+            parameters.add(invalidTokenEntity.getCreatedUser());
+            parameters.add(invalidTokenEntity.getCreatedAt());
+        }
+
+        jdbcTemplate.update(sql.toString(), parameters.toArray());
     }
 
     /**
-     * Deletes all {@link AysInvalidToken} entities from the database that were created before the specified expiration threshold.
+     * Deletes a chunk of {@link AysInvalidToken} entities from the database that were created before the specified expiration threshold.
+     * <p>
+     * The IDs of the chunk are read in the order of the index on the created timestamp,
+     * and exactly these IDs are deleted with a single bulk delete statement
+     * instead of loading and deleting every entity one by one, so a chunk never deletes more than the limit.
+     * </p>
      *
      * @param expirationThreshold The timestamp threshold before which {@link AysInvalidToken} entities will be deleted.
+     * @param limit               The maximum number of {@link AysInvalidToken} entities to delete.
+     * @return The number of deleted {@link AysInvalidToken} entities.
      */
     @Override
     @Transactional
-    public void deleteAllByCreatedAtBefore(LocalDateTime expirationThreshold) {
-        invalidTokenRepository.deleteAllByCreatedAtBefore(expirationThreshold);
+    public int deleteAllByCreatedAtBefore(final LocalDateTime expirationThreshold, final int limit) {
+        final List<Long> ids = invalidTokenRepository.findAllIdsByCreatedAtBefore(expirationThreshold, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return invalidTokenRepository.deleteAllByIdIn(ids);
     }
 
 }
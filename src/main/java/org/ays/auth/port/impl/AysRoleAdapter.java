@@ -12,8 +12,7 @@ import org.ays.auth.port.AysRoleSavePort;
 import org.ays.auth.repository.AysRoleRepository;
 import org.ays.common.model.AysPage;
 import org.ays.common.model.AysPageable;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.ays.common.repository.AysPageRepository;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +33,8 @@ class AysRoleAdapter implements AysRoleReadPort, AysRoleSavePort {
 
     private final AysRoleRepository roleRepository;
 
+    private final AysPageRepository pageRepository;
+
 
     private final AysRoleToEntityMapper roleToEntityMapper = AysRoleToEntityMapper.initialize();
     private final AysRoleEntityToDomainMapper roleEntityToDomainMapper = AysRoleEntityToDomainMapper.initialize();
@@ -65,15 +66,12 @@ class AysRoleAdapter implements AysRoleReadPort, AysRoleSavePort {
     @Override
     public AysPage<AysRole> findAll(final AysPageable aysPageable, final AysRoleFilter filter) {
 
-        final Pageable pageable = aysPageable.toPageable();
-
         final Specification<AysRoleEntity> specification = filter.toSpecification();
 
-        final Page<AysRoleEntity> roleEntitiesPage = roleRepository.findAll(specification, pageable);
-
-        final List<AysRole> roles = roleEntityToDomainMapper.map(roleEntitiesPage.getContent());
+        final AysPage<AysRoleEntity> roleEntitiesPage = pageRepository
+                .findAll(AysRoleEntity.class, specification, aysPageable, filter);
 
-        return AysPage.of(filter, roleEntitiesPage, roles);
+        return roleEntitiesPage.map(roleEntityToDomainMapper::map);
     }
 
 
@@ -1,6 +1,8 @@
 package org.ays.auth.port.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.ays.auth.model.AysPermission;
+import org.ays.auth.model.AysRole;
 import org.ays.auth.model.AysUser;
 import org.ays.auth.model.AysUserFilter;
 import org.ays.auth.model.entity.AysUserEntity;
@@ -8,17 +10,24 @@ import org.ays.auth.model.mapper.AysUserEntityToDomainMapper;
 import org.ays.auth.model.mapper.AysUserToEntityMapper;
 import org.ays.auth.port.AysUserReadPort;
 import org.ays.auth.port.AysUserSavePort;
+import org.ays.auth.repository.AysUserLoginAttemptRepository;
+import org.ays.auth.repository.AysUserPasswordRepository;
 import org.ays.auth.repository.AysUserRepository;
 import org.ays.common.model.AysPage;
 import org.ays.common.model.AysPageable;
+import org.ays.common.repository.AysPageRepository;
 import org.ays.common.model.AysPhoneNumber;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.ays.common.util.AysRandomUtil;
+import org.ays.institution.model.Institution;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -32,6 +41,10 @@ import java.util.Optional;
 class AysUserAdapter implements AysUserReadPort, AysUserSavePort {
 
     private final AysUserRepository userRepository;
+    private final AysUserPasswordRepository userPasswordRepository;
+    private final AysUserLoginAttemptRepository userLoginAttemptRepository;
+
+    private final AysPageRepository pageRepository;
 
 
     private final AysUserToEntityMapper userToEntityMapper = AysUserToEntityMapper.initialize();
@@ -52,15 +65,12 @@ class AysUserAdapter implements AysUserReadPort, AysUserSavePort {
     @Override
     public AysPage<AysUser> findAll(AysPageable aysPageable, AysUserFilter filter) {
 
-        final Pageable pageable = aysPageable.toPageable();
-
         final Specification<AysUserEntity> specification = filter.toSpecification();
 
-        final Page<AysUserEntity> userEntitysPage = userRepository.findAll(specification, pageable);
+        final AysPage<AysUserEntity> userEntitiesPage = pageRepository
+                .findAll(AysUserEntity.class, specification, aysPageable, filter);
 
-        final List<AysUser> users = userEntityToDomainMapper.map(userEntitysPage.getContent());
-
-        return AysPage.of(filter, userEntitysPage, users);
+        return userEntitiesPage.map(userEntityToDomainMapper::map);
     }
 
 
@@ -90,6 +100,84 @@ class AysUserAdapter implements AysUserReadPort, AysUserSavePort {
     }
 
 
+    /**
+     * Retrieves the fields of an {@link AysUser} which are needed for the login by its email address,
+     * with a single query instead of loading and mapping the whole user entity.
+     * <p>
+     * The rows of the query are grouped by role, so the returned user has its roles with the names of
+     * their permissions, in addition to its identity, status, password, login attempt and the ID and name
+     * of its institution.
+     * </p>
+     *
+     * @param emailAddress The email address of the user to retrieve.
+     * @return An optional containing the {@link AysUser} if found, otherwise empty.
+     */
+    @Override
+    public Optional<AysUser> findForLoginByEmailAddress(final String emailAddress) {
+
+        final List<AysUserRepository.LoginProjection> loginProjections = userRepository
+                .findLoginProjectionsByEmailAddress(emailAddress);
+        if (loginProjections.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final Map<String, List<AysPermission>> permissionsByRoleId = new LinkedHashMap<>();
+        for (final AysUserRepository.LoginProjection loginProjection : loginProjections) {
+
+            if (loginProjection.getRoleId() == null) {
+                continue;
+            }
+
+            final List<AysPermission> permissions = permissionsByRoleId
+                    .computeIfAbsent(loginProjection.getRoleId(), roleId -> new ArrayList<>());
+            if (loginProjection.getPermissionName() != null) {
+                permissions.add(AysPermission.builder().name(loginProjection.getPermissionName()).build());
+            }
+        }
+
+        final List<AysRole> roles = new ArrayList<>(permissionsByRoleId.size());
+        permissionsByRoleId.forEach((roleId, permissions) -> roles.add(
+                AysRole.builder()
+                        .id(roleId)
+                        .permissions(permissions)
+                        .build()
+        ));
+
+        final AysUserRepository.LoginProjection loginProjection = loginProjections.get(0);
+        final AysUser user = AysUser.builder()
+                .id(loginProjection.getId())
+                .emailAddress(loginProjection.getEmailAddress())
+                .firstName(loginProjection.getFirstName())
+                .lastName(loginProjection.getLastName())
+                .status(loginProjection.getStatus())
+                .roles(roles)
+                .build();
+
+        if (loginProjection.getPasswordId() != null) {
+            user.setPassword(AysUser.Password.builder()
+                    .id(loginProjection.getPasswordId())
+                    .value(loginProjection.getPasswordValue())
+                    .build());
+        }
+
+        if (loginProjection.getLoginAttemptId() != null) {
+            user.setLoginAttempt(AysUser.LoginAttempt.builder()
+                    .id(loginProjection.getLoginAttemptId())
+                    .lastLoginAt(loginProjection.getLastLoginAt())
+                    .build());
+        }
+
+        if (loginProjection.getInstitutionId() != null) {
+            user.setInstitution(Institution.builder()
+                    .id(loginProjection.getInstitutionId())
+                    .name(loginProjection.getInstitutionName())
+                    .build());
+        }
+
+        return Optional.of(user);
+    }
+
+
     /**
      * Checks if a user with the given email address exists in the repository.
      *
@@ -170,4 +258,57 @@ class AysUserAdapter implements AysUserReadPort, AysUserSavePort {
         return userEntityToDomainMapper.map(savedUserEntity);
     }
 
+
+    /**
+     * Saves only the value of the given password with a single update statement.
+     *
+     * @param password The password whose value is to be saved.
+     */
+    @Override
+    @Transactional
+    public void savePassword(final AysUser.Password password) {
+        userPasswordRepository.updateValueById(password.getId(), password.getValue(), LocalDateTime.now());
+    }
+
+
+    /**
+     * Saves only the login attempt of the given user.
+     * <p>
+     * An existing login attempt is updated with a single update statement. If the user did not have a login attempt
+     * when it was loaded, the login attempt is upserted on the unique user ID of the login attempts instead of inserted,
+     * because another node or an earlier write of the same user may have inserted it in the meantime.
+     * </p>
+     *
+     * @param user The user whose login attempt is to be saved.
+     */
+    @Override
+    @Transactional
+    public void saveLoginAttempt(final AysUser user) {
+
+        final AysUser.LoginAttempt loginAttempt = user.getLoginAttempt();
+        if (loginAttempt.getId() != null) {
+            userLoginAttemptRepository.updateLastLoginAtById(loginAttempt.getId(), loginAttempt.getLastLoginAt());
+            return;
+        }
+
+        userLoginAttemptRepository.upsertLastLoginAtByUserId(
+                AysRandomUtil.generateUUID(),
+                user.getId(),
+                loginAttempt.getLastLoginAt()
+        );
+    }
+
+
+    /**
+     * Saves only the login attempts of the given users in a single transaction,
+     * in the same way as {@link #saveLoginAttempt(AysUser)}.
+     *
+     * @param users The users whose login attempts are to be saved.
+     */
+    @Override
+    @Transactional
+    public void saveLoginAttempts(final List<AysUser> users) {
+        users.forEach(this::saveLoginAttempt);
+    }
+
 }
@@ -1,9 +1,14 @@
 package org.ays.auth.repository;
 
 import org.ays.auth.model.entity.AysInvalidTokenEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,10 +25,44 @@ public interface AysInvalidTokenRepository extends JpaRepository<AysInvalidToken
     Optional<AysInvalidTokenEntity> findByTokenId(String tokenId);
 
     /**
-     * Finds all invalid token entities that were created before the specified date.
+     * Finds the invalid token entities which come after the specified created date and ID,
+     * ordered by created date and ID.
+     * The range on the created date is served by the index on the created date, whose entries are ordered by ID
+     * for the same created date.
+     *
+     * @param createdAt the inclusive lower bound of the created dates
+     * @param id        the exclusive lower bound of the IDs of the entities created at exactly the specified date
+     * @param limit     the maximum number of entities to return
+     * @return a list of the found invalid token entities
+     */
+    @Query("SELECT invalidToken FROM AysInvalidTokenEntity invalidToken " +
+            "WHERE invalidToken.createdAt >= :createdAt " +
+            "AND (invalidToken.createdAt > :createdAt OR invalidToken.id > :id) " +
+            "ORDER BY invalidToken.createdAt, invalidToken.id")
+    List<AysInvalidTokenEntity> findAllCreatedAfter(LocalDateTime createdAt, Long id, Limit limit);
+
+    /**
+     * Finds the IDs of the invalid token entities that were created before the specified date,
+     * ordered by created date and ID.
+     * The order is the order of the index on the created date, whose entries are ordered by ID for the same created date,
+     * so the IDs are read from the index without sorting them.
      *
      * @param createdAt the date to search for
+     * @param limit     the maximum number of IDs to return
+     * @return a list of the found IDs
+     */
+    @Query("SELECT invalidToken.id FROM AysInvalidTokenEntity invalidToken " +
+            "WHERE invalidToken.createdAt < :createdAt ORDER BY invalidToken.createdAt, invalidToken.id")
+    List<Long> findAllIdsByCreatedAtBefore(LocalDateTime createdAt, Limit limit);
+
+    /**
+     * Deletes the invalid token entities with the specified IDs with a single bulk delete statement.
+     *
+     * @param ids the IDs of the entities to delete
+     * @return the number of deleted entities
      */
-    void deleteAllByCreatedAtBefore(LocalDateTime createdAt);
+    @Modifying
+    @Query("DELETE FROM AysInvalidTokenEntity invalidToken WHERE invalidToken.id IN :ids")
+    int deleteAllByIdIn(Collection<Long> ids);
 
 }
@@ -0,0 +1,48 @@
+package org.ays.auth.repository;
+
+import org.ays.auth.model.entity.AysUserEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for performing CRUD operations and targeted updates on the login attempt entities of users.
+ */
+public interface AysUserLoginAttemptRepository extends JpaRepository<AysUserEntity.LoginAttemptEntity, String> {
+
+    /**
+     * Updates the last login date of the login attempt with the given ID with a single update statement,
+     * without loading the user of the login attempt.
+     *
+     * @param id          the ID of the login attempt
+     * @param lastLoginAt the date of the last login
+     * @return the number of updated login attempts
+     */
+    @Modifying
+    @Query("UPDATE LoginAttemptEntity loginAttempt " +
+            "SET loginAttempt.lastLoginAt = :lastLoginAt, " +
+            "loginAttempt.updatedUser = 'AYS', loginAttempt.updatedAt = :lastLoginAt " +
+            "WHERE loginAttempt.id = :id")
+    int updateLastLoginAtById(String id, LocalDateTime lastLoginAt);
+
+    /**
+     * Inserts the login attempt of the user with the given ID, or updates the last login date of the existing login attempt
+     * of the user, with a single statement on the unique user ID of the login attempts.
+     * The last login date is never moved backwards, so that concurrent writers of the same user keep the latest date.
+     *
+     * @param id          the ID of the login attempt if it is inserted
+     * @param userId      the ID of the user
+     * @param lastLoginAt the date of the last login
+     * @return the number of affected rows, which is 1 for an insert and 2 for an update
+     */
+    @Modifying
+    @Query(value = "INSERT INTO AYS_USER_LOGIN_ATTEMPT (ID, USER_ID, LAST_LOGIN_AT, CREATED_USER, CREATED_AT) " +
+            "VALUES (:id, :userId, :lastLoginAt, 'AYS', :lastLoginAt) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "LAST_LOGIN_AT = GREATEST(COALESCE(LAST_LOGIN_AT, :lastLoginAt), :lastLoginAt), " +
+            "UPDATED_USER = 'AYS', UPDATED_AT = :lastLoginAt", nativeQuery = true)
+    int upsertLastLoginAtByUserId(String id, String userId, LocalDateTime lastLoginAt);
+
+}
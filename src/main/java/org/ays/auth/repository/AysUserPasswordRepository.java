@@ -0,0 +1,30 @@
+package org.ays.auth.repository;
+
+import org.ays.auth.model.entity.AysUserEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for performing targeted updates on the password entities of users.
+ */
+public interface AysUserPasswordRepository extends JpaRepository<AysUserEntity.PasswordEntity, String> {
+
+    /**
+     * Updates the value of the password with the given ID with a single update statement,
+     * without loading the user of the password.
+     *
+     * @param id        the ID of the password
+     * @param value     the new encoded value of the password
+     * @param updatedAt the date of the update
+     * @return the number of updated passwords
+     */
+    @Modifying
+    @Query("UPDATE PasswordEntity password " +
+            "SET password.value = :value, password.updatedUser = 'AYS', password.updatedAt = :updatedAt " +
+            "WHERE password.id = :id")
+    int updateValueById(String id, String value, LocalDateTime updatedAt);
+
+}
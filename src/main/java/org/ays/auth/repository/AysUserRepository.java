@@ -1,9 +1,13 @@
 package org.ays.auth.repository;
 
 import org.ays.auth.model.entity.AysUserEntity;
+import org.ays.auth.model.enums.AysUserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,6 +23,29 @@ public interface AysUserRepository extends JpaRepository<AysUserEntity, String>,
      */
     Optional<AysUserEntity> findByEmailAddress(String emailAddress);
 
+    /**
+     * Finds the fields of a user which are needed to authenticate the user and to build the claims of its tokens,
+     * with a single statement. The user, password, login attempt and institution are joined with the roles and
+     * their permissions, so the result contains one row for each permission of each role of the user.
+     *
+     * @param emailAddress the email address of the user to be found
+     * @return the rows of the user with the given email address, or an empty list if not found
+     */
+    @Query("SELECT aysUser.id AS id, aysUser.emailAddress AS emailAddress, " +
+            "aysUser.firstName AS firstName, aysUser.lastName AS lastName, aysUser.status AS status, " +
+            "password.id AS passwordId, password.value AS passwordValue, " +
+            "loginAttempt.id AS loginAttemptId, loginAttempt.lastLoginAt AS lastLoginAt, " +
+            "institution.id AS institutionId, institution.name AS institutionName, " +
+            "role.id AS roleId, permission.name AS permissionName " +
+            "FROM AysUserEntity aysUser " +
+            "LEFT JOIN aysUser.password password " +
+            "LEFT JOIN aysUser.loginAttempt loginAttempt " +
+            "LEFT JOIN aysUser.institution institution " +
+            "LEFT JOIN aysUser.roles role " +
+            "LEFT JOIN role.permissions permission " +
+            "WHERE aysUser.emailAddress = :emailAddress")
+    List<LoginProjection> findLoginProjectionsByEmailAddress(String emailAddress);
+
     /**
      * Finds a user by their phone number.
      *
@@ -53,4 +80,40 @@ public interface AysUserRepository extends JpaRepository<AysUserEntity, String>,
      */
     boolean existsByCountryCodeAndLineNumber(String countryCode, String lineNumber);
 
+
+    /**
+     * Projection of a user row which contains the fields that are needed to authenticate the user.
+     * A row has one permission of one role of the user, and the role and permission fields are {@code null}
+     * if the user has no roles or the role has no permissions.
+     */
+    interface LoginProjection {
+
+        String getId();
+
+        String getEmailAddress();
+
+        String getFirstName();
+
+        String getLastName();
+
+        AysUserStatus getStatus();
+
+        String getPasswordId();
+
+        String getPasswordValue();
+
+        String getLoginAttemptId();
+
+        LocalDateTime getLastLoginAt();
+
+        String getInstitutionId();
+
+        String getInstitutionName();
+
+        String getRoleId();
+
+        String getPermissionName();
+
+    }
+
 }
@@ -3,13 +3,15 @@ package org.ays.auth.scheduler;
 import lombok.extern.slf4j.Slf4j;
 import org.ays.auth.model.enums.AysConfigurationParameter;
 import org.ays.auth.port.AysInvalidTokenDeletePort;
+import org.ays.common.config.AysSchedulerLock;
 import org.ays.parameter.model.AysParameter;
 import org.ays.parameter.port.AysParameterReadPort;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 /**
@@ -17,7 +19,11 @@ import java.time.LocalDateTime;
  * <p>
  * This component deletes invalid tokens that were created before a specified expiration threshold,
  * as determined by the configured refresh token expiration day parameter. It uses a {@link AysInvalidTokenDeletePort}
- * to perform the deletion operation. The scheduler is enabled if the property
+ * to perform the deletion operation in chunks of `ays.scheduler.invalid-tokens-deletion.chunk-size` tokens,
+ * each in its own short transaction, so that the table is never locked for the whole purge.
+ * When several nodes run the application, only the node which acquires the `INVALID_TOKENS_DELETION` lock
+ * of {@link AysSchedulerLock} deletes the tokens, the other nodes skip the deletion.
+ * The scheduler is enabled if the property
  * `ays.scheduler.invalid-tokens-deletion.enable` is set to `true` in the application properties.
  * </p>
  *
@@ -31,14 +37,28 @@ import java.time.LocalDateTime;
 @ConditionalOnProperty(name = "ays.scheduler.invalid-tokens-deletion.enable", havingValue = "true")
 class AysInvalidTokenDeletionScheduler {
 
+    private static final String LOCK_NAME = "INVALID_TOKENS_DELETION";
+
+    private final int chunkSize;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
     private final AysInvalidTokenDeletePort invalidTokenDeletePort;
     private final AysParameterReadPort parameterReadPort;
+    private final AysSchedulerLock schedulerLock;
 
-    public AysInvalidTokenDeletionScheduler(AysInvalidTokenDeletePort invalidTokenDeletePort,
-                                            AysParameterReadPort parameterReadPort) {
+    public AysInvalidTokenDeletionScheduler(@Value("${ays.scheduler.invalid-tokens-deletion.chunk-size:1000}") int chunkSize,
+                                            @Value("${ays.scheduler.invalid-tokens-deletion.lock-at-most-for:PT30M}") Duration lockAtMostFor,
+                                            @Value("${ays.scheduler.invalid-tokens-deletion.lock-at-least-for:PT1M}") Duration lockAtLeastFor,
+                                            AysInvalidTokenDeletePort invalidTokenDeletePort,
+                                            AysParameterReadPort parameterReadPort,
+                                            AysSchedulerLock schedulerLock) {
 
+        this.chunkSize = chunkSize;
+        this.lockAtMostFor = lockAtMostFor;
+        this.lockAtLeastFor = lockAtLeastFor;
         this.invalidTokenDeletePort = invalidTokenDeletePort;
         this.parameterReadPort = parameterReadPort;
+        this.schedulerLock = schedulerLock;
 
         log.info("InvalidTokenDeletionScheduler is enabled.");
     }
@@ -48,12 +68,17 @@ class AysInvalidTokenDeletionScheduler {
      * <p>
      * This method runs periodically based on the cron expression configured in
      * `ays.scheduler.invalid-tokens-deletion.cron`. It retrieves the expiration threshold from the application parameters,
-     * calculates the threshold date, and deletes all invalid tokens created before that date.
+     * calculates the threshold date, and deletes all invalid tokens created before that date chunk by chunk
+     * while the lease of the scheduler lock is held.
+     * The number of deleted tokens, the number of chunks and the deletion rate are logged once the purge is completed.
      * </p>
      */
-    @Transactional
     @Scheduled(cron = "${ays.scheduler.invalid-tokens-deletion.cron}")
     public void deleteInvalidTokens() {
+        schedulerLock.executeWithLock(LOCK_NAME, lockAtMostFor, lockAtLeastFor, this::deleteInvalidTokens);
+    }
+
+    private void deleteInvalidTokens(final AysSchedulerLock.Lease lease) {
         final AysParameter refreshTokenExpireDayParameter = parameterReadPort
                 .findByName(AysConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY.name())
                 .orElse(AysParameter.from(AysConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY));
@@ -62,8 +87,21 @@ class AysInvalidTokenDeletionScheduler {
                 .minusDays(Long.parseLong(refreshTokenExpireDayParameter.getDefinition()));
 
         log.trace("Clearing all unused invalid tokens created before {}", expirationThreshold);
-        invalidTokenDeletePort.deleteAllByCreatedAtBefore(expirationThreshold);
+
+        final long startTime = System.nanoTime();
+        long deletedCount = 0;
+        int chunkCount = 0;
+        int deletedCountOfChunk;
+        do {
+            deletedCountOfChunk = invalidTokenDeletePort.deleteAllByCreatedAtBefore(expirationThreshold, chunkSize);
+            deletedCount += deletedCountOfChunk;
+            chunkCount++;
+        } while (deletedCountOfChunk == chunkSize && schedulerLock.isHeld(lease));
+
+        final double elapsedSeconds = Math.max(System.nanoTime() - startTime, 1L) / 1_000_000_000.0;
         log.trace("All unused invalid tokens created before {} have been cleared", expirationThreshold);
+        log.info("{} invalid tokens have been deleted in {} chunks with {} rows/second",
+                deletedCount, chunkCount, String.format("%.1f", deletedCount / elapsedSeconds));
     }
 
 }
@@ -0,0 +1,244 @@
+package org.ays.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ays.auth.config.AysTokenConfigurationParameter;
+import org.ays.auth.model.AysInvalidToken;
+import org.ays.auth.port.AysInvalidTokenReadPort;
+import org.ays.common.util.AysUUID;
+import org.ays.common.util.AysUUIDSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Node-local index of invalidated token ids, so that checking a token for invalidity needs no database access.
+ * <p>
+ * The index is loaded from the invalid token table when the application is ready and is kept up to date
+ * by periodically reading the rows which were created since the previous refresh started.
+ * Rows become visible only when their transaction commits, which can be a while after their created timestamp
+ * and in any order of IDs, so every refresh reads again the rows created within
+ * `ays.auth.invalid-token-index.max-commit-lag-millis` before the previous refresh.
+ * This window also covers the clock differences of the nodes which fill the created timestamps.
+ * Rows which are read again are deduplicated by the token id set.
+ * Tokens invalidated on this node are added immediately through {@link #addAll(Set)}.
+ * Entries older than the refresh token lifetime are dropped on every refresh, because such tokens are already expired,
+ * so the memory of the index is bounded in the same way as the table is by the invalid token deletion scheduler.
+ * </p>
+ * <p>
+ * Token ids are stored as 128-bit UUIDs in an {@link AysUUIDSet}.
+ * Until the index is loaded, or for token ids which are not UUIDs, {@link #isResolvable(String)} returns {@code false}
+ * and the caller is expected to fall back to the database.
+ * The index is enabled by default and can be disabled with the `ays.auth.invalid-token-index.enable` property.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AysInvalidTokenIndex {
+
+    private final boolean enabled;
+    private final int chunkSize;
+    private final Duration maxCommitLag;
+
+    private final AysInvalidTokenReadPort invalidTokenReadPort;
+    private final AysTokenConfigurationParameter tokenConfiguration;
+
+    private final AysUUIDSet tokenIds = new AysUUIDSet();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock refreshLock = new ReentrantLock();
+
+    private volatile boolean loaded = false;
+    private LocalDateTime lastRefreshedAt;
+
+    public AysInvalidTokenIndex(@Value("${ays.auth.invalid-token-index.enable:true}") boolean enabled,
+                                @Value("${ays.auth.invalid-token-index.chunk-size:1000}") int chunkSize,
+                                @Value("${ays.auth.invalid-token-index.max-commit-lag-millis:60000}") long maxCommitLagMillis,
+                                AysInvalidTokenReadPort invalidTokenReadPort,
+                                AysTokenConfigurationParameter tokenConfiguration) {
+
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.maxCommitLag = Duration.ofMillis(maxCommitLagMillis);
+        this.invalidTokenReadPort = invalidTokenReadPort;
+        this.tokenConfiguration = tokenConfiguration;
+    }
+
+
+    /**
+     * Loads the index from the invalid token table once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+
+        if (!this.enabled) {
+            return;
+        }
+
+        log.info("Invalid token index is loading...");
+        this.refresh();
+        log.info("Invalid token index is loaded with {} token ids.", this.size());
+    }
+
+    /**
+     * Reads the invalid tokens which were created since the previous refresh, including the commit lag window,
+     * and drops the entries which are older than the refresh token lifetime.
+     * The index is marked as loaded after its first successful refresh.
+     */
+    @Scheduled(fixedDelayString = "${ays.auth.invalid-token-index.refresh-delay-millis:5000}")
+    public void refresh() {
+
+        if (!this.enabled) {
+            return;
+        }
+
+        this.refreshLock.lock();
+        try {
+            this.readInvalidTokens();
+            this.loaded = true;
+        } finally {
+            this.refreshLock.unlock();
+        }
+    }
+
+    private void readInvalidTokens() {
+
+        final LocalDateTime refreshStartedAt = LocalDateTime.now();
+        final LocalDateTime expirationDate = refreshStartedAt
+                .minusDays(tokenConfiguration.getRefreshTokenExpireDay());
+        final long expirationThreshold = toEpochSecond(expirationDate);
+
+        LocalDateTime fromCreatedAt = expirationDate;
+        if (this.lastRefreshedAt != null && this.lastRefreshedAt.minus(this.maxCommitLag).isAfter(expirationDate)) {
+            fromCreatedAt = this.lastRefreshedAt.minus(this.maxCommitLag);
+        }
+
+        long fromId = 0L;
+        List<AysInvalidToken> invalidTokens;
+        do {
+            invalidTokens = invalidTokenReadPort.findAllCreatedAfter(fromCreatedAt, fromId, this.chunkSize);
+            this.addAll(invalidTokens, expirationThreshold);
+
+            if (!invalidTokens.isEmpty()) {
+                final AysInvalidToken lastInvalidToken = invalidTokens.get(invalidTokens.size() - 1);
+                fromCreatedAt = lastInvalidToken.getCreatedAt();
+                fromId = lastInvalidToken.getId();
+            }
+        } while (invalidTokens.size() == this.chunkSize);
+
+        this.lastRefreshedAt = refreshStartedAt;
+
+        this.lock.writeLock().lock();
+        try {
+            final int removedCount = this.tokenIds.removeAllAddedBefore(expirationThreshold);
+            if (removedCount > 0) {
+                log.trace("{} expired token ids have been removed from the invalid token index", removedCount);
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the given token ids, which were invalidated on this node, to the index.
+     *
+     * @param tokenIds the invalidated token ids
+     */
+    public void addAll(final Set<String> tokenIds) {
+
+        if (!this.enabled) {
+            return;
+        }
+
+        final long now = Instant.now().getEpochSecond();
+        this.lock.writeLock().lock();
+        try {
+            tokenIds.stream()
+                    .filter(AysInvalidTokenIndex::isUUID)
+                    .forEach(tokenId -> this.tokenIds.add(UUID.fromString(tokenId), now));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether the index is able to answer for the given token id,
+     * that is the index is enabled and loaded and the token id is a UUID.
+     *
+     * @param tokenId the token id to check
+     * @return {@code true} if {@link #contains(String)} can be used for the token id
+     */
+    public boolean isResolvable(final String tokenId) {
+        return this.enabled && this.loaded && isUUID(tokenId);
+    }
+
+    /**
+     * Checks whether the given token id is invalidated.
+     * Must only be called for token ids for which {@link #isResolvable(String)} returns {@code true}.
+     *
+     * @param tokenId the token id to check
+     * @return {@code true} if the token id is invalidated
+     */
+    public boolean contains(final String tokenId) {
+        final UUID uuid = UUID.fromString(tokenId);
+        this.lock.readLock().lock();
+        try {
+            return this.tokenIds.contains(uuid);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of token ids in the index.
+     *
+     * @return the size of the index
+     */
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.tokenIds.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+
+    private void addAll(final List<AysInvalidToken> invalidTokens, final long expirationThreshold) {
+        this.lock.writeLock().lock();
+        try {
+            invalidTokens.forEach(invalidToken -> {
+                final long createdAt = toEpochSecond(invalidToken.getCreatedAt());
+                if (createdAt >= expirationThreshold && isUUID(invalidToken.getTokenId())) {
+                    this.tokenIds.add(UUID.fromString(invalidToken.getTokenId()), createdAt);
+                }
+            });
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private static long toEpochSecond(final LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return Instant.now().getEpochSecond();
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static boolean isUUID(final String tokenId) {
+        return tokenId != null && tokenId.length() == 36 && AysUUID.isValid(tokenId);
+    }
+
+}
@@ -0,0 +1,151 @@
+package org.ays.auth.security;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.ays.auth.model.AysAuthoritySet;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Method security expression handler which evaluates the `hasAuthority` and `hasAnyAuthority` checks of
+ * {@code @PreAuthorize} annotations with the {@link AysAuthoritySet} of the authentication.
+ * <p>
+ * The default expression root copies the authorities of the authentication into a new set on every evaluation.
+ * The root of this handler looks the authorities up in the interned {@link AysAuthoritySet} instead,
+ * and delegates every other expression to the default root.
+ * Authentications whose authorities are not an {@link AysAuthoritySet} are evaluated by the default root as well.
+ * </p>
+ */
+public class AysMethodSecurityExpressionHandler extends DefaultMethodSecurityExpressionHandler {
+
+    @Override
+    public EvaluationContext createEvaluationContext(final Supplier<Authentication> authentication,
+                                                     final MethodInvocation invocation) {
+
+        final StandardEvaluationContext context = (StandardEvaluationContext) super.createEvaluationContext(authentication, invocation);
+        final MethodSecurityExpressionOperations root = (MethodSecurityExpressionOperations) context.getRootObject().getValue();
+        context.setRootObject(new AuthoritySetExpressionRoot(root));
+        return context;
+    }
+
+
+    /**
+     * Expression root which checks authorities against the {@link AysAuthoritySet} of the authentication.
+     */
+    static final class AuthoritySetExpressionRoot implements MethodSecurityExpressionOperations {
+
+        private final MethodSecurityExpressionOperations delegate;
+
+        AuthoritySetExpressionRoot(final MethodSecurityExpressionOperations delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean hasAuthority(final String authority) {
+
+            final Collection<? extends GrantedAuthority> authorities = this.getAuthentication().getAuthorities();
+            if (authorities instanceof AysAuthoritySet authoritySet) {
+                return authoritySet.hasAuthority(authority);
+            }
+            return this.delegate.hasAuthority(authority);
+        }
+
+        @Override
+        public boolean hasAnyAuthority(final String... authorities) {
+
+            final Collection<? extends GrantedAuthority> grantedAuthorities = this.getAuthentication().getAuthorities();
+            if (grantedAuthorities instanceof AysAuthoritySet authoritySet) {
+                return authoritySet.hasAnyAuthority(authorities);
+            }
+            return this.delegate.hasAnyAuthority(authorities);
+        }
+
+        @Override
+        public Authentication getAuthentication() {
+            return this.delegate.getAuthentication();
+        }
+
+        @Override
+        public boolean hasRole(final String role) {
+            return this.delegate.hasRole(role);
+        }
+
+        @Override
+        public boolean hasAnyRole(final String... roles) {
+            return this.delegate.hasAnyRole(roles);
+        }
+
+        @Override
+        public boolean permitAll() {
+            return this.delegate.permitAll();
+        }
+
+        @Override
+        public boolean denyAll() {
+            return this.delegate.denyAll();
+        }
+
+        @Override
+        public boolean isAnonymous() {
+            return this.delegate.isAnonymous();
+        }
+
+        @Override
+        public boolean isAuthenticated() {
+            return this.delegate.isAuthenticated();
+        }
+
+        @Override
+        public boolean isRememberMe() {
+            return this.delegate.isRememberMe();
+        }
+
+        @Override
+        public boolean isFullyAuthenticated() {
+            return this.delegate.isFullyAuthenticated();
+        }
+
+        @Override
+        public boolean hasPermission(final Object target, final Object permission) {
+            return this.delegate.hasPermission(target, permission);
+        }
+
+        @Override
+        public boolean hasPermission(final Object targetId, final String targetType, final Object permission) {
+            return this.delegate.hasPermission(targetId, targetType, permission);
+        }
+
+        @Override
+        public void setFilterObject(final Object filterObject) {
+            this.delegate.setFilterObject(filterObject);
+        }
+
+        @Override
+        public Object getFilterObject() {
+            return this.delegate.getFilterObject();
+        }
+
+        @Override
+        public void setReturnObject(final Object returnObject) {
+            this.delegate.setReturnObject(returnObject);
+        }
+
+        @Override
+        public Object getReturnObject() {
+            return this.delegate.getReturnObject();
+        }
+
+        @Override
+        public Object getThis() {
+            return this.delegate.getThis();
+        }
+
+    }
+
+}
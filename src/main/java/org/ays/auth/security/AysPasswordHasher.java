@@ -0,0 +1,134 @@
+package org.ays.auth.security;
+
+import jakarta.annotation.PreDestroy;
+import org.ays.auth.util.exception.AysPasswordHashingSaturatedException;
+import org.ays.common.util.AysRandomUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hashes and verifies passwords with the {@link PasswordEncoder} on a bounded pool of hashing threads.
+ * <p>
+ * Password hashing is deliberately expensive, so bursts of logins would otherwise occupy every servlet thread
+ * with hashing. The number of hashing threads and the number of waiting hashing tasks are limited by the
+ * `ays.auth.password-hashing.pool-size` and `ays.auth.password-hashing.queue-capacity` properties,
+ * and a task which does not fit into the queue is rejected with {@link AysPasswordHashingSaturatedException}
+ * instead of waiting for a thread.
+ * </p>
+ * <p>
+ * Passwords of unknown users are verified against a dummy hash, so that the response time does not reveal
+ * whether a user exists.
+ * </p>
+ */
+@Component
+public class AysPasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ThreadPoolExecutor executor;
+
+    private final String dummyEncodedPassword;
+
+    public AysPasswordHasher(PasswordEncoder passwordEncoder,
+                             @Value("${ays.auth.password-hashing.pool-size:4}") int poolSize,
+                             @Value("${ays.auth.password-hashing.queue-capacity:64}") int queueCapacity) {
+
+        this.passwordEncoder = passwordEncoder;
+
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ays-password-hashing-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.dummyEncodedPassword = passwordEncoder.encode(AysRandomUtil.generateUUID());
+    }
+
+
+    /**
+     * Verifies the raw password against the encoded password on a hashing thread.
+     * If there is no encoded password, the raw password is verified against a dummy hash and never matches.
+     *
+     * @param rawPassword     the raw password of the request
+     * @param encodedPassword the encoded password of the user, or {@code null} if the user does not exist
+     * @return {@code true} if the raw password matches the encoded password
+     * @throws AysPasswordHashingSaturatedException if all hashing threads are busy and the queue is full
+     */
+    public boolean matches(final String rawPassword, final String encodedPassword) {
+
+        if (encodedPassword == null) {
+            this.execute(() -> passwordEncoder.matches(rawPassword, dummyEncodedPassword));
+            return false;
+        }
+
+        return this.execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Encodes the raw password on a hashing thread.
+     *
+     * @param rawPassword the raw password to encode
+     * @return the encoded password
+     * @throws AysPasswordHashingSaturatedException if all hashing threads are busy and the queue is full
+     */
+    public String encode(final String rawPassword) {
+        return this.execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks whether the encoded password should be encoded again,
+     * because it has been encoded with another encoder or with a lower cost than the current one.
+     *
+     * @param encodedPassword the encoded password of the user
+     * @return {@code true} if the password should be encoded again
+     */
+    public boolean upgradeEncoding(final String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+
+    private <T> T execute(final Callable<T> task) {
+
+        final Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException exception) {
+            throw new AysPasswordHashingSaturatedException();
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("password hashing is interrupted!", exception);
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+}
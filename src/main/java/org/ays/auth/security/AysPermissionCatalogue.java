@@ -0,0 +1,255 @@
+package org.ays.auth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ays.auth.model.AysAuthoritySet;
+import org.ays.auth.model.AysPermission;
+import org.ays.auth.port.AysPermissionReadPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Versioned catalogue of the permissions in the `AYS_PERMISSION` table, which encodes the permission names of a token
+ * into a compact bitmap claim and decodes the claim back into an {@link AysAuthoritySet}.
+ * <p>
+ * The catalogue orders the permissions by name, and the bit at the index of a permission is set if it is granted.
+ * A bitmap claim is written as `version:bitmap`. The version is derived from the permission names of the catalogue,
+ * so every node reading the same table computes the same version without any coordination,
+ * and the bitmap is the base64url encoded bytes of the bits.
+ * </p>
+ * <p>
+ * The catalogue is loaded on first use. When a token has a version which is unknown to this node,
+ * for example because the permissions have changed during a rolling deployment, the catalogue is loaded again,
+ * at most once per {@link #RELOAD_INTERVAL}. Catalogues which were loaded before are kept,
+ * so tokens of a previous version can still be decoded until the node restarts.
+ * Permission names which are not in the catalogue cannot be encoded, and such tokens keep the permission name list.
+ * The bitmap claim is disabled by default and can be enabled with the `ays.auth.permission-bitmap.enable` property.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AysPermissionCatalogue {
+
+    /**
+     * Minimum interval between two loads of the catalogue which are triggered by unknown versions or permission names.
+     */
+    private static final Duration RELOAD_INTERVAL = Duration.ofMinutes(1);
+
+    private static final String VERSION_SEPARATOR = ":";
+
+    private final boolean enabled;
+
+    private final AysPermissionReadPort permissionReadPort;
+
+    private final Lock loadLock = new ReentrantLock();
+    private final Map<String, Catalogue> cataloguesByVersion = new ConcurrentHashMap<>();
+
+    private volatile Catalogue currentCatalogue;
+    private volatile Instant lastLoadedAt = Instant.EPOCH;
+
+    public AysPermissionCatalogue(@Value("${ays.auth.permission-bitmap.enable:false}") boolean enabled,
+                                  AysPermissionReadPort permissionReadPort) {
+
+        this.enabled = enabled;
+        this.permissionReadPort = permissionReadPort;
+    }
+
+
+    /**
+     * Checks whether the permission names of new tokens are encoded as a bitmap claim.
+     *
+     * @return {@code true} if the bitmap claim is enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Encodes the given permission names into a bitmap claim of the current catalogue.
+     *
+     * @param permissionNames the permission names of a token
+     * @return the bitmap claim, or empty if a permission name is not in the catalogue
+     */
+    public Optional<String> encode(final List<String> permissionNames) {
+
+        Catalogue catalogue = this.getCurrentCatalogue();
+        if (!catalogue.containsAll(permissionNames) && this.reload()) {
+            catalogue = this.getCurrentCatalogue();
+        }
+
+        if (!catalogue.containsAll(permissionNames)) {
+            log.warn("Permissions are not in the permission catalogue {}, token keeps the permission names", catalogue.version);
+            return Optional.empty();
+        }
+
+        return Optional.of(catalogue.version + VERSION_SEPARATOR + catalogue.encode(permissionNames));
+    }
+
+    /**
+     * Decodes the given bitmap claim into the interned {@link AysAuthoritySet} of its permissions.
+     *
+     * @param permissionBitmap the bitmap claim of a verified token
+     * @return the authority set, or empty if the claim is malformed or its version is unknown
+     */
+    public Optional<AysAuthoritySet> decode(final String permissionBitmap) {
+
+        final int separatorIndex = permissionBitmap.indexOf(VERSION_SEPARATOR);
+        if (separatorIndex < 0) {
+            return Optional.empty();
+        }
+
+        final String version = permissionBitmap.substring(0, separatorIndex);
+        Catalogue catalogue = this.cataloguesByVersion.get(version);
+        if (catalogue == null) {
+            this.getCurrentCatalogue();
+            catalogue = this.cataloguesByVersion.get(version);
+        }
+        if (catalogue == null && this.reload()) {
+            catalogue = this.cataloguesByVersion.get(version);
+        }
+        if (catalogue == null) {
+            return Optional.empty();
+        }
+
+        return catalogue.decode(permissionBitmap.substring(separatorIndex + 1))
+                .map(AysAuthoritySet::of);
+    }
+
+
+    private Catalogue getCurrentCatalogue() {
+
+        final Catalogue catalogue = this.currentCatalogue;
+        if (catalogue != null) {
+            return catalogue;
+        }
+
+        this.loadLock.lock();
+        try {
+            if (this.currentCatalogue == null) {
+                this.load();
+            }
+            return this.currentCatalogue;
+        } finally {
+            this.loadLock.unlock();
+        }
+    }
+
+    /**
+     * Loads the catalogue again, unless it has been loaded within the {@link #RELOAD_INTERVAL}.
+     *
+     * @return {@code true} if the catalogue has been loaded
+     */
+    private boolean reload() {
+
+        this.loadLock.lock();
+        try {
+            if (Instant.now().isBefore(this.lastLoadedAt.plus(RELOAD_INTERVAL))) {
+                return false;
+            }
+            this.load();
+            return true;
+        } finally {
+            this.loadLock.unlock();
+        }
+    }
+
+    private void load() {
+
+        final List<String> permissionNames = new ArrayList<>();
+        permissionReadPort.findAll().stream()
+                .map(AysPermission::getName)
+                .sorted()
+                .forEach(permissionNames::add);
+
+        final Catalogue catalogue = new Catalogue(permissionNames);
+        this.cataloguesByVersion.putIfAbsent(catalogue.version, catalogue);
+        this.currentCatalogue = this.cataloguesByVersion.get(catalogue.version);
+        this.lastLoadedAt = Instant.now();
+
+        log.info("Permission catalogue {} is loaded with {} permissions.", catalogue.version, permissionNames.size());
+    }
+
+
+    /**
+     * An immutable catalogue of permission names ordered by name, identified by the version derived from the names.
+     */
+    private static final class Catalogue {
+
+        private final String version;
+        private final List<String> permissionNames;
+        private final Map<String, Integer> indexesByPermissionName;
+
+        private Catalogue(final List<String> permissionNames) {
+
+            this.permissionNames = List.copyOf(permissionNames);
+
+            final Map<String, Integer> indexes = new HashMap<>();
+            for (int index = 0; index < this.permissionNames.size(); index++) {
+                indexes.put(this.permissionNames.get(index), index);
+            }
+            this.indexesByPermissionName = Map.copyOf(indexes);
+
+            this.version = generateVersion(this.permissionNames);
+        }
+
+        private boolean containsAll(final List<String> permissionNames) {
+            return this.indexesByPermissionName.keySet().containsAll(permissionNames);
+        }
+
+        private String encode(final List<String> permissionNames) {
+
+            final BitSet bits = new BitSet(this.permissionNames.size());
+            permissionNames.forEach(permissionName -> bits.set(this.indexesByPermissionName.get(permissionName)));
+
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bits.toByteArray());
+        }
+
+        private Optional<List<String>> decode(final String bitmap) {
+
+            final BitSet bits;
+            try {
+                bits = BitSet.valueOf(Base64.getUrlDecoder().decode(bitmap));
+            } catch (IllegalArgumentException exception) {
+                return Optional.empty();
+            }
+
+            if (bits.length() > this.permissionNames.size()) {
+                return Optional.empty();
+            }
+
+            final List<String> permissionNames = new ArrayList<>(bits.cardinality());
+            for (int index = bits.nextSetBit(0); index >= 0; index = bits.nextSetBit(index + 1)) {
+                permissionNames.add(this.permissionNames.get(index));
+            }
+            return Optional.of(permissionNames);
+        }
+
+        private static String generateVersion(final List<String> permissionNames) {
+            try {
+                final byte[] digest = MessageDigest.getInstance("SHA-256")
+                        .digest(String.join("\n", permissionNames).getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest, 0, 4);
+            } catch (NoSuchAlgorithmException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+package org.ays.auth.security;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.SignatureException;
+import org.ays.auth.config.AysTokenConfigurationParameter;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.PublicKey;
+
+/**
+ * Signs and verifies tokens with the keys of the current {@link AysTokenConfigurationParameter.Snapshot},
+ * using a {@link JwtParser} which is built once instead of on every token verification.
+ * <p>
+ * Tokens are signed with the current private key and signature algorithm, and carry the key id in the `kid` header.
+ * The parser selects the verification key by that key id from the current snapshot, so after a key rotation
+ * tokens signed with the previous keys are still verified without rebuilding the parser.
+ * A token is only verified if its `alg` header is the algorithm of its key pair,
+ * so tokens signed with any other algorithm are rejected.
+ * </p>
+ */
+@Component
+public class AysTokenEngine {
+
+    private final AysTokenConfigurationParameter tokenConfiguration;
+    private final JwtParser parser;
+
+    public AysTokenEngine(AysTokenConfigurationParameter tokenConfiguration) {
+
+        this.tokenConfiguration = tokenConfiguration;
+        this.parser = Jwts.parser()
+                .keyLocator(new VerificationKeyLocator())
+                .build();
+    }
+
+
+    /**
+     * Returns a new {@link JwtBuilder} which signs with the current private key and signature algorithm,
+     * and sets the key id as the `kid` header.
+     * A builder holds the state of a single token, so a new one is returned on every call.
+     *
+     * @return a {@link JwtBuilder} configured with the current signing key
+     */
+    public JwtBuilder builder() {
+
+        final AysTokenConfigurationParameter.Snapshot snapshot = tokenConfiguration.getSnapshot();
+
+        return Jwts.builder()
+                .header()
+                .keyId(snapshot.getKeyId())
+                .and()
+                .signWith(snapshot.getPrivateKey(), snapshot.getSignatureAlgorithm().getAlgorithm());
+    }
+
+    /**
+     * Returns the prebuilt, thread-safe {@link JwtParser} which verifies with the public key selected by the `kid`
+     * and `alg` headers.
+     *
+     * @return the {@link JwtParser}
+     */
+    public JwtParser getParser() {
+        return this.parser;
+    }
+
+
+    /**
+     * Returns whether the public key selected by the `kid` and `alg` headers of an already verified token
+     * is still in the current snapshot, so a token whose key has been retired is not accepted without verifying it again.
+     *
+     * @param header the header of the verified token
+     * @return {@code true} if the token would still be verified with a public key of the current snapshot
+     */
+    public boolean hasVerificationKey(final ProtectedHeader header) {
+        return tokenConfiguration.getSnapshot()
+                .getVerificationKey(header.getKeyId(), header.getAlgorithm()) != null;
+    }
+
+
+    /**
+     * Locates the public key of a token by its key id and algorithm in the current snapshot.
+     */
+    private final class VerificationKeyLocator extends LocatorAdapter<Key> {
+
+        @Override
+        protected Key locate(final ProtectedHeader header) {
+
+            final PublicKey publicKey = tokenConfiguration.getSnapshot()
+                    .getVerificationKey(header.getKeyId(), header.getAlgorithm());
+
+            if (publicKey == null) {
+                throw new SignatureException(
+                        "Token key id " + header.getKeyId() + " with algorithm " + header.getAlgorithm() + " is not valid"
+                );
+            }
+
+            return publicKey;
+        }
+
+    }
+
+}
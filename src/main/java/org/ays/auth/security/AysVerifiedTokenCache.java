@@ -0,0 +1,195 @@
+package org.ays.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.ays.auth.model.AysVerifiedToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Size-bounded cache of already verified tokens.
+ * <p>
+ * Clients reuse the same access token until it expires, so verifying the signature of an identical token
+ * on every request is wasted work. This cache keeps the {@link AysVerifiedToken} of a token, including its built
+ * authentication, keyed by the SHA-256 hash of the compact JWT.
+ * </p>
+ * <p>
+ * The entries are kept in a Caffeine cache, which is bounded by the `ays.auth.verified-token-cache.maximum-size`
+ * property and evicts its entries in amortized constant time. An entry expires at the expiration time of its token
+ * and is evicted when the token is invalidated through {@link #evict(Set)}.
+ * The cache is disabled by default and can be enabled with the `ays.auth.verified-token-cache.enable` property.
+ * Hit, miss and eviction counts are published as metrics.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AysVerifiedTokenCache {
+
+    private final boolean enabled;
+
+    private final Cache<String, AysVerifiedToken> verifiedTokens;
+    private final Map<String, String> keysByTokenId = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public AysVerifiedTokenCache(@Value("${ays.auth.verified-token-cache.enable:false}") boolean enabled,
+                                 @Value("${ays.auth.verified-token-cache.maximum-size:10000}") int maximumSize,
+                                 MeterRegistry meterRegistry) {
+
+        this.enabled = enabled;
+
+        this.hitCounter = Counter.builder("ays.auth.verified-token-cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("ays.auth.verified-token-cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("ays.auth.verified-token-cache.evictions")
+                .register(meterRegistry);
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .executor(Runnable::run)
+                .removalListener(this::onRemoval)
+                .build();
+        Gauge.builder("ays.auth.verified-token-cache.size", verifiedTokens, Cache::estimatedSize)
+                .register(meterRegistry);
+
+        if (enabled) {
+            log.info("Verified token cache is enabled with maximum size of {}.", maximumSize);
+        }
+    }
+
+
+    /**
+     * Returns the verified token of the given JWT if it is cached and not expired.
+     *
+     * @param jwt the compact JWT
+     * @return the cached {@link AysVerifiedToken}, or {@code null} if the cache is disabled or the token is not cached
+     */
+    public AysVerifiedToken get(final String jwt) {
+
+        if (!this.enabled) {
+            return null;
+        }
+
+        final String key = this.hash(jwt);
+        final AysVerifiedToken verifiedToken = this.verifiedTokens.getIfPresent(key);
+        if (verifiedToken == null || !verifiedToken.getValue().equals(jwt)) {
+            this.missCounter.increment();
+            return null;
+        }
+
+        this.hitCounter.increment();
+        return verifiedToken;
+    }
+
+    /**
+     * Caches the given verified token, unless it has already expired.
+     * If the cache is full, another entry is evicted by the cache.
+     *
+     * @param verifiedToken the {@link AysVerifiedToken} to cache
+     */
+    public void put(final AysVerifiedToken verifiedToken) {
+
+        if (!this.enabled) {
+            return;
+        }
+
+        if (!Instant.now().isBefore(verifiedToken.getExpiresAt())) {
+            return;
+        }
+
+        final String key = this.hash(verifiedToken.getValue());
+        this.keysByTokenId.put(verifiedToken.getId(), key);
+        this.verifiedTokens.put(key, verifiedToken);
+    }
+
+    /**
+     * Evicts the cached verified tokens of the given token ids.
+     *
+     * @param tokenIds the ids of the tokens to evict
+     */
+    public void evict(final Set<String> tokenIds) {
+
+        if (!this.enabled) {
+            return;
+        }
+
+        tokenIds.forEach(tokenId -> {
+            final String key = this.keysByTokenId.get(tokenId);
+            if (key != null) {
+                this.verifiedTokens.invalidate(key);
+            }
+        });
+    }
+
+
+    private void onRemoval(final String key, final AysVerifiedToken verifiedToken, final RemovalCause cause) {
+
+        if (cause == RemovalCause.REPLACED) {
+            return;
+        }
+
+        this.keysByTokenId.remove(verifiedToken.getId(), key);
+        this.evictionCounter.increment();
+    }
+
+    private String hash(final String jwt) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(jwt.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Expires an entry at the expiration time of its token. Reading or replacing an entry does not change it.
+     */
+    private static final class TokenExpiry implements Expiry<String, AysVerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(final String key, final AysVerifiedToken verifiedToken, final long currentTime) {
+            return Duration.between(Instant.now(), verifiedToken.getExpiresAt()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key,
+                                      final AysVerifiedToken verifiedToken,
+                                      final long currentTime,
+                                      final long currentDuration) {
+            return this.expireAfterCreate(key, verifiedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key,
+                                    final AysVerifiedToken verifiedToken,
+                                    final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
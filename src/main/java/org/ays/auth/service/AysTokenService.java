@@ -2,12 +2,11 @@ package org.ays.auth.service;
 
 import io.jsonwebtoken.Claims;
 import org.ays.auth.model.AysToken;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.ays.auth.model.AysVerifiedToken;
 
 /**
  * Provides services for generating, validating, and processing JSON Web Tokens (JWTs) in the AYS system.
- * This interface defines methods for generating tokens with claims, verifying and validating tokens,
- * extracting payloads, and obtaining authentication information from tokens.
+ * This interface defines methods for generating tokens with claims and verifying and validating tokens.
  * <p>
  * Implementations should ensure secure handling of JWTs and compliance with AYS security requirements.
  */
@@ -34,28 +33,12 @@ public interface AysTokenService {
 
     /**
      * Verifies and validates the given JWT.
-     * This method checks the JWT's signature, expiration, and other validity criteria.
+     * This method checks the JWT's signature, expiration, and other validity criteria
+     * and returns the parsed header, claims and authorities of the JWT in a single object.
      *
      * @param jwt the JWT as a {@link String} to be verified and validated
+     * @return an {@link AysVerifiedToken} containing the parsed content of the JWT
      */
-    void verifyAndValidate(String jwt);
-
-    /**
-     * Extracts the payload (claims) from the given JWT.
-     * This method returns the claims contained within the JWT.
-     *
-     * @param jwt the JWT as a {@link String} from which the payload will be extracted
-     * @return the {@link Claims} extracted from the JWT
-     */
-    Claims getPayload(String jwt);
-
-    /**
-     * Retrieves an authentication object from the given JWT.
-     * This method creates an {@link UsernamePasswordAuthenticationToken} based on the claims in the JWT.
-     *
-     * @param jwt the JWT as a {@link String} from which the authentication will be extracted
-     * @return a {@link UsernamePasswordAuthenticationToken} containing authentication information
-     */
-    UsernamePasswordAuthenticationToken getAuthentication(String jwt);
+    AysVerifiedToken verifyAndValidate(String jwt);
 
 }
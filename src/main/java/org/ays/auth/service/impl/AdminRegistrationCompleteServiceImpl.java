@@ -17,12 +17,12 @@ import org.ays.auth.port.AysRoleReadPort;
 import org.ays.auth.port.AysRoleSavePort;
 import org.ays.auth.port.AysUserReadPort;
 import org.ays.auth.port.AysUserSavePort;
+import org.ays.auth.security.AysPasswordHasher;
 import org.ays.auth.service.AdminRegistrationCompleteService;
 import org.ays.auth.util.exception.AysAdminRegistrationApplicationNotExistByIdException;
 import org.ays.auth.util.exception.AysUserAlreadyExistsByEmailAddressException;
 import org.ays.auth.util.exception.AysUserAlreadyExistsByPhoneNumberException;
 import org.ays.institution.model.Institution;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,7 +47,7 @@ class AdminRegistrationCompleteServiceImpl implements AdminRegistrationCompleteS
     private final AysRoleReadPort roleReadPort;
     private final AysPermissionReadPort permissionReadPort;
 
-    private final PasswordEncoder passwordEncoder;
+    private final AysPasswordHasher passwordHasher;
 
     private final AdminRegistrationApplicationCompleteRequestToUserMapper adminRegistrationApplicationCompleteRequestToUserMapper = AdminRegistrationApplicationCompleteRequestToUserMapper.initialize();
 
@@ -90,7 +90,7 @@ class AdminRegistrationCompleteServiceImpl implements AdminRegistrationCompleteS
 
         this.setAdminRole(user, application.getInstitution());
 
-        final String encodedPassword = passwordEncoder.encode(user.getPassword().getValue());
+        final String encodedPassword = passwordHasher.encode(user.getPassword().getValue());
         user.getPassword().setValue(encodedPassword);
 
         final AysUser savedUser = userSavePort.save(user);
@@ -2,24 +2,27 @@ package org.ays.auth.service.impl;
 
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.ays.auth.model.AysIdentity;
 import org.ays.auth.model.AysRole;
 import org.ays.auth.model.AysToken;
 import org.ays.auth.model.AysUser;
+import org.ays.auth.model.AysVerifiedToken;
 import org.ays.auth.model.enums.AysSourcePage;
 import org.ays.auth.model.enums.AysTokenClaims;
 import org.ays.auth.model.request.AysLoginRequest;
 import org.ays.auth.port.AysUserReadPort;
 import org.ays.auth.port.AysUserSavePort;
+import org.ays.auth.security.AysPasswordHasher;
 import org.ays.auth.service.AysAuthService;
 import org.ays.auth.service.AysInvalidTokenService;
 import org.ays.auth.service.AysTokenService;
 import org.ays.auth.util.exception.AysEmailAddressNotValidException;
+import org.ays.auth.util.exception.AysPasswordHashingSaturatedException;
 import org.ays.auth.util.exception.AysPasswordNotValidException;
 import org.ays.auth.util.exception.AysUserDoesNotAccessPageException;
 import org.ays.auth.util.exception.AysUserIdNotValidException;
 import org.ays.auth.util.exception.AysUserNotActiveException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +40,7 @@ import java.util.Set;
  * It interacts with user repositories, password encoders, token services, and identity services to authenticate users,
  * generate access tokens, and refresh access tokens securely.
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -44,21 +48,25 @@ class AysAuthServiceImpl implements AysAuthService {
 
     private final AysUserReadPort userReadPort;
     private final AysUserSavePort userSavePort;
-    private final PasswordEncoder passwordEncoder;
+    private final AysPasswordHasher passwordHasher;
 
     private final AysTokenService tokenService;
     private final AysInvalidTokenService invalidTokenService;
 
     private final AysIdentity identity;
 
+    private final AysLoginAttemptRecorder loginAttemptRecorder;
+
     /**
      * Authenticates a user based on the provided login request.
      *
      * <p>
-     * This method retrieves the user entity associated with the provided email address from the repository.
-     * It then verifies the password against the encoded password stored in the database. If the password
-     * is valid, it proceeds to validate the user's status and permissions for the requested source page.
-     * Upon successful authentication, it updates the user's last login attempt and generates an access token.
+     * This method retrieves only the fields of the user which are needed for the login by the provided email address.
+     * It then verifies the password against the encoded password stored in the database. The password is verified
+     * even if the user does not exist, so that the response time does not reveal the existence of the user.
+     * If the password is valid, it proceeds to validate the user's status and permissions for the requested source page.
+     * Upon successful authentication, it encodes the password again if its encoding is outdated,
+     * records the user's last login attempt through the {@link AysLoginAttemptRecorder} and generates an access token.
      * </p>
      *
      * @param loginRequest The login request containing the user's email address, password, and source page.
@@ -67,34 +75,75 @@ class AysAuthServiceImpl implements AysAuthService {
      * @throws AysPasswordNotValidException      If the provided password is not valid.
      * @throws AysUserNotActiveException         If the user's status is not active.
      * @throws AysUserDoesNotAccessPageException If the user does not have permission to access the requested page.
+     * @throws AysPasswordHashingSaturatedException If the password cannot be verified because password hashing is saturated.
      */
     @Override
     @Transactional
     public AysToken authenticate(final AysLoginRequest loginRequest) {
 
-        final AysUser user = userReadPort.findByEmailAddress(loginRequest.getEmailAddress())
+        final Optional<AysUser> userFromDatabase = userReadPort.findForLoginByEmailAddress(loginRequest.getEmailAddress());
+        final String encodedPassword = userFromDatabase
+                .map(AysUser::getPassword)
+                .map(AysUser.Password::getValue)
+                .orElse(null);
+
+        final boolean isPasswordMatched = passwordHasher.matches(loginRequest.getPassword(), encodedPassword);
+
+        final AysUser user = userFromDatabase
                 .orElseThrow(() -> new AysEmailAddressNotValidException(loginRequest.getEmailAddress()));
 
-        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword().getValue())) {
+        if (!isPasswordMatched) {
             throw new AysPasswordNotValidException();
         }
 
         this.validateUserStatus(user);
         this.validateUserSourcePagePermission(user, loginRequest.getSourcePage());
 
+        this.upgradePasswordEncoding(user, loginRequest.getPassword());
+
         Optional.ofNullable(user.getLoginAttempt())
                 .ifPresentOrElse(AysUser.LoginAttempt::success,
                         () -> {
                             user.setLoginAttempt(AysUser.LoginAttempt.builder().build());
                             user.getLoginAttempt().success();
                         });
-        userSavePort.save(user);
+        loginAttemptRecorder.record(user);
 
         final Claims claimsOfUser = user.getClaims();
         return tokenService.generate(claimsOfUser);
     }
 
 
+    /**
+     * Encodes the password of the user again and saves it, if it has been encoded with another encoder
+     * or with a lower cost than the current one.
+     * <p>
+     * The upgrade is best effort: if password hashing is saturated, it is skipped and tried again on the next login,
+     * so that a login whose password has already matched is not rejected because of the upgrade.
+     * </p>
+     *
+     * @param user        the authenticated user
+     * @param rawPassword the raw password of the login request
+     */
+    private void upgradePasswordEncoding(final AysUser user, final String rawPassword) {
+
+        if (!passwordHasher.upgradeEncoding(user.getPassword().getValue())) {
+            return;
+        }
+
+        final String upgradedPassword;
+        try {
+            upgradedPassword = passwordHasher.encode(rawPassword);
+        } catch (AysPasswordHashingSaturatedException exception) {
+            log.debug("Password encoding of user {} is not upgraded because password hashing is saturated", user.getId());
+            return;
+        }
+
+        user.getPassword().setValue(upgradedPassword);
+        userSavePort.savePassword(user.getPassword());
+    }
+
+
     /**
      * Validates whether the user has permission to access the specified source page.
      *
@@ -132,15 +181,11 @@ class AysAuthServiceImpl implements AysAuthService {
     @Transactional
     public AysToken refreshAccessToken(final String refreshToken) {
 
-        tokenService.verifyAndValidate(refreshToken);
-
-        final Claims claims = tokenService.getPayload(refreshToken);
+        final AysVerifiedToken verifiedRefreshToken = tokenService.verifyAndValidate(refreshToken);
 
-        final String refreshTokenId = claims.getId();
-
-        invalidTokenService.checkForInvalidityOfToken(refreshTokenId);
+        invalidTokenService.checkForInvalidityOfToken(verifiedRefreshToken.getId());
 
-        final String userId = claims.get(AysTokenClaims.USER_ID.getValue()).toString();
+        final String userId = verifiedRefreshToken.getClaims().get(AysTokenClaims.USER_ID.getValue()).toString();
 
         final AysUser user = userReadPort.findById(userId)
                 .orElseThrow(() -> new AysUserIdNotValidException(userId));
@@ -169,6 +214,7 @@ class AysAuthServiceImpl implements AysAuthService {
     /**
      * Invalidates the access token and refresh token associated with the specified refresh token.
      * It verifies and validates the refresh token first before proceeding with invalidation.
+     * The id of the access token is taken from the already verified token of the current request.
      * If either the access token or refresh token is already marked as invalid, a TokenAlreadyInvalidatedException is thrown.
      *
      * @param refreshToken the refresh token used to invalidate the associated access token and refresh token
@@ -177,11 +223,11 @@ class AysAuthServiceImpl implements AysAuthService {
     @Transactional
     public void invalidateTokens(final String refreshToken) {
 
-        tokenService.verifyAndValidate(refreshToken);
-        final String refreshTokenId = tokenService.getPayload(refreshToken).getId();
+        final AysVerifiedToken verifiedRefreshToken = tokenService.verifyAndValidate(refreshToken);
+        final String refreshTokenId = verifiedRefreshToken.getId();
         invalidTokenService.checkForInvalidityOfToken(refreshTokenId);
 
-        final String accessTokenId = tokenService.getPayload(identity.getAccessToken()).getId();
+        final String accessTokenId = identity.getAccessTokenId();
         invalidTokenService.invalidateTokens(Set.of(accessTokenId, refreshTokenId));
     }
 
@@ -4,9 +4,13 @@ import lombok.RequiredArgsConstructor;
 import org.ays.auth.model.AysInvalidToken;
 import org.ays.auth.port.AysInvalidTokenReadPort;
 import org.ays.auth.port.AysInvalidTokenSavePort;
+import org.ays.auth.security.AysInvalidTokenIndex;
+import org.ays.auth.security.AysVerifiedTokenCache;
 import org.ays.auth.service.AysInvalidTokenService;
 import org.ays.auth.util.exception.AysTokenAlreadyInvalidatedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -24,12 +28,18 @@ class AysInvalidTokenServiceImpl implements AysInvalidTokenService {
 
     private final AysInvalidTokenReadPort invalidTokenReadPort;
     private final AysInvalidTokenSavePort invalidTokenSavePort;
+    private final AysVerifiedTokenCache verifiedTokenCache;
+    private final AysInvalidTokenIndex invalidTokenIndex;
 
     /**
      * Invalidates multiple tokens by saving them as invalid tokens in the system.
      * <p>
      * This method converts each token ID into an {@link AysInvalidToken} object and saves them using
-     * the {@link AysInvalidTokenSavePort}.
+     * the {@link AysInvalidTokenSavePort}. The tokens are also evicted from the {@link AysVerifiedTokenCache}
+     * so that they are verified again and rejected on their next use,
+     * and are added to the {@link AysInvalidTokenIndex} of this node without waiting for its next refresh.
+     * Both happen after the surrounding transaction commits, so a rolled back invalidation does not reject the tokens
+     * on this node while the other nodes still accept them.
      * </p>
      *
      * @param tokenIds the set of token IDs to invalidate
@@ -44,13 +54,36 @@ class AysInvalidTokenServiceImpl implements AysInvalidTokenService {
                 .collect(Collectors.toSet());
 
         invalidTokenSavePort.saveAll(invalidTokens);
+        this.revokeAfterCommit(tokenIds);
+    }
+
+    private void revokeAfterCommit(final Set<String> tokenIds) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            this.revoke(tokenIds);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revoke(tokenIds);
+            }
+        });
+    }
+
+    private void revoke(final Set<String> tokenIds) {
+        invalidTokenIndex.addAll(tokenIds);
+        verifiedTokenCache.evict(tokenIds);
     }
 
     /**
      * Checks if a token has already been invalidated.
      * <p>
-     * This method queries the {@link AysInvalidTokenReadPort} to determine if the specified token ID
-     * exists as an invalidated token. If it does, an {@link AysTokenAlreadyInvalidatedException} is thrown.
+     * This method looks the specified token ID up in the node-local {@link AysInvalidTokenIndex}.
+     * If the index cannot answer for the token ID, it queries the {@link AysInvalidTokenReadPort} instead
+     * to determine if the token ID exists as an invalidated token.
+     * If it does, an {@link AysTokenAlreadyInvalidatedException} is thrown.
      * </p>
      *
      * @param tokenId the token ID to check for invalidity
@@ -58,7 +91,13 @@ class AysInvalidTokenServiceImpl implements AysInvalidTokenService {
      */
     @Override
     public void checkForInvalidityOfToken(final String tokenId) {
-        final boolean isTokenInvalid = invalidTokenReadPort.findByTokenId(tokenId).isPresent();
+        final boolean isTokenInvalid;
+        if (invalidTokenIndex.isResolvable(tokenId)) {
+            isTokenInvalid = invalidTokenIndex.contains(tokenId);
+        } else {
+            isTokenInvalid = invalidTokenReadPort.findByTokenId(tokenId).isPresent();
+        }
+
         if (isTokenInvalid) {
             throw new AysTokenAlreadyInvalidatedException(tokenId);
         }
@@ -0,0 +1,150 @@
+package org.ays.auth.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.ays.auth.model.AysUser;
+import org.ays.auth.port.AysUserSavePort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Records the successful login attempts of users.
+ * <p>
+ * In asynchronous mode, which is the default, a login attempt is only added to an in-memory queue and the login
+ * does not wait for a database write. The queue is flushed every `ays.auth.login-attempt-recorder.flush-delay-millis`
+ * and keeps one entry per user, so several logins of the same user within a flush window are saved
+ * with a single update of the latest login date. All entries of a flush are saved in one transaction.
+ * If that transaction fails, the entries are saved again one by one, so that a failing entry
+ * does not drop the login attempts of the other users.
+ * </p>
+ * <p>
+ * The queue is flushed when the application shuts down gracefully. If the application crashes, or the entry of a user
+ * cannot be saved, the login date of that entry is lost and the user keeps the previous last login date.
+ * When this is not acceptable, the asynchronous mode can be disabled with the
+ * `ays.auth.login-attempt-recorder.async-enable` property, and the login attempt is then saved
+ * in the transaction of the login.
+ * </p>
+ */
+@Slf4j
+@Component
+class AysLoginAttemptRecorder {
+
+    private final boolean asyncEnabled;
+
+    private final AysUserSavePort userSavePort;
+
+    private final Map<String, AysUser> pendingUsers = new ConcurrentHashMap<>();
+    private final Lock flushLock = new ReentrantLock();
+
+    AysLoginAttemptRecorder(@Value("${ays.auth.login-attempt-recorder.async-enable:true}") boolean asyncEnabled,
+                            AysUserSavePort userSavePort) {
+
+        this.asyncEnabled = asyncEnabled;
+        this.userSavePort = userSavePort;
+    }
+
+
+    /**
+     * Records the login attempt of the given user, either by queueing it or by saving it immediately
+     * if the asynchronous mode is disabled.
+     *
+     * @param user the user whose login attempt has succeeded
+     */
+    void record(final AysUser user) {
+
+        if (!this.asyncEnabled) {
+            userSavePort.saveLoginAttempt(user);
+            return;
+        }
+
+        final AysUser.LoginAttempt loginAttempt = user.getLoginAttempt();
+        final AysUser pendingUser = AysUser.builder()
+                .id(user.getId())
+                .loginAttempt(AysUser.LoginAttempt.builder()
+                        .id(loginAttempt.getId())
+                        .lastLoginAt(loginAttempt.getLastLoginAt())
+                        .build())
+                .build();
+
+        this.pendingUsers.merge(user.getId(), pendingUser, AysLoginAttemptRecorder::latest);
+    }
+
+    /**
+     * Saves the queued login attempts in one transaction and empties the queue.
+     * If the transaction fails, the login attempts are saved one by one and the ones which could not be saved are dropped.
+     */
+    @Scheduled(fixedDelayString = "${ays.auth.login-attempt-recorder.flush-delay-millis:1000}")
+    public void flush() {
+
+        if (this.pendingUsers.isEmpty()) {
+            return;
+        }
+
+        this.flushLock.lock();
+        try {
+            final List<AysUser> users = new ArrayList<>(this.pendingUsers.size());
+            for (final String userId : this.pendingUsers.keySet()) {
+                final AysUser user = this.pendingUsers.remove(userId);
+                if (user != null) {
+                    users.add(user);
+                }
+            }
+
+            if (users.isEmpty()) {
+                return;
+            }
+
+            this.save(users);
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    private void save(final List<AysUser> users) {
+
+        try {
+            userSavePort.saveLoginAttempts(users);
+            log.trace("Login attempts of {} users are recorded.", users.size());
+            return;
+        } catch (RuntimeException exception) {
+            log.warn("Login attempts of {} users could not be recorded together and are recorded one by one!", users.size(), exception);
+        }
+
+        for (final AysUser user : users) {
+            try {
+                userSavePort.saveLoginAttempt(user);
+            } catch (RuntimeException exception) {
+                log.error("Login attempt of user {} could not be recorded and is dropped!", user.getId(), exception);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        this.flush();
+    }
+
+
+    private static AysUser latest(final AysUser pendingUser, final AysUser newUser) {
+
+        final AysUser.LoginAttempt pendingLoginAttempt = pendingUser.getLoginAttempt();
+        final AysUser.LoginAttempt newLoginAttempt = newUser.getLoginAttempt();
+        if (newLoginAttempt.getId() == null) {
+            newLoginAttempt.setId(pendingLoginAttempt.getId());
+        }
+
+        if (newLoginAttempt.getLastLoginAt().isBefore(pendingLoginAttempt.getLastLoginAt())) {
+            newLoginAttempt.setLastLoginAt(pendingLoginAttempt.getLastLoginAt());
+        }
+        return newUser;
+    }
+
+}
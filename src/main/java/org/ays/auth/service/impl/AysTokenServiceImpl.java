@@ -13,22 +13,25 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.time.DateUtils;
 import org.ays.auth.config.AysTokenConfigurationParameter;
+import org.ays.auth.model.AysAuthoritySet;
 import org.ays.auth.model.AysToken;
+import org.ays.auth.model.AysVerifiedToken;
 import org.ays.auth.model.enums.AysTokenClaims;
+import org.ays.auth.security.AysPermissionCatalogue;
+import org.ays.auth.security.AysTokenEngine;
+import org.ays.auth.security.AysVerifiedTokenCache;
 import org.ays.auth.service.AysTokenService;
 import org.ays.auth.util.exception.AysTokenNotValidException;
 import org.ays.common.util.AysListUtil;
 import org.ays.common.util.AysRandomUtil;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.core.OAuth2AccessToken;
-import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * AYS Token service to handle with JWT processes
@@ -39,6 +42,9 @@ import java.util.Map;
 class AysTokenServiceImpl implements AysTokenService {
 
     private final AysTokenConfigurationParameter tokenConfiguration;
+    private final AysTokenEngine tokenEngine;
+    private final AysVerifiedTokenCache verifiedTokenCache;
+    private final AysPermissionCatalogue permissionCatalogue;
 
     /**
      * Generates an access token and a refresh token based on the provided claims.
@@ -49,6 +55,7 @@ class AysTokenServiceImpl implements AysTokenService {
     @Override
     public AysToken generate(final Claims claims) {
 
+        final Claims tokenClaims = this.compactPermissions(claims);
         final long currentTimeMillis = System.currentTimeMillis();
 
         final JwtBuilder tokenBuilder = this.initializeTokenBuilder(currentTimeMillis);
@@ -59,7 +66,7 @@ class AysTokenServiceImpl implements AysTokenService {
         final String accessToken = tokenBuilder
                 .id(AysRandomUtil.generateUUID())
                 .expiration(accessTokenExpiresAt)
-                .claims(claims)
+                .claims(tokenClaims)
                 .compact();
 
         final Date refreshTokenExpiresAt = DateUtils.addDays(
@@ -89,6 +96,7 @@ class AysTokenServiceImpl implements AysTokenService {
     @Override
     public AysToken generate(final Claims claims, final String refreshToken) {
 
+        final Claims tokenClaims = this.compactPermissions(claims);
         final long currentTimeMillis = System.currentTimeMillis();
 
         final Date accessTokenExpiresAt = DateUtils.addMinutes(
@@ -97,7 +105,7 @@ class AysTokenServiceImpl implements AysTokenService {
         final String accessToken = this.initializeTokenBuilder(currentTimeMillis)
                 .id(AysRandomUtil.generateUUID())
                 .expiration(accessTokenExpiresAt)
-                .claims(claims)
+                .claims(tokenClaims)
                 .compact();
 
         return AysToken.builder()
@@ -107,6 +115,30 @@ class AysTokenServiceImpl implements AysTokenService {
                 .build();
     }
 
+    /**
+     * Replaces the permission names of the claims with the bitmap claim of the {@link AysPermissionCatalogue},
+     * if the bitmap claim is enabled and all permissions are in the catalogue.
+     *
+     * @param claims The claims to be included in the tokens.
+     * @return the claims with the bitmap claim, or the given claims if they are not compacted.
+     */
+    private Claims compactPermissions(final Claims claims) {
+
+        final List<String> permissions = AysListUtil.to(claims.get(AysTokenClaims.USER_PERMISSIONS.getValue()), String.class);
+        if (!permissionCatalogue.isEnabled() || permissions == null) {
+            return claims;
+        }
+
+        return permissionCatalogue.encode(permissions)
+                .map(permissionBitmap -> {
+                    final Map<String, Object> compactClaims = new HashMap<>(claims);
+                    compactClaims.remove(AysTokenClaims.USER_PERMISSIONS.getValue());
+                    compactClaims.put(AysTokenClaims.USER_PERMISSION_BITMAP.getValue(), permissionBitmap);
+                    return Jwts.claims().add(compactClaims).build();
+                })
+                .orElse(claims);
+    }
+
     /**
      * Initializes a JwtBuilder for creating a JSON Web Token (JWT) with the specified current time.
      *
@@ -117,33 +149,44 @@ class AysTokenServiceImpl implements AysTokenService {
      * - Header with the token type set to Bearer.
      * - Issuer claim set to the configured issuer from the token configuration.
      * - Issued At (iat) claim set to the specified current time.
-     * - Signature configured with the private key from the token configuration.
+     * - Signature configured with the current private key of the {@link AysTokenEngine}.
      */
     private JwtBuilder initializeTokenBuilder(long currentTimeMillis) {
-        return Jwts.builder()
+        return tokenEngine.builder()
                 .header()
                 .type(OAuth2AccessToken.TokenType.BEARER.getValue())
                 .and()
                 .issuer(tokenConfiguration.getIssuer())
-                .issuedAt(new Date(currentTimeMillis))
-                .signWith(tokenConfiguration.getPrivateKey());
+                .issuedAt(new Date(currentTimeMillis));
     }
 
 
     /**
-     * Verifies and validates the given JWT (JSON Web Token).
-     * This method parses the token using the public key from the {@link AysTokenConfigurationParameter},
-     * and throws a {@link AysTokenNotValidException} if the token is not valid due to being malformed, expired or having an invalid signature.
+     * Verifies and validates the given JWT (JSON Web Token) and returns it as an {@link AysVerifiedToken}.
+     * This method parses the token only once using the prebuilt parser of the {@link AysTokenEngine}
+     * and collects the header, claims and granted authorities of the token into the returned object,
+     * so that callers do not need to parse the same token again.
+     * Tokens which were already verified are served from the {@link AysVerifiedTokenCache} when it is enabled,
+     * as long as their key has not been retired, otherwise they are evicted and verified again.
+     * It throws a {@link AysTokenNotValidException} if the token is not valid due to being malformed, expired or having an invalid signature.
      *
      * @param token The JWT (JSON Web Token) to be verified and validated.
+     * @return The {@link AysVerifiedToken} containing the header, claims and authorities of the token.
      * @throws AysTokenNotValidException If the token is not valid due to being malformed, expired or having an invalid signature.
      */
     @Override
-    public void verifyAndValidate(String token) {
+    public AysVerifiedToken verifyAndValidate(String token) {
+
+        final AysVerifiedToken cachedToken = verifiedTokenCache.get(token);
+        if (cachedToken != null) {
+            if (tokenEngine.hasVerificationKey(cachedToken.getHeader())) {
+                return cachedToken;
+            }
+            verifiedTokenCache.evict(Set.of(cachedToken.getId()));
+        }
+
         try {
-            final Jws<Claims> claims = Jwts.parser()
-                    .verifyWith(tokenConfiguration.getPublicKey())
-                    .build()
+            final Jws<Claims> claims = tokenEngine.getParser()
                     .parseSignedClaims(token);
 
             final JwsHeader header = claims.getHeader();
@@ -151,9 +194,16 @@ class AysTokenServiceImpl implements AysTokenService {
                 throw new RequiredTypeException(token);
             }
 
-            if (!Jwts.SIG.RS256.getId().equals(header.getAlgorithm())) {
-                throw new SignatureException(token);
-            }
+            final Claims payload = claims.getPayload();
+            final AysVerifiedToken verifiedToken = AysVerifiedToken.builder()
+                    .value(token)
+                    .header(header)
+                    .claims(payload)
+                    .authorities(this.getAuthorities(payload))
+                    .build();
+
+            verifiedTokenCache.put(verifiedToken);
+            return verifiedToken;
 
         } catch (MalformedJwtException | ExpiredJwtException | SignatureException | RequiredTypeException exception) {
             throw new AysTokenNotValidException(token, exception);
@@ -161,54 +211,24 @@ class AysTokenServiceImpl implements AysTokenService {
     }
 
     /**
-     * Parses the given JWT and returns its claims as a {@link Claims} object.
+     * Builds the granted authorities of the token from the permission bitmap claim, or from the permissions claim
+     * for tokens which were issued without a bitmap claim.
+     * Tokens without both claims, such as refresh tokens, have no authorities.
      *
-     * @param token the JWT string to parse
-     * @return the parsed JWT claims as a {@link Claims} object
+     * @param payload the verified claims of the token
+     * @return the interned {@link AysAuthoritySet}
+     * @throws MalformedJwtException if the permission bitmap claim cannot be decoded
      */
-    @Override
-    public Claims getPayload(String token) {
-        return Jwts.parser()
-                .verifyWith(tokenConfiguration.getPublicKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
+    private AysAuthoritySet getAuthorities(final Claims payload) {
 
-    /**
-     * Retrieves the authentication object {@link UsernamePasswordAuthenticationToken} based on the provided token.
-     * This method parses the token using the public key from the {@link AysTokenConfigurationParameter} and extracts the necessary information from the token claims,
-     * such as user type and roles, to construct the authentication object.
-     *
-     * @param token The token string used for authentication.
-     * @return The constructed {@link UsernamePasswordAuthenticationToken} object.
-     */
-    @Override
-    public UsernamePasswordAuthenticationToken getAuthentication(String token) {
-
-        Jws<Claims> claims = Jwts.parser()
-                .verifyWith(tokenConfiguration.getPublicKey())
-                .build()
-                .parseSignedClaims(token);
-
-        JwsHeader header = claims.getHeader();
-        Claims payload = claims.getPayload();
-
-        final Jwt jwt = new Jwt(
-                token,
-                payload.getIssuedAt().toInstant(),
-                payload.getExpiration().toInstant(),
-                Map.of(
-                        AysTokenClaims.TYPE.getValue(), header.getType(),
-                        AysTokenClaims.ALGORITHM.getValue(), header.getAlgorithm()
-                ),
-                payload
-        );
+        final String permissionBitmap = payload.get(AysTokenClaims.USER_PERMISSION_BITMAP.getValue(), String.class);
+        if (permissionBitmap != null) {
+            return permissionCatalogue.decode(permissionBitmap)
+                    .orElseThrow(() -> new MalformedJwtException("permission bitmap of the token could not be decoded"));
+        }
 
-        final List<SimpleGrantedAuthority> authorities = new ArrayList<>();
         final List<String> permissions = AysListUtil.to(payload.get(AysTokenClaims.USER_PERMISSIONS.getValue()), String.class);
-        permissions.forEach(permission -> authorities.add(new SimpleGrantedAuthority(permission)));
-
-        return UsernamePasswordAuthenticationToken.authenticated(jwt, null, authorities);
+        return AysAuthoritySet.of(permissions);
     }
+
 }
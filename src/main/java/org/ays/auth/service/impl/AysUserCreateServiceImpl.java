@@ -123,9 +123,10 @@ class AysUserCreateServiceImpl implements AysUserCreateService {
      */
     private void validateRolesAndSet(final AysUser user, final Set<String> roleIds) {
 
+        final String institutionId = identity.getInstitutionId();
         final List<AysRole> roles = roleReadPort.findAllByIds(roleIds).stream()
                 .filter(AysRole::isActive)
-                .filter(role -> identity.getInstitutionId().equals(role.getInstitution().getId()))
+                .filter(role -> institutionId.equals(role.getInstitution().getId()))
                 .toList();
 
         if (roles.size() == roleIds.size()) {
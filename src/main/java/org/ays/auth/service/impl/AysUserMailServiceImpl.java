@@ -21,11 +21,13 @@ import java.util.Map;
  * This service is responsible for composing and sending emails to users, specifically for scenarios
  * like password creation. It uses the {@link AysMailService} to handle the actual sending of emails
  * and interacts with the parameter read port to fetch necessary configurations.
+ * The mails are written to the mail outbox, so the service joins the read-write transaction of the caller
+ * or starts its own one.
  * </p>
  */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
+@Transactional
 class AysUserMailServiceImpl implements AysUserMailService {
 
     private final AysMailService mailService;
@@ -135,9 +135,10 @@ class AysUserUpdateServiceImpl implements AysUserUpdateService {
             return;
         }
 
+        final String institutionId = identity.getInstitutionId();
         final List<AysRole> roles = roleReadPort.findAllByIds(roleIds).stream()
                 .filter(AysRole::isActive)
-                .filter(role -> identity.getInstitutionId().equals(role.getInstitution().getId()))
+                .filter(role -> institutionId.equals(role.getInstitution().getId()))
                 .toList();
 
         if (roles.size() == roleIds.size()) {
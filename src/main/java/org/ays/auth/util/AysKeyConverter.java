@@ -6,6 +6,7 @@ import org.ays.encryption.utility.AysPrivateKeyEncryptionUtil;
 import org.ays.encryption.utility.AysPublicKeyEncryptionUtil;
 import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 import org.bouncycastle.asn1.x509.SubjectPublicKeyInfo;
+import org.bouncycastle.openssl.PEMKeyPair;
 import org.bouncycastle.openssl.PEMParser;
 import org.bouncycastle.openssl.jcajce.JcaPEMKeyConverter;
 
@@ -16,12 +17,14 @@ import java.security.PublicKey;
 
 /**
  * Utility class for converting public and private keys in PEM format to Java objects.
+ * RSA, EC and Ed25519 keys are supported.
  */
 @UtilityClass
 public class AysKeyConverter {
 
     /**
      * Converts an encrypted private key in PEM format to a Java PrivateKey object.
+     * Both PKCS#8 keys and key pairs in the traditional OpenSSL format, such as `EC PRIVATE KEY`, are accepted.
      *
      * @param encryptedPrivateKeyPem the encrypted private key in PEM format.
      * @return the corresponding Java PrivateKey object.
@@ -32,8 +35,10 @@ public class AysKeyConverter {
         final String formattedPrivateKeyPem = decryptedPrivateKeyPem.replace("             ", "\n");
         StringReader keyReader = new StringReader(formattedPrivateKeyPem);
         try {
-            PrivateKeyInfo privateKeyInfo = PrivateKeyInfo
-                    .getInstance(new PEMParser(keyReader).readObject());
+            final Object pemObject = new PEMParser(keyReader).readObject();
+            PrivateKeyInfo privateKeyInfo = pemObject instanceof PEMKeyPair pemKeyPair
+                    ? pemKeyPair.getPrivateKeyInfo()
+                    : PrivateKeyInfo.getInstance(pemObject);
             return new JcaPEMKeyConverter().getPrivateKey(privateKeyInfo);
         } catch (IOException exception) {
             throw new AysKeyReadException(exception);
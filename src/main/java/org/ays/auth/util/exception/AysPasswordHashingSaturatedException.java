@@ -0,0 +1,26 @@
+package org.ays.auth.util.exception;
+
+import org.ays.common.util.exception.AysTooManyRequestsException;
+
+import java.io.Serial;
+
+/**
+ * Exception to be thrown when a password cannot be hashed because all password hashing threads are busy
+ * and the queue of waiting hashing tasks is full.
+ */
+public final class AysPasswordHashingSaturatedException extends AysTooManyRequestsException {
+
+    /**
+     * Unique identifier for serialization.
+     */
+    @Serial
+    private static final long serialVersionUID = 4178032761954021318L;
+
+    /**
+     * Constructs a new {@link AysPasswordHashingSaturatedException} with a default error message.
+     */
+    public AysPasswordHashingSaturatedException() {
+        super("password hashing is saturated, please try again later!");
+    }
+
+}
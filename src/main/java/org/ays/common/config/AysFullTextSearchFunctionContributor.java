@@ -0,0 +1,40 @@
+package org.ays.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the MySQL full-text search function to Hibernate, so that specifications can search
+ * the columns which have a `FULLTEXT` index.
+ * <p>
+ * The {@value #FULL_TEXT_MATCH} function takes a column and a search term and renders
+ * `MATCH(column) AGAINST(term IN BOOLEAN MODE)`, which returns a relevance greater than zero
+ * for the rows whose column matches the term.
+ * The contributor is loaded by Hibernate through `META-INF/services/org.hibernate.boot.model.FunctionContributor`.
+ * </p>
+ */
+public class AysFullTextSearchFunctionContributor implements FunctionContributor {
+
+    /**
+     * The name of the full-text search function to use in {@link jakarta.persistence.criteria.CriteriaBuilder#function}.
+     */
+    public static final String FULL_TEXT_MATCH = "ays_full_text_match";
+
+    /**
+     * The `ngram_token_size` of MySQL, which is the minimum length of a value to be found in the ngram indexes.
+     */
+    public static final int NGRAM_TOKEN_SIZE = 2;
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                FULL_TEXT_MATCH,
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration()
+                        .getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+
+}
@@ -0,0 +1,195 @@
+package org.ays.common.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ays.common.util.AysRandomUtil;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Cluster-wide lock for scheduled jobs, backed by leases in the `AYS_SCHEDULER_LOCK` table.
+ * <p>
+ * When several replicas fire the same {@code @Scheduled} job, only the node which acquires the lease of the job runs it,
+ * the other nodes skip it with a single failed conditional update.
+ * A lease expires after its TTL, so a lock of a crashed node never blocks the job forever.
+ * </p>
+ * <p>
+ * Each acquisition increments the fencing token of the lock. A node can check with {@link #isHeld(Lease)}
+ * whether its lease is still the current one, and should stop working once it is not,
+ * because another node may have taken the lock over after the TTL.
+ * Lease times are taken from the clock of the application, so the TTL should be well above the clock skew between nodes.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AysSchedulerLock {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner;
+
+    public AysSchedulerLock(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = resolveHostName() + "-" + AysRandomUtil.generateUUID();
+    }
+
+
+    /**
+     * Runs the given task if the lock with the given name is acquired, and releases the lock afterwards.
+     *
+     * @param name           the name of the lock, usually the name of the job
+     * @param lockAtMostFor  the TTL of the lease, after which other nodes can acquire the lock even if it is not released
+     * @param lockAtLeastFor the minimum duration the lock is held for, so that nodes which fire the same job
+     *                       slightly later do not run it again
+     * @param task           the task to run with the acquired {@link Lease}
+     * @return {@code true} if the lock is acquired and the task is run, {@code false} if the task is skipped
+     */
+    public boolean executeWithLock(final String name,
+                                   final Duration lockAtMostFor,
+                                   final Duration lockAtLeastFor,
+                                   final Consumer<Lease> task) {
+
+        final Optional<Lease> lease = this.tryAcquire(name, lockAtMostFor);
+        if (lease.isEmpty()) {
+            log.debug("{} lock is held by another node, the job is skipped", name);
+            return false;
+        }
+
+        try {
+            task.accept(lease.get());
+        } finally {
+            this.release(lease.get(), lockAtLeastFor);
+        }
+        return true;
+    }
+
+    /**
+     * Tries to acquire the lock with the given name.
+     * The lock is acquired if it has never been acquired before or its current lease has expired.
+     * The fencing token is read from the row only if it is still the row this node has just written,
+     * so that a lock which has been taken over by another node in between is not returned with its token.
+     *
+     * @param name          the name of the lock
+     * @param lockAtMostFor the TTL of the lease
+     * @return the acquired {@link Lease}, or empty if the lock is held by another lease
+     */
+    public Optional<Lease> tryAcquire(final String name, final Duration lockAtMostFor) {
+
+        // LOCKED_AT is stored in milliseconds, so that the written row can be found again by its acquisition time
+        final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        final LocalDateTime lockedUntil = now.plus(lockAtMostFor);
+
+        final int updatedCount = jdbcTemplate.update(
+                "UPDATE AYS_SCHEDULER_LOCK " +
+                        "SET LOCKED_BY = ?, LOCKED_AT = ?, LOCKED_UNTIL = ?, FENCING_TOKEN = FENCING_TOKEN + 1 " +
+                        "WHERE NAME = ? AND LOCKED_UNTIL <= ?",
+                owner, now, lockedUntil, name, now
+        );
+
+        if (updatedCount == 0) {
+            try {
+                jdbcTemplate.update(
+                        "INSERT INTO AYS_SCHEDULER_LOCK (NAME, LOCKED_BY, LOCKED_AT, LOCKED_UNTIL, FENCING_TOKEN) " +
+                                "VALUES (?, ?, ?, ?, 1)",
+                        name, owner, now, lockedUntil
+                );
+            } catch (DuplicateKeyException exception) {
+                return Optional.empty();
+            }
+        }
+
+        final Optional<Long> fencingToken = jdbcTemplate.queryForList(
+                "SELECT FENCING_TOKEN FROM AYS_SCHEDULER_LOCK WHERE NAME = ? AND LOCKED_BY = ? AND LOCKED_AT = ?",
+                Long.class,
+                name, owner, now
+        ).stream().findFirst();
+
+        if (fencingToken.isEmpty()) {
+            log.debug("{} lock is taken over by another node right after its acquisition", name);
+            return Optional.empty();
+        }
+
+        log.trace("{} lock is acquired with fencing token {} until {}", name, fencingToken.get(), lockedUntil);
+        return Optional.of(new Lease(name, fencingToken.get(), now));
+    }
+
+    /**
+     * Checks whether the given lease is still the current lease of its lock and is not expired.
+     *
+     * @param lease the lease to check
+     * @return {@code true} if the lease is still held
+     */
+    public boolean isHeld(final Lease lease) {
+        final Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM AYS_SCHEDULER_LOCK WHERE NAME = ? AND FENCING_TOKEN = ? AND LOCKED_UNTIL > ?",
+                Integer.class,
+                lease.getName(), lease.getFencingToken(), LocalDateTime.now()
+        );
+        return count != null && count > 0;
+    }
+
+    /**
+     * Releases the given lease, keeping the lock held until at least the given duration after its acquisition.
+     * A lease which has already been taken over by another node is not affected.
+     *
+     * @param lease          the lease to release
+     * @param lockAtLeastFor the minimum duration the lock is held for after its acquisition
+     */
+    public void release(final Lease lease, final Duration lockAtLeastFor) {
+
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime minimumLockedUntil = lease.getLockedAt().plus(lockAtLeastFor);
+        final LocalDateTime lockedUntil = now.isAfter(minimumLockedUntil) ? now : minimumLockedUntil;
+
+        jdbcTemplate.update(
+                "UPDATE AYS_SCHEDULER_LOCK SET LOCKED_UNTIL = ? WHERE NAME = ? AND FENCING_TOKEN = ?",
+                lockedUntil, lease.getName(), lease.getFencingToken()
+        );
+
+        log.trace("{} lock with fencing token {} is released", lease.getName(), lease.getFencingToken());
+    }
+
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException exception) {
+            return "unknown";
+        }
+    }
+
+
+    /**
+     * A lease of a lock, identified by the name of the lock and its fencing token.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Lease {
+
+        /**
+         * The name of the lock.
+         */
+        private final String name;
+
+        /**
+         * The monotonically increasing token of the acquisition, which identifies the lease.
+         */
+        private final Long fencingToken;
+
+        /**
+         * The time the lease was acquired at.
+         */
+        private final LocalDateTime lockedAt;
+
+    }
+
+}
@@ -10,6 +10,13 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * This class configures the scheduling infrastructure for the application and loads
  * scheduling-related properties from a specified configuration file.
  * </p>
+ * <p>
+ * The scheduled jobs share the task scheduler of Spring Boot, whose pool has a single thread by default.
+ * The pool is sized by {@code spring.task.scheduling.pool.size} to give every scheduled job its own thread,
+ * so a long running job such as the invalid token deletion does not delay the refresh of the invalid token index,
+ * the flush of the login attempts, the poll and the purge of the mail outbox or the refresh of the token configuration.
+ * The pool size has to be increased together with the number of scheduled jobs.
+ * </p>
  */
 @Configuration
 @EnableScheduling
@@ -1,7 +1,17 @@
 package org.ays.common.model;
 
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.ays.common.config.AysFullTextSearchFunctionContributor;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
 /**
  * Interface for defining filter criteria in AYS application services.
  * <p>
@@ -40,6 +50,14 @@ import org.springframework.data.jpa.domain.Specification;
  * In this example, `UserFilter` converts its fields into a {@link Specification} used to filter `UserEntity`
  * based on the provided `username` and `registrationDate`.
  * </p>
+ * <p>
+ * The static methods of this interface build the common predicates of the filters, such as
+ * {@code AysFilter.in("status", this.statuses)}. They match all rows if their value is null or empty,
+ * so that they can be combined with {@link Specification#and} without null checks.
+ * Their values are bound as parameters and value lists are padded by Hibernate with
+ * {@code hibernate.query.in_clause_parameter_padding}, so that a filter produces a few stable statements
+ * which are cached and prepared once instead of a new statement for each combination of values.
+ * </p>
  *
  * @param <T> the type of the entity to which the filter specification will be applied.
  */
@@ -53,4 +71,292 @@ public interface AysFilter {
     @SuppressWarnings({"java:S3740", "rawtypes"})
     Specification toSpecification();
 
+    /**
+     * Builds the key which identifies the rows matched by this filter, such as the key of its cached counts.
+     * It must contain every criterion of the filter, including the institution ID if the filter is scoped
+     * to an institution, so that two filters have the same key only if they match the same rows.
+     *
+     * @return the key of this filter, built with {@link CountKey}
+     */
+    String toCountKey();
+
+
+    /**
+     * Creates the specification which matches the rows whose property is equal to the given value.
+     *
+     * @param property the property of the entity
+     * @param value    the value, which matches all rows if it is null
+     * @param <E>      the type of the entity
+     * @return the equality specification
+     */
+    static <E> Specification<E> equal(final String property, final Object value) {
+        return (root, query, criteriaBuilder) -> {
+
+            if (value == null) {
+                return null;
+            }
+
+            return criteriaBuilder.equal(root.get(property), value);
+        };
+    }
+
+    /**
+     * Creates the specification which matches the rows whose property is one of the given values,
+     * as a single {@code IN} predicate instead of a chain of {@code OR} predicates.
+     *
+     * @param property the property of the entity
+     * @param values   the values, which match all rows if they are null or empty
+     * @param <E>      the type of the entity
+     * @return the {@code IN} specification
+     */
+    static <E> Specification<E> in(final String property, final Collection<?> values) {
+        return (root, query, criteriaBuilder) -> {
+
+            if (CollectionUtils.isEmpty(values)) {
+                return null;
+            }
+
+            return root.get(property).in(values);
+        };
+    }
+
+    /**
+     * Creates the specification which matches the rows whose property starts with the given value.
+     * A prefix match can use an index on the property, unlike {@link #contains(String, String)}.
+     *
+     * @param property the property of the entity
+     * @param value    the value, which matches all rows if it is null
+     * @param <E>      the type of the entity
+     * @return the prefix specification
+     */
+    static <E> Specification<E> startsWith(final String property, final String value) {
+        return (root, query, criteriaBuilder) -> {
+
+            if (value == null) {
+                return null;
+            }
+
+            return criteriaBuilder.like(root.get(property), Like.escape(value) + "%", Like.ESCAPE_CHARACTER);
+        };
+    }
+
+    /**
+     * Creates the specification which matches the rows whose property contains the given value.
+     *
+     * @param property the property of the entity
+     * @param value    the value, which matches all rows if it is null
+     * @param <E>      the type of the entity
+     * @return the contains specification
+     */
+    static <E> Specification<E> contains(final String property, final String value) {
+        return (root, query, criteriaBuilder) -> {
+
+            if (value == null) {
+                return null;
+            }
+
+            return criteriaBuilder.like(root.get(property), Like.contains(value), Like.ESCAPE_CHARACTER);
+        };
+    }
+
+    /**
+     * Creates the specification which matches the rows whose property contains the given value, ignoring the case
+     * of both. It compares the upper case values, so it cannot use an index on the property and should only be used
+     * for the columns whose collation is not already case-insensitive.
+     *
+     * @param property the property of the entity
+     * @param value    the value, which matches all rows if it is null
+     * @param <E>      the type of the entity
+     * @return the case-insensitive contains specification
+     */
+    static <E> Specification<E> containsIgnoreCase(final String property, final String value) {
+        return (root, query, criteriaBuilder) -> {
+
+            if (value == null) {
+                return null;
+            }
+
+            final Expression<String> upperCaseProperty = criteriaBuilder.upper(root.get(property));
+            return criteriaBuilder.like(upperCaseProperty, Like.contains(value.toUpperCase()), Like.ESCAPE_CHARACTER);
+        };
+    }
+
+    /**
+     * Creates the specification which matches the rows whose property contains the given value,
+     * through the ngram {@code FULLTEXT} index of the property.
+     * <p>
+     * The rows are first searched in the index and only the found rows are checked with
+     * {@link #contains(String, String)}, which keeps its exact semantics. Values which cannot be searched as a single
+     * full-text phrase are only checked with {@link #contains(String, String)}, such as values shorter than the
+     * ngram token size or values with whitespaces or double quotes.
+     * The search phrase is bound as a parameter, not rendered into the statement as a literal.
+     * </p>
+     *
+     * @param property the property whose column has an ngram {@code FULLTEXT} index
+     * @param value    the value, which matches all rows if it is null
+     * @param <E>      the type of the entity
+     * @return the full-text contains specification
+     * @see AysFullTextSearchFunctionContributor
+     */
+    static <E> Specification<E> containsByFullText(final String property, final String value) {
+        return (root, query, criteriaBuilder) -> {
+
+            if (value == null) {
+                return null;
+            }
+
+            final Path<String> path = root.get(property);
+            final Predicate like = criteriaBuilder.like(path, Like.contains(value), Like.ESCAPE_CHARACTER);
+
+            final boolean isFullTextSearchable = value.length() >= AysFullTextSearchFunctionContributor.NGRAM_TOKEN_SIZE
+                    && !StringUtils.containsWhitespace(value)
+                    && !StringUtils.contains(value, '"');
+            if (!isFullTextSearchable) {
+                return like;
+            }
+
+            final Expression<Double> relevance = criteriaBuilder.function(
+                    AysFullTextSearchFunctionContributor.FULL_TEXT_MATCH,
+                    Double.class,
+                    path,
+                    ((HibernateCriteriaBuilder) criteriaBuilder).value("\"" + value + "\"")
+            );
+            return criteriaBuilder.and(criteriaBuilder.greaterThan(relevance, 0D), like);
+        };
+    }
+
+    /**
+     * Creates the specification which matches the rows whose property is between the given bounds, inclusively.
+     *
+     * @param property the property of the entity
+     * @param from     the lower bound, which is not applied if it is null
+     * @param to       the upper bound, which is not applied if it is null
+     * @param <E>      the type of the entity
+     * @param <Y>      the type of the property
+     * @return the range specification
+     */
+    static <E, Y extends Comparable<? super Y>> Specification<E> between(final String property,
+                                                                         final Y from,
+                                                                         final Y to) {
+        return (root, query, criteriaBuilder) -> {
+
+            final Path<Y> path = root.get(property);
+            if (from != null && to != null) {
+                return criteriaBuilder.between(path, from, to);
+            }
+            if (from != null) {
+                return criteriaBuilder.greaterThanOrEqualTo(path, from);
+            }
+            if (to != null) {
+                return criteriaBuilder.lessThanOrEqualTo(path, to);
+            }
+            return null;
+        };
+    }
+
+
+    /**
+     * Builds the keys of {@link #toCountKey()} from the named criteria of a filter.
+     * <p>
+     * Each value is written with its length, so that no value can be mistaken for the next criterion,
+     * and the values of a collection are sorted, so that the key does not depend on their iteration order.
+     * </p>
+     */
+    final class CountKey {
+
+        private final StringBuilder key = new StringBuilder();
+
+        private CountKey() {
+        }
+
+        /**
+         * Starts the key of a filter.
+         *
+         * @return the empty key
+         */
+        public static CountKey builder() {
+            return new CountKey();
+        }
+
+        /**
+         * Appends the given criterion to the key.
+         *
+         * @param name  the name of the criterion
+         * @param value the value of the criterion, which can be null
+         * @return this key
+         */
+        public CountKey with(final String name, final Object value) {
+
+            this.key.append(name).append('=');
+            if (value != null) {
+                final String text = value.toString();
+                this.key.append(text.length()).append(':').append(text);
+            }
+            this.key.append(';');
+            return this;
+        }
+
+        /**
+         * Appends the given criterion of enum values to the key, by their sorted names.
+         *
+         * @param name   the name of the criterion
+         * @param values the values of the criterion, which can be null
+         * @return this key
+         */
+        public CountKey withAll(final String name, final Collection<? extends Enum<?>> values) {
+
+            if (values == null) {
+                return this.with(name, null);
+            }
+
+            final String names = values.stream()
+                    .map(Enum::name)
+                    .sorted()
+                    .collect(Collectors.joining(","));
+            return this.with(name, names);
+        }
+
+        /**
+         * Returns the built key.
+         *
+         * @return the key
+         */
+        public String build() {
+            return this.key.toString();
+        }
+
+    }
+
+
+    /**
+     * Builds the patterns of the {@code LIKE} predicates, in which the wildcards of the values are matched literally.
+     */
+    final class Like {
+
+        /**
+         * The escape character of the {@code LIKE} patterns. It is not a backslash, whose escaping differs
+         * between the SQL modes of MySQL.
+         */
+        static final char ESCAPE_CHARACTER = '!';
+
+        private Like() {
+        }
+
+        static String contains(final String value) {
+            return "%" + escape(value) + "%";
+        }
+
+        static String escape(final String value) {
+            final StringBuilder escapedValue = new StringBuilder(value.length());
+            for (final char character : value.toCharArray()) {
+                if (character == ESCAPE_CHARACTER || character == '%' || character == '_') {
+                    escapedValue.append(ESCAPE_CHARACTER);
+                }
+                escapedValue.append(character);
+            }
+            return escapedValue.toString();
+        }
+
+    }
+
 }
@@ -4,8 +4,11 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * A generic class representing a paginated response containing a list of content items of type R.
@@ -53,6 +56,16 @@ public class AysPage<R> {
      */
     private AysFilter filteredBy;
 
+    /**
+     * The cursor of the next page, which is null if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Whether there is a page after this page.
+     */
+    private Boolean hasNext;
+
     /**
      * Creates a new paginated response of type C from a Spring {@link Page} object.
      *
@@ -65,18 +78,7 @@ public class AysPage<R> {
     public static <E, C> AysPage<C> of(final Page<E> pageableEntities,
                                        final List<C> content) {
 
-        final var responseBuilder = AysPage.<C>builder()
-                .content(content)
-                .pageNumber(pageableEntities.getNumber() + 1)
-                .pageSize(content.size())
-                .totalPageCount(pageableEntities.getTotalPages())
-                .totalElementCount(pageableEntities.getTotalElements());
-
-        if (pageableEntities.getSort().isSorted()) {
-            responseBuilder.orderedBy(AysSort.of(pageableEntities.getSort()).getOrders());
-        }
-
-        return responseBuilder.build();
+        return AysPage.of(null, pageableEntities, pageableEntities.getTotalElements(), content);
     }
 
     /**
@@ -93,18 +95,72 @@ public class AysPage<R> {
                                        final Page<E> pageableEntities,
                                        final List<C> content) {
 
+        return AysPage.of(filter, pageableEntities, pageableEntities.getTotalElements(), content);
+    }
+
+    /**
+     * Creates a new paginated response of type C from a Spring {@link Slice} object with filtering,
+     * whose total counts are only filled if the total element count is given.
+     *
+     * @param filter            The filtering parameters to be included in the response.
+     * @param slicedEntities    The Spring {@link Slice} object containing the page information.
+     * @param totalElementCount The total number of elements, or {@code null} if they are not counted.
+     * @param content           The content items to be included in the response.
+     * @param <E>               The type of entities in the Spring {@link Slice} object.
+     * @param <C>               The type of content items in the response.
+     * @return The paginated response.
+     */
+    public static <E, C> AysPage<C> of(final AysFilter filter,
+                                       final Slice<E> slicedEntities,
+                                       final Long totalElementCount,
+                                       final List<C> content) {
+
         final var responseBuilder = AysPage.<C>builder()
                 .content(content)
-                .pageNumber(pageableEntities.getNumber() + 1)
+                .pageNumber(slicedEntities.getNumber() + 1)
                 .pageSize(content.size())
-                .totalPageCount(pageableEntities.getTotalPages())
-                .totalElementCount(pageableEntities.getTotalElements())
-                .filteredBy(filter);
+                .filteredBy(filter)
+                .nextCursor(AysPageCursor.next(slicedEntities))
+                .hasNext(slicedEntities.hasNext());
+
+        if (totalElementCount != null) {
+            final int size = slicedEntities.getSize();
+            responseBuilder
+                    .totalPageCount(size == 0 ? 1 : (int) Math.ceil((double) totalElementCount / (double) size))
+                    .totalElementCount(totalElementCount);
+        }
 
-        if (pageableEntities.getSort().isSorted()) {
-            responseBuilder.orderedBy(AysSort.of(pageableEntities.getSort()).getOrders());
+        final Sort orderedBy = Sort.by(
+                slicedEntities.getSort()
+                        .filter(order -> !AysPageable.TIEBREAKER_PROPERTY.equals(order.getProperty()))
+                        .toList()
+        );
+        if (orderedBy.isSorted()) {
+            responseBuilder.orderedBy(AysSort.of(orderedBy).getOrders());
         }
 
         return responseBuilder.build();
     }
+
+    /**
+     * Creates a new paginated response with the same page information and the mapped content items.
+     *
+     * @param mapper The mapper of the content items.
+     * @param <C>    The type of mapped content items.
+     * @return The paginated response with the mapped content items.
+     */
+    public <C> AysPage<C> map(final Function<List<R>, List<C>> mapper) {
+        return AysPage.<C>builder()
+                .content(mapper.apply(this.content))
+                .pageNumber(this.pageNumber)
+                .pageSize(this.pageSize)
+                .totalPageCount(this.totalPageCount)
+                .totalElementCount(this.totalElementCount)
+                .orderedBy(this.orderedBy)
+                .filteredBy(this.filteredBy)
+                .nextCursor(this.nextCursor)
+                .hasNext(this.hasNext)
+                .build();
+    }
+
 }
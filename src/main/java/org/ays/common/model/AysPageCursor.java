@@ -0,0 +1,232 @@
+package org.ays.common.model;
+
+import com.google.gson.reflect.TypeToken;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.ays.common.util.AysJsonUtil;
+import org.ays.common.util.exception.AysPageCursorNotValidException;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Continuation token of the keyset (seek) pagination, which is the opaque `cursor` of {@link AysPageable}
+ * and the `nextCursor` of {@link AysPage}.
+ * <p>
+ * A cursor holds the sort key values of the last row of a page together with the sorting they belong to.
+ * Instead of skipping the rows of the previous pages with an offset, the next page is read by seeking
+ * the rows which come after those values in the same sorting, so that the index on the sort keys is
+ * used and reading a deep page costs the same as reading the first one.
+ * </p>
+ * <p>
+ * Null sort keys are ordered as the smallest values, which is first in the ascending and last in the descending
+ * orders. This is the default ordering of MySQL and the explicit ordering of the queries of the pages, so a null
+ * value of the last row is written to the cursor and sought in the same ordering.
+ * </p>
+ */
+final class AysPageCursor {
+
+    private static final Type CONTENT_TYPE = new TypeToken<List<String>>() {
+    }.getType();
+
+    private final String orders;
+    private final List<String> values;
+
+    private AysPageCursor(final String orders, final List<String> values) {
+        this.orders = orders;
+        this.values = values;
+    }
+
+
+    /**
+     * Creates the cursor of the page which comes after the given page.
+     *
+     * @param pageableEntities the page whose last entity the cursor points to
+     * @return the encoded cursor, or {@code null} if there is no next page or the page is not sorted
+     */
+    static String next(final Slice<?> pageableEntities) {
+
+        if (!pageableEntities.hasNext() || !pageableEntities.getSort().isSorted()) {
+            return null;
+        }
+
+        final List<?> entities = pageableEntities.getContent();
+        final PropertyAccessor lastEntity = PropertyAccessorFactory
+                .forDirectFieldAccess(entities.get(entities.size() - 1));
+
+        final List<String> content = new ArrayList<>();
+        content.add(toString(pageableEntities.getSort()));
+        for (final Sort.Order order : pageableEntities.getSort()) {
+            final Object value = lastEntity.getPropertyValue(order.getProperty());
+            if (value == null) {
+                content.add(null);
+            } else {
+                content.add(value instanceof Enum<?> enumValue ? enumValue.name() : value.toString());
+            }
+        }
+
+        final byte[] json = AysJsonUtil.toJson(content).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+    }
+
+    /**
+     * Decodes the given cursor.
+     *
+     * @param cursor the encoded cursor
+     * @return the decoded cursor
+     * @throws AysPageCursorNotValidException if the cursor cannot be decoded
+     */
+    static AysPageCursor decode(final String cursor) {
+
+        final List<String> content;
+        try {
+            final byte[] json = Base64.getUrlDecoder().decode(cursor);
+            content = AysJsonUtil.fromJson(new String(json, StandardCharsets.UTF_8), CONTENT_TYPE);
+        } catch (RuntimeException exception) {
+            throw new AysPageCursorNotValidException(cursor);
+        }
+
+        if (content == null || content.size() < 2 || content.get(0) == null) {
+            throw new AysPageCursorNotValidException(cursor);
+        }
+
+        return new AysPageCursor(content.get(0), content.subList(1, content.size()));
+    }
+
+
+    /**
+     * Creates the seek predicate which matches the rows coming after the cursor in the given sorting.
+     * <p>
+     * For the sort keys `k1, k2, ..., kn` and the cursor values `v1, v2, ..., vn`, a row comes after the cursor if
+     * `k1 > v1`, or `k1 = v1 and k2 > v2`, ..., or `k1 = v1 and ... and kn > vn`, where `>` is `<` for the
+     * descending keys. As the null keys are the smallest values, `k > null` is `k is not null`, `k < v` also
+     * matches the null keys, `k < null` matches no rows and `k = null` is `k is null`.
+     * </p>
+     *
+     * @param sort the sorting of the requested page, which must be the sorting of the cursor
+     * @param <E>  the type of the entity
+     * @return the seek specification
+     * @throws AysPageCursorNotValidException if the cursor belongs to another sorting, or if its values cannot be
+     *                                        parsed to the types of their sort keys, which is also the case for the
+     *                                        types of sort keys which are not supported by page cursors
+     */
+    <E> Specification<E> toSpecification(final Sort sort) {
+
+        if (!this.orders.equals(toString(sort)) || this.values.size() != sort.toList().size()) {
+            throw new AysPageCursorNotValidException(this.orders);
+        }
+
+        final List<Sort.Order> sortOrders = sort.toList();
+        return (root, query, criteriaBuilder) -> {
+
+            final List<Predicate> predicates = new ArrayList<>();
+            final List<Predicate> equalities = new ArrayList<>();
+            for (int i = 0; i < sortOrders.size(); i++) {
+
+                final Sort.Order order = sortOrders.get(i);
+                final Path<Comparable<Object>> path = root.get(order.getProperty());
+                final String text = this.values.get(i);
+
+                if (text == null) {
+                    if (order.isAscending()) {
+                        final List<Predicate> conjunction = new ArrayList<>(equalities);
+                        conjunction.add(criteriaBuilder.isNotNull(path));
+                        predicates.add(criteriaBuilder.and(conjunction.toArray(new Predicate[0])));
+                    }
+                    equalities.add(criteriaBuilder.isNull(path));
+                    continue;
+                }
+
+                final Comparable<Object> value = this.parse(path.getJavaType(), text);
+
+                final List<Predicate> conjunction = new ArrayList<>(equalities);
+                if (order.isAscending()) {
+                    conjunction.add(criteriaBuilder.greaterThan(path, value));
+                } else {
+                    final Predicate lessThan = criteriaBuilder.lessThan(path, value);
+                    conjunction.add(criteriaBuilder.or(lessThan, criteriaBuilder.isNull(path)));
+                }
+                predicates.add(criteriaBuilder.and(conjunction.toArray(new Predicate[0])));
+
+                equalities.add(criteriaBuilder.equal(path, value));
+            }
+
+            return criteriaBuilder.or(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Creates the orders of the given sorting, in which the null sort keys are explicitly ordered as the smallest
+     * values as the seek predicates expect. This is the default ordering of MySQL, so the orders are rendered
+     * without null ordering expressions and can still be read from the indexes on the sort keys.
+     *
+     * @param sort            the sorting of the page
+     * @param root            the root of the query
+     * @param criteriaBuilder the criteria builder of the query
+     * @return the orders of the query
+     */
+    static List<Order> toOrders(final Sort sort, final Root<?> root, final CriteriaBuilder criteriaBuilder) {
+
+        final HibernateCriteriaBuilder hibernateCriteriaBuilder = (HibernateCriteriaBuilder) criteriaBuilder;
+
+        final List<Order> orders = new ArrayList<>();
+        for (final Sort.Order order : sort) {
+            final Path<?> path = root.get(order.getProperty());
+            if (order.isAscending()) {
+                orders.add(hibernateCriteriaBuilder.asc(path, true));
+            } else {
+                orders.add(hibernateCriteriaBuilder.desc(path, false));
+            }
+        }
+        return orders;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Comparable<Object> parse(final Class<?> type, final String value) {
+        try {
+            if (String.class.equals(type)) {
+                return (Comparable) value;
+            }
+            if (LocalDateTime.class.equals(type)) {
+                return (Comparable) LocalDateTime.parse(value);
+            }
+            if (LocalDate.class.equals(type)) {
+                return (Comparable) LocalDate.parse(value);
+            }
+            if (Integer.class.equals(type) || int.class.equals(type)) {
+                return (Comparable) Integer.valueOf(value);
+            }
+            if (Long.class.equals(type) || long.class.equals(type)) {
+                return (Comparable) Long.valueOf(value);
+            }
+            if (type.isEnum()) {
+                return (Comparable) Enum.valueOf((Class<? extends Enum>) type, value);
+            }
+        } catch (RuntimeException exception) {
+            throw new AysPageCursorNotValidException(value);
+        }
+        throw new AysPageCursorNotValidException(value);
+    }
+
+    private static String toString(final Sort sort) {
+        return sort.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+    }
+
+}
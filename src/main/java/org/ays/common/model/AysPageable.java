@@ -1,14 +1,23 @@
 package org.ays.common.model;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Root;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.apache.commons.collections4.CollectionUtils;
+import org.ays.common.model.enums.AysPageCount;
 import org.hibernate.validator.constraints.Range;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
 
 /**
  * The class `Paging` is a data model used for pagination operations. It includes essential
@@ -19,6 +28,9 @@ import org.springframework.data.domain.Pageable;
  * <p>
  * Note: This class is designed to assist in proper pagination operations and can be used
  * to ensure that parameters like page number or page size stay within certain bounds.
+ * <p>
+ * Besides the page number, a page can be requested with the `cursor` of the previous page, which reads the
+ * page by seeking the rows after the last row of the previous page instead of skipping the rows before it.
  */
 @Getter
 @Setter
@@ -41,6 +53,25 @@ public class AysPageable extends AysSort {
     @Range(min = 1, max = 99999999)
     private int pageSize;
 
+    /**
+     * Represents the continuation token of the keyset pagination, which is the `nextCursor` of the previous page.
+     * When it is given, the page number is ignored and the page after the previous page is returned.
+     * The orders must be the same as the orders of the previous page.
+     */
+    @Size(max = 1024)
+    private String cursor;
+
+    /**
+     * Represents how the total element count of the page is calculated, which is {@link AysPageCount#EXACT} if it is not given.
+     */
+    private AysPageCount count;
+
+
+    /**
+     * The property which is appended to the orders, so that rows with equal sort keys are always in the same order.
+     */
+    static final String TIEBREAKER_PROPERTY = "id";
+
     /**
      * Converts the pagination parameters of this request to a Spring {@link Pageable} object.
      *
@@ -48,18 +79,55 @@ public class AysPageable extends AysSort {
      */
     public Pageable toPageable() {
 
+        Sort sort = Sort.unsorted();
         if (CollectionUtils.isNotEmpty(this.getOrders())) {
-            return PageRequest.of(
-                    this.page - 1,
-                    this.pageSize,
-                    this.toSort()
-            );
+            sort = this.toSort();
         }
 
+        final int pageIndex = this.cursor != null ? 0 : this.page - 1;
         return PageRequest.of(
-                this.page - 1,
-                this.pageSize
+                pageIndex,
+                this.pageSize,
+                sort.and(Sort.by(TIEBREAKER_PROPERTY))
         );
     }
 
+    /**
+     * Returns how the total element count of the page is calculated.
+     *
+     * @return the requested {@link AysPageCount}, or {@link AysPageCount#EXACT} if it is not given
+     */
+    public AysPageCount getCount() {
+        return this.count != null ? this.count : AysPageCount.EXACT;
+    }
+
+    /**
+     * Converts the cursor of this request to the specification which matches the rows after the previous page.
+     *
+     * @param <E> the type of the entity
+     * @return the seek specification of the cursor, or a specification matching all rows if there is no cursor
+     * @throws org.ays.common.util.exception.AysPageCursorNotValidException if the cursor is not valid for the orders
+     */
+    public <E> Specification<E> toSeekSpecification() {
+
+        if (this.cursor == null) {
+            return Specification.allOf();
+        }
+
+        return AysPageCursor.decode(this.cursor)
+                .toSpecification(this.toPageable().getSort());
+    }
+
+    /**
+     * Converts the sorting of this request to the orders of the query of the page, in which the null sort keys
+     * are ordered as the seek specification of the cursor expects.
+     *
+     * @param root            the root of the query
+     * @param criteriaBuilder the criteria builder of the query
+     * @return the orders of the query
+     */
+    public List<Order> toOrders(final Root<?> root, final CriteriaBuilder criteriaBuilder) {
+        return AysPageCursor.toOrders(this.toPageable().getSort(), root, criteriaBuilder);
+    }
+
 }
@@ -3,12 +3,19 @@ package org.ays.common.model.enums;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.util.Set;
+
 @Getter
 @RequiredArgsConstructor
 public enum AysMailTemplate {
 
-    CREATE_PASSWORD("create-password.html");
+    CREATE_PASSWORD("create-password.html", Set.of("userFullName", "url"));
 
     private final String file;
 
+    /**
+     * The names of the `{name}` placeholders of the template, which are the required parameters of its mails.
+     */
+    private final Set<String> parameterNames;
+
 }
@@ -0,0 +1,24 @@
+package org.ays.common.model.enums;
+
+/**
+ * How the total element count of a requested page is calculated.
+ */
+public enum AysPageCount {
+
+    /**
+     * The total element count is counted on every request.
+     */
+    EXACT,
+
+    /**
+     * The total element count is counted once for the same filter and reused until it expires,
+     * so it may be slightly stale.
+     */
+    ESTIMATED,
+
+    /**
+     * The total element count is not counted, and only whether there is a next page is returned.
+     */
+    NONE
+
+}
@@ -115,6 +115,10 @@ public class AysErrorResponse {
          * BAD_REQUEST header.
          */
         BAD_REQUEST("BAD REQUEST"),
+        /**
+         * TOO_MANY_REQUESTS header.
+         */
+        TOO_MANY_REQUESTS("TOO MANY REQUESTS"),
         /**
          * AUTH_ERROR header.
          */
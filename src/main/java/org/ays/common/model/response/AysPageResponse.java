@@ -52,6 +52,16 @@ public class AysPageResponse<R> {
      */
     private AysFilter filteredBy;
 
+    /**
+     * The cursor to request the next page with, which is null if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Whether there is a page after this page.
+     */
+    private Boolean hasNext;
+
 
     /**
      * Builder class for constructing instances of {@link AysPageResponse}.
@@ -74,7 +84,9 @@ public class AysPageResponse<R> {
                     .totalPageCount(page.getTotalPageCount())
                     .totalElementCount(page.getTotalElementCount())
                     .orderedBy(page.getOrderedBy())
-                    .filteredBy(page.getFilteredBy());
+                    .filteredBy(page.getFilteredBy())
+                    .nextCursor(page.getNextCursor())
+                    .hasNext(page.getHasNext());
         }
     }
 }
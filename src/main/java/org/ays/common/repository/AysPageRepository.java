@@ -0,0 +1,177 @@
+package org.ays.common.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.ays.common.model.AysFilter;
+import org.ays.common.model.AysPage;
+import org.ays.common.model.AysPageable;
+import org.ays.common.model.enums.AysPageCount;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads the pages of the list endpoints with the total element count requested by {@link AysPageable#getCount()}.
+ * <p>
+ * A page is always read as a slice of one more row than the page size, which tells whether there is a next page
+ * without counting. The total element count is then
+ * </p>
+ * <ul>
+ *     <li>counted with a second query for {@link AysPageCount#EXACT},</li>
+ *     <li>taken from a Caffeine cache of counts by entity and {@link AysFilter#toCountKey()} for
+ *     {@link AysPageCount#ESTIMATED}, whose entries expire after `ays.pagination.estimated-count.time-to-live-millis`
+ *     and which is bounded by `ays.pagination.estimated-count.maximum-size`,</li>
+ *     <li>not counted at all for {@link AysPageCount#NONE}.</li>
+ * </ul>
+ * <p>
+ * The count is not queried if it is already known from the page itself, which is the case on the last page of
+ * a page number request. Counts are always of the whole filter, also when the page is requested with a cursor.
+ * </p>
+ * <p>
+ * Both queries run on the caller's thread, so that they read the same snapshot through the entity manager
+ * of the caller's read-only transaction.
+ * </p>
+ */
+@Repository
+public class AysPageRepository {
+
+    private final EntityManager entityManager;
+
+    private final Cache<String, Long> estimatedCounts;
+
+    public AysPageRepository(EntityManager entityManager,
+                             @Value("${ays.pagination.estimated-count.time-to-live-millis:60000}") long estimatedCountTimeToLiveMillis,
+                             @Value("${ays.pagination.estimated-count.maximum-size:1000}") int estimatedCountMaximumSize) {
+
+        this.entityManager = entityManager;
+        this.estimatedCounts = Caffeine.newBuilder()
+                .maximumSize(estimatedCountMaximumSize)
+                .expireAfterWrite(Duration.ofMillis(estimatedCountTimeToLiveMillis))
+                .build();
+    }
+
+
+    /**
+     * Finds the requested page of the entities which match the given specification.
+     *
+     * @param entityClass   the class of the entities
+     * @param specification the specification of the filter
+     * @param aysPageable   the pagination configuration
+     * @param filter        the filter which is returned in the page and identifies its estimated count
+     * @param <E>           the type of the entities
+     * @return the page of the entities
+     */
+    public <E> AysPage<E> findAll(final Class<E> entityClass,
+                                  final Specification<E> specification,
+                                  final AysPageable aysPageable,
+                                  final AysFilter filter) {
+
+        final Specification<E> pageSpecification = specification.and(aysPageable.toSeekSpecification());
+
+        final Slice<E> slicedEntities = this.findSlice(entityClass, pageSpecification, aysPageable);
+
+        final Long totalElementCount = switch (aysPageable.getCount()) {
+            case NONE -> null;
+            case EXACT -> this.findKnownCount(aysPageable, slicedEntities)
+                    .orElseGet(() -> this.count(entityClass, specification));
+            case ESTIMATED -> this.findKnownCount(aysPageable, slicedEntities)
+                    .orElseGet(() -> this.countEstimated(entityClass, specification, filter));
+        };
+
+        return AysPage.of(filter, slicedEntities, totalElementCount, slicedEntities.getContent());
+    }
+
+
+    private <E> Slice<E> findSlice(final Class<E> entityClass,
+                                   final Specification<E> specification,
+                                   final AysPageable aysPageable) {
+
+        final Pageable pageable = aysPageable.toPageable();
+
+        final CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<E> query = criteriaBuilder.createQuery(entityClass);
+        final Root<E> root = query.from(entityClass);
+
+        final Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root);
+        query.orderBy(aysPageable.toOrders(root, criteriaBuilder));
+
+        final List<E> entities = this.entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        final boolean hasNext = entities.size() > pageable.getPageSize();
+        final List<E> content = hasNext ? entities.subList(0, pageable.getPageSize()) : entities;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private <E> long count(final Class<E> entityClass, final Specification<E> specification) {
+
+        final CriteriaBuilder criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        final Root<E> root = query.from(entityClass);
+
+        final Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (query.isDistinct()) {
+            query.select(criteriaBuilder.countDistinct(root));
+        } else {
+            query.select(criteriaBuilder.count(root));
+        }
+
+        return this.entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Returns the total element count if it follows from the page, which is when the last page of a
+     * page number request is read.
+     */
+    private Optional<Long> findKnownCount(final AysPageable aysPageable, final Slice<?> slicedEntities) {
+
+        if (aysPageable.getCursor() != null || slicedEntities.hasNext()) {
+            return Optional.empty();
+        }
+
+        if (slicedEntities.hasContent() || slicedEntities.getNumber() == 0) {
+            final long offset = slicedEntities.getPageable().getOffset();
+            return Optional.of(offset + slicedEntities.getNumberOfElements());
+        }
+
+        return Optional.empty();
+    }
+
+    private <E> long countEstimated(final Class<E> entityClass,
+                                    final Specification<E> specification,
+                                    final AysFilter filter) {
+
+        final String filterKey = filter != null ? filter.toCountKey() : "";
+        final String key = entityClass.getName() + ":" + filterKey;
+        final Long estimatedCount = this.estimatedCounts.getIfPresent(key);
+        if (estimatedCount != null) {
+            return estimatedCount;
+        }
+
+        final long count = this.count(entityClass, specification);
+        this.estimatedCounts.put(key, count);
+        return count;
+    }
+
+}
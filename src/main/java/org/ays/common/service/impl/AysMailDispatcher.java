@@ -0,0 +1,292 @@
+package org.ays.common.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.ays.common.model.AysMail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.UnsupportedEncodingException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends the mails of the {@link AysMailOutbox} on a dedicated, bounded pool of mail workers.
+ * <p>
+ * The number of workers and the number of batches waiting for a worker are limited by the
+ * `ays.mail.dispatcher.pool-size` and `ays.mail.dispatcher.queue-capacity` properties.
+ * When the queue is full, a mail is not rejected but left in the outbox,
+ * and the outbox is polled every `ays.mail.dispatcher.poll-delay-millis` for the mails which fit into the queue.
+ * So a slow SMTP relay only delays mails, and it never blocks request threads or any shared pool.
+ * </p>
+ * <p>
+ * A worker sends a batch of up to `ays.mail.dispatcher.batch-size` mails over a single authenticated SMTP connection,
+ * so the pool size is also the maximum number of SMTP connections which are open at the same time.
+ * A mail which is rejected by the relay does not fail the other mails of its batch.
+ * </p>
+ * <p>
+ * A failed mail is attempted again with an exponential backoff, starting from `ays.mail.dispatcher.initial-backoff-millis`
+ * and multiplied by `ays.mail.dispatcher.backoff-multiplier` up to `ays.mail.dispatcher.max-backoff-millis`,
+ * until it has been attempted `ays.mail.dispatcher.max-attempts` times.
+ * </p>
+ * <p>
+ * The queue size, the send latency and size of the batches, the sent and failed mails,
+ * the rejected dispatches and the abandoned mails are published as `ays.mail.*` metrics.
+ * Mails are logged by the id of their outbox entry, so that the recipient addresses are not written to the logs.
+ * </p>
+ */
+@Slf4j
+@Component
+class AysMailDispatcher {
+
+    private final JavaMailSender mailSender;
+    private final AysMailOutbox mailOutbox;
+    private final AysMailTemplateRenderer templateRenderer;
+
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final double backoffMultiplier;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final DistributionSummary batchSizeSummary;
+    private final Counter sentCounter;
+    private final Counter failureCounter;
+    private final Counter rejectionCounter;
+    private final Counter abandonmentCounter;
+
+    AysMailDispatcher(JavaMailSender mailSender,
+                      AysMailOutbox mailOutbox,
+                      AysMailTemplateRenderer templateRenderer,
+                      MeterRegistry meterRegistry,
+                      @Value("${ays.mail.dispatcher.pool-size:2}") int poolSize,
+                      @Value("${ays.mail.dispatcher.queue-capacity:100}") int queueCapacity,
+                      @Value("${ays.mail.dispatcher.batch-size:50}") int batchSize,
+                      @Value("${ays.mail.dispatcher.max-attempts:5}") int maxAttempts,
+                      @Value("${ays.mail.dispatcher.initial-backoff-millis:30000}") long initialBackoffMillis,
+                      @Value("${ays.mail.dispatcher.backoff-multiplier:2}") double backoffMultiplier,
+                      @Value("${ays.mail.dispatcher.max-backoff-millis:3600000}") long maxBackoffMillis,
+                      @Value("${ays.mail.dispatcher.lease-millis:300000}") long leaseMillis) {
+
+        this.mailSender = mailSender;
+        this.mailOutbox = mailOutbox;
+        this.templateRenderer = templateRenderer;
+
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("ays-mail-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.batchSize = batchSize;
+
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMillis);
+        this.backoffMultiplier = backoffMultiplier;
+        this.maxBackoff = Duration.ofMillis(maxBackoffMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+
+        this.successTimer = Timer.builder("ays.mail.send")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failureTimer = Timer.builder("ays.mail.send")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("ays.mail.batch.size")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("ays.mail.sent")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("ays.mail.failures")
+                .register(meterRegistry);
+        this.rejectionCounter = Counter.builder("ays.mail.dispatcher.rejections")
+                .register(meterRegistry);
+        this.abandonmentCounter = Counter.builder("ays.mail.abandoned")
+                .register(meterRegistry);
+        Gauge.builder("ays.mail.dispatcher.queue.size", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * Queues the mails for the workers in batches of `ays.mail.dispatcher.batch-size` mails,
+     * without waiting for them to be sent. Each batch is sent over a single SMTP connection.
+     * The batches which do not fit into the queue stay in the outbox and are dispatched by a later poll.
+     *
+     * @param entries the mails of the outbox to send
+     */
+    void dispatch(final List<AysMailOutbox.Entry> entries) {
+
+        for (int fromIndex = 0; fromIndex < entries.size(); fromIndex += batchSize) {
+
+            final List<AysMailOutbox.Entry> batch = entries.subList(fromIndex, Math.min(fromIndex + batchSize, entries.size()));
+            try {
+                executor.execute(() -> this.attempt(batch));
+            } catch (RejectedExecutionException exception) {
+                rejectionCounter.increment();
+                log.warn("Mail dispatch queue is full, {} mails are left in the outbox", entries.size() - fromIndex);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Dispatches the due mails of the outbox, as many batches as fit into the queue.
+     */
+    @Scheduled(fixedDelayString = "${ays.mail.dispatcher.poll-delay-millis:10000}")
+    public void dispatchDue() {
+
+        final int remainingCapacity = executor.getQueue().remainingCapacity();
+        if (remainingCapacity == 0) {
+            return;
+        }
+
+        try {
+            final List<AysMailOutbox.Entry> entries = mailOutbox.findDue(remainingCapacity * batchSize);
+            this.dispatch(entries);
+        } catch (DataAccessException exception) {
+            log.error("Due mails could not be read from the outbox!", exception);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+
+    private void attempt(final List<AysMailOutbox.Entry> batch) {
+        try {
+            this.send(batch);
+        } catch (DataAccessException exception) {
+            log.error("{} mails could not be updated in the outbox, they are attempted again after their lease!", batch.size(), exception);
+        }
+    }
+
+    private void send(final List<AysMailOutbox.Entry> batch) {
+
+        final Map<MimeMessage, AysMailOutbox.Entry> claimedEntries = new LinkedHashMap<>();
+        for (final AysMailOutbox.Entry entry : batch) {
+
+            if (!mailOutbox.claim(entry, lease)) {
+                continue;
+            }
+
+            try {
+                claimedEntries.put(this.createMimeMessage(entry.getMail()), entry);
+            } catch (Exception exception) {
+                this.handleFailure(entry, exception);
+            }
+        }
+
+        if (claimedEntries.isEmpty()) {
+            return;
+        }
+
+        final Map<Object, Exception> failedMessages = new HashMap<>();
+        final Timer.Sample sample = Timer.start();
+        try {
+            mailSender.send(claimedEntries.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException exception) {
+            failedMessages.putAll(exception.getFailedMessages());
+            if (failedMessages.isEmpty()) {
+                claimedEntries.keySet().forEach(mimeMessage -> failedMessages.put(mimeMessage, exception));
+            }
+        } catch (Exception exception) {
+            claimedEntries.keySet().forEach(mimeMessage -> failedMessages.put(mimeMessage, exception));
+        }
+        final long durationNanos = sample.stop(failedMessages.isEmpty() ? successTimer : failureTimer);
+        batchSizeSummary.record(claimedEntries.size());
+
+        for (final Map.Entry<MimeMessage, AysMailOutbox.Entry> claimedEntry : claimedEntries.entrySet()) {
+
+            final AysMailOutbox.Entry entry = claimedEntry.getValue();
+            final Exception exception = failedMessages.get(claimedEntry.getKey());
+            if (exception != null) {
+                this.handleFailure(entry, exception);
+                continue;
+            }
+
+            mailOutbox.remove(entry);
+            sentCounter.increment();
+            log.trace("Mail {} sent with {} template", entry.getId(), entry.getMail().getTemplate());
+        }
+
+        log.debug("{} of {} mails are sent over one connection in {} ms",
+                claimedEntries.size() - failedMessages.size(), claimedEntries.size(), TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    }
+
+    private void handleFailure(final AysMailOutbox.Entry entry, final Exception exception) {
+
+        failureCounter.increment();
+
+        final AysMail mail = entry.getMail();
+        final int attemptCount = entry.getAttemptCount() + 1;
+        if (attemptCount >= maxAttempts) {
+            mailOutbox.fail(entry, exception.getMessage());
+            abandonmentCounter.increment();
+            log.error("Received error while sending mail {} with {} template, mail is abandoned after {} attempts",
+                    entry.getId(), mail.getTemplate(), attemptCount, exception);
+            return;
+        }
+
+        final LocalDateTime nextAttemptAt = LocalDateTime.now().plus(this.backoff(attemptCount));
+        mailOutbox.reschedule(entry, nextAttemptAt, exception.getMessage());
+        log.warn("Received error while sending mail {} with {} template, mail will be attempted again at {}",
+                entry.getId(), mail.getTemplate(), nextAttemptAt, exception);
+    }
+
+    private Duration backoff(final int attemptCount) {
+        final double backoffMillis = initialBackoff.toMillis() * Math.pow(backoffMultiplier, attemptCount - 1);
+        return Duration.ofMillis((long) Math.min(backoffMillis, maxBackoff.toMillis()));
+    }
+
+
+    private MimeMessage createMimeMessage(final AysMail mail) throws UnsupportedEncodingException, MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+
+        mimeMessage.setSubject(templateRenderer.getTitle(mail.getTemplate()));
+
+        String htmlContent = templateRenderer.render(mail.getTemplate(), mail.getParameters());
+        mimeMessage.setText(htmlContent, "UTF-8", "html");
+
+        mimeMessage.setFrom(new InternetAddress("info@afetyonetimsistemi.org", "Afet Yönetim Sistemi"));
+
+        for (String to : mail.getTo()) {
+            mimeMessage.addRecipients(Message.RecipientType.TO, to);
+        }
+        return mimeMessage;
+    }
+
+}
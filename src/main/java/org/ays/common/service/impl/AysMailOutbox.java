@@ -0,0 +1,215 @@
+package org.ays.common.service.impl;
+
+import com.google.gson.reflect.TypeToken;
+import lombok.Builder;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+import org.ays.common.model.AysMail;
+import org.ays.common.model.enums.AysMailTemplate;
+import org.ays.common.util.AysJsonUtil;
+import org.ays.common.util.AysRandomUtil;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistent queue of the mails to send, backed by the `AYS_MAIL_OUTBOX` table.
+ * <p>
+ * A mail is added to the outbox in the transaction of its caller, so it is only sent if the caller commits,
+ * and it survives restarts until it is sent or has failed permanently.
+ * Before a mail is sent, it is claimed with a conditional update on its attempt count,
+ * so that a mail is sent by only one worker even if several nodes or workers pick it up at the same time.
+ * A claim leases the mail for a while, so that a mail whose worker has crashed is picked up again after the lease.
+ * A sent mail is removed from the outbox, and a permanently failed mail is kept without its template parameters
+ * until it is deleted by the {@link AysMailOutboxPurgeScheduler}.
+ * </p>
+ */
+@Component
+class AysMailOutbox {
+
+    private static final Type RECIPIENTS_TYPE = new TypeToken<List<String>>() {
+    }.getType();
+
+    private static final Type PARAMETERS_TYPE = new TypeToken<Map<String, Object>>() {
+    }.getType();
+
+    private static final int LAST_ERROR_MAX_LENGTH = 512;
+
+    private static final RowMapper<Entry> ENTRY_ROW_MAPPER = (resultSet, rowNumber) -> {
+
+        final AysMail mail = AysMail.builder()
+                .to(AysJsonUtil.fromJson(resultSet.getString("RECIPIENTS"), RECIPIENTS_TYPE))
+                .template(AysMailTemplate.valueOf(resultSet.getString("TEMPLATE")))
+                .parameters(AysJsonUtil.fromJson(resultSet.getString("PARAMETERS"), PARAMETERS_TYPE))
+                .build();
+
+        return Entry.builder()
+                .id(resultSet.getString("ID"))
+                .mail(mail)
+                .attemptCount(resultSet.getInt("ATTEMPT_COUNT"))
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    AysMailOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+
+    /**
+     * Adds the mail to the outbox as due immediately.
+     *
+     * @param mail the mail to send
+     * @return the {@link Entry} of the mail in the outbox
+     */
+    Entry add(final AysMail mail) {
+
+        final Entry entry = Entry.builder()
+                .id(AysRandomUtil.generateUUID())
+                .mail(mail)
+                .attemptCount(0)
+                .build();
+
+        final LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(
+                "INSERT INTO AYS_MAIL_OUTBOX " +
+                        "(ID, RECIPIENTS, TEMPLATE, PARAMETERS, STATUS, ATTEMPT_COUNT, NEXT_ATTEMPT_AT, CREATED_AT) " +
+                        "VALUES (?, ?, ?, ?, ?, 0, ?, ?)",
+                entry.getId(),
+                AysJsonUtil.toJson(mail.getTo()),
+                mail.getTemplate().name(),
+                AysJsonUtil.toJson(mail.getParameters()),
+                Status.PENDING.name(),
+                now,
+                now
+        );
+
+        return entry;
+    }
+
+    /**
+     * Finds the pending mails whose next attempt is due, in the order of their due time.
+     *
+     * @param limit the maximum number of mails to find
+     * @return the due {@link Entry} list
+     */
+    List<Entry> findDue(final int limit) {
+        return jdbcTemplate.query(
+                "SELECT ID, RECIPIENTS, TEMPLATE, PARAMETERS, ATTEMPT_COUNT FROM AYS_MAIL_OUTBOX " +
+                        "WHERE STATUS = ? AND NEXT_ATTEMPT_AT <= ? ORDER BY NEXT_ATTEMPT_AT LIMIT ?",
+                ENTRY_ROW_MAPPER,
+                Status.PENDING.name(), LocalDateTime.now(), limit
+        );
+    }
+
+    /**
+     * Claims the mail for an attempt and leases it for the given duration.
+     * The claim fails if another worker has already claimed the same attempt of the mail.
+     *
+     * @param entry the mail to claim
+     * @param lease the duration after which the mail is due again if the attempt does not complete
+     * @return {@code true} if the mail is claimed
+     */
+    boolean claim(final Entry entry, final Duration lease) {
+
+        final LocalDateTime now = LocalDateTime.now();
+        final int updatedCount = jdbcTemplate.update(
+                "UPDATE AYS_MAIL_OUTBOX SET ATTEMPT_COUNT = ATTEMPT_COUNT + 1, NEXT_ATTEMPT_AT = ?, UPDATED_AT = ? " +
+                        "WHERE ID = ? AND STATUS = ? AND ATTEMPT_COUNT = ?",
+                now.plus(lease), now, entry.getId(), Status.PENDING.name(), entry.getAttemptCount()
+        );
+        return updatedCount > 0;
+    }
+
+    /**
+     * Removes the sent mail from the outbox.
+     *
+     * @param entry the sent mail
+     */
+    void remove(final Entry entry) {
+        jdbcTemplate.update("DELETE FROM AYS_MAIL_OUTBOX WHERE ID = ?", entry.getId());
+    }
+
+    /**
+     * Schedules the next attempt of the mail after a failed attempt.
+     *
+     * @param entry         the failed mail
+     * @param nextAttemptAt the time of the next attempt
+     * @param error         the error of the failed attempt
+     */
+    void reschedule(final Entry entry, final LocalDateTime nextAttemptAt, final String error) {
+        jdbcTemplate.update(
+                "UPDATE AYS_MAIL_OUTBOX SET NEXT_ATTEMPT_AT = ?, LAST_ERROR = ?, UPDATED_AT = ? WHERE ID = ?",
+                nextAttemptAt, StringUtils.truncate(error, LAST_ERROR_MAX_LENGTH), LocalDateTime.now(), entry.getId()
+        );
+    }
+
+    /**
+     * Marks the mail as permanently failed, so that it is not attempted again.
+     * The template parameters of the mail are cleared, because they may carry credentials such as password create links,
+     * which must not be kept once the mail will not be sent any more.
+     *
+     * @param entry the failed mail
+     * @param error the error of the last attempt
+     */
+    void fail(final Entry entry, final String error) {
+        jdbcTemplate.update(
+                "UPDATE AYS_MAIL_OUTBOX SET STATUS = ?, PARAMETERS = ?, LAST_ERROR = ?, UPDATED_AT = ? WHERE ID = ?",
+                Status.FAILED.name(), AysJsonUtil.toJson(Map.of()), StringUtils.truncate(error, LAST_ERROR_MAX_LENGTH),
+                LocalDateTime.now(), entry.getId()
+        );
+    }
+
+    /**
+     * Deletes a chunk of the permanently failed mails which have failed before the given threshold.
+     *
+     * @param threshold the time before which the failed mails are deleted
+     * @param limit     the maximum number of mails to delete
+     * @return the number of deleted mails
+     */
+    int deleteAllFailedBefore(final LocalDateTime threshold, final int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM AYS_MAIL_OUTBOX WHERE STATUS = ? AND UPDATED_AT < ? LIMIT ?",
+                Status.FAILED.name(), threshold, limit
+        );
+    }
+
+
+    /**
+     * Status of a mail in the outbox.
+     */
+    enum Status {
+
+        /**
+         * The mail is waiting for its next attempt, or is being sent.
+         */
+        PENDING,
+
+        /**
+         * All attempts of the mail have failed.
+         */
+        FAILED
+
+    }
+
+    /**
+     * A mail in the outbox, together with the number of its attempts at the time it was read.
+     */
+    @Getter
+    @Builder
+    static class Entry {
+
+        private final String id;
+        private final AysMail mail;
+        private final int attemptCount;
+
+    }
+
+}
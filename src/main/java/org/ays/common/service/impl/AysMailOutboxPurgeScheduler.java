@@ -0,0 +1,76 @@
+package org.ays.common.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ays.common.config.AysSchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Scheduler component for deleting the permanently failed mails of the {@link AysMailOutbox}.
+ * <p>
+ * A failed mail is kept for `ays.scheduler.mail-outbox-purge.retention`, so that its recipients and last error
+ * can be looked into, and is deleted afterwards in chunks of `ays.scheduler.mail-outbox-purge.chunk-size` mails.
+ * When several nodes run the application, only the node which acquires the `MAIL_OUTBOX_PURGE` lock
+ * of {@link AysSchedulerLock} deletes the mails, the other nodes skip the purge.
+ * The scheduler is enabled if the property `ays.scheduler.mail-outbox-purge.enable` is set to `true`.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ays.scheduler.mail-outbox-purge.enable", havingValue = "true")
+class AysMailOutboxPurgeScheduler {
+
+    private static final String LOCK_NAME = "MAIL_OUTBOX_PURGE";
+
+    private final Duration retention;
+    private final int chunkSize;
+    private final Duration lockAtMostFor;
+    private final Duration lockAtLeastFor;
+    private final AysMailOutbox mailOutbox;
+    private final AysSchedulerLock schedulerLock;
+
+    AysMailOutboxPurgeScheduler(@Value("${ays.scheduler.mail-outbox-purge.retention:P7D}") Duration retention,
+                                @Value("${ays.scheduler.mail-outbox-purge.chunk-size:1000}") int chunkSize,
+                                @Value("${ays.scheduler.mail-outbox-purge.lock-at-most-for:PT10M}") Duration lockAtMostFor,
+                                @Value("${ays.scheduler.mail-outbox-purge.lock-at-least-for:PT1M}") Duration lockAtLeastFor,
+                                AysMailOutbox mailOutbox,
+                                AysSchedulerLock schedulerLock) {
+
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.lockAtMostFor = lockAtMostFor;
+        this.lockAtLeastFor = lockAtLeastFor;
+        this.mailOutbox = mailOutbox;
+        this.schedulerLock = schedulerLock;
+
+        log.info("MailOutboxPurgeScheduler is enabled.");
+    }
+
+    /**
+     * Deletes the mails which have failed before the retention, chunk by chunk while the lease of the scheduler lock is held.
+     */
+    @Scheduled(cron = "${ays.scheduler.mail-outbox-purge.cron}")
+    public void purgeFailedMails() {
+        schedulerLock.executeWithLock(LOCK_NAME, lockAtMostFor, lockAtLeastFor, this::purgeFailedMails);
+    }
+
+    private void purgeFailedMails(final AysSchedulerLock.Lease lease) {
+
+        final LocalDateTime threshold = LocalDateTime.now().minus(retention);
+
+        long deletedCount = 0;
+        int deletedCountOfChunk;
+        do {
+            deletedCountOfChunk = mailOutbox.deleteAllFailedBefore(threshold, chunkSize);
+            deletedCount += deletedCountOfChunk;
+        } while (deletedCountOfChunk == chunkSize && schedulerLock.isHeld(lease));
+
+        log.info("{} failed mails which have failed before {} have been deleted from the outbox", deletedCount, threshold);
+    }
+
+}
@@ -1,96 +1,56 @@
 package org.ays.common.service.impl;
 
-import jakarta.mail.Message;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.InternetAddress;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.ays.common.model.AysMail;
-import org.ays.common.model.enums.AysMailTemplate;
 import org.ays.common.service.AysMailService;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
-import org.springframework.util.FileCopyUtils;
-import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
-
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
-
-@Slf4j
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * Sends mails through the {@link AysMailOutbox}, so that the servlet thread does not wait for SMTP
+ * and queued mails survive restarts.
+ * <p>
+ * A mail is added to the outbox in the transaction of the caller and is handed over to the {@link AysMailDispatcher}
+ * after the transaction commits, or immediately if there is no transaction.
+ * </p>
+ */
 @Service
 @RequiredArgsConstructor
 class AysMailServiceImpl implements AysMailService {
 
-    private final JavaMailSender mailSender;
+    private final AysMailOutbox mailOutbox;
+    private final AysMailDispatcher mailDispatcher;
 
+    /**
+     * Adds the mail to the outbox in the read-write transaction of the caller, or in a new one if there is none,
+     * and dispatches it after that transaction commits.
+     *
+     * @param mail the mail to send
+     */
     @Override
+    @Transactional
     public void send(final AysMail mail) {
-
-        CompletableFuture.runAsync(() -> this.sendEmail(mail))
-                .orTimeout(5, TimeUnit.SECONDS)
-                .exceptionally(throwable -> {
-                    log.warn("Mail not sent to {} in 5 seconds with {} template", mail.getTo(), mail.getTemplate());
-                    throw new AsyncRequestTimeoutException();
-                });
-
+        final AysMailOutbox.Entry entry = mailOutbox.add(mail);
+        this.dispatchAfterCommit(entry);
     }
 
-    private void sendEmail(final AysMail mail) {
-
-        try {
-
-            MimeMessage mimeMessage = this.createMimeMessage(mail);
+    private void dispatchAfterCommit(final AysMailOutbox.Entry entry) {
 
-            mailSender.send(mimeMessage);
-
-            log.trace("Mail sent to {} with {} template", mail.getTo(), mail.getTemplate());
-
-        } catch (Exception exception) {
-            log.error("Received error while sending mail to {} with {} template", mail.getTo(), mail.getTemplate(), exception);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            mailDispatcher.dispatch(List.of(entry));
+            return;
         }
 
-    }
-
-    private MimeMessage createMimeMessage(final AysMail mail) throws IOException, MessagingException {
-        MimeMessage mimeMessage = mailSender.createMimeMessage();
-
-        String htmlContent = this.findTemplate(mail.getTemplate());
-
-        String title = this.findTitle(htmlContent);
-        mimeMessage.setSubject(title);
-
-        String htmlContentWithParameters = this.addParameters(htmlContent, mail.getParameters());
-        mimeMessage.setText(htmlContentWithParameters, "UTF-8", "html");
-
-        mimeMessage.setFrom(new InternetAddress("info@afetyonetimsistemi.org", "Afet Yönetim Sistemi"));
-
-        for (String to : mail.getTo()) {
-            mimeMessage.addRecipients(Message.RecipientType.TO, to);
-        }
-        return mimeMessage;
-    }
-
-    private String findTemplate(AysMailTemplate template) throws IOException {
-        ClassPathResource resource = new ClassPathResource("mail/template/" + template.getFile());
-        byte[] binaryData = FileCopyUtils.copyToByteArray(resource.getInputStream());
-        return new String(binaryData, StandardCharsets.UTF_8);
-    }
-
-    private String findTitle(String htmlContent) {
-        return htmlContent.substring(htmlContent.indexOf("<title>") + 7, htmlContent.indexOf("</title>"));
-    }
-
-    private String addParameters(String htmlContent, Map<String, Object> parameters) {
-        String template = htmlContent;
-        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
-            template = template.replace("{" + parameter.getKey() + "}", parameter.getValue().toString());
-        }
-        return template;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mailDispatcher.dispatch(List.of(entry));
+            }
+        });
     }
 
 }
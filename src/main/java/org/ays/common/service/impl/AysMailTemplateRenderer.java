@@ -0,0 +1,178 @@
+package org.ays.common.service.impl;
+
+import lombok.Getter;
+import org.ays.common.model.enums.AysMailTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renders the HTML content of mails from the templates of {@link AysMailTemplate}.
+ * <p>
+ * All templates are read and compiled once, when the application starts, into the literal chunks between their
+ * `{name}` placeholders, so that a mail is rendered in a single pass into a presized buffer.
+ * A template whose placeholders do not match the parameter names of its {@link AysMailTemplate}
+ * fails the startup instead of the mails which use it.
+ * </p>
+ */
+@Component
+class AysMailTemplateRenderer {
+
+    private static final String TEMPLATE_DIRECTORY = "mail/template/";
+
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([a-zA-Z][a-zA-Z0-9]*)}");
+
+    private final Map<AysMailTemplate, CompiledTemplate> compiledTemplates = new EnumMap<>(AysMailTemplate.class);
+
+    AysMailTemplateRenderer() {
+        for (final AysMailTemplate template : AysMailTemplate.values()) {
+            this.compiledTemplates.put(template, compile(template, read(template)));
+        }
+    }
+
+
+    /**
+     * Returns the title of the template, which is the subject of its mails.
+     *
+     * @param template the template of the mail
+     * @return the content of the `title` element of the template
+     */
+    String getTitle(final AysMailTemplate template) {
+        return this.compiledTemplates.get(template).getTitle();
+    }
+
+    /**
+     * Renders the template by replacing its placeholders with the given parameters.
+     * Parameters which are not placeholders of the template are ignored.
+     *
+     * @param template   the template of the mail
+     * @param parameters the parameters of the mail by placeholder name
+     * @return the rendered HTML content
+     * @throws IllegalArgumentException if a placeholder of the template has no parameter
+     */
+    String render(final AysMailTemplate template, final Map<String, Object> parameters) {
+        return this.compiledTemplates.get(template).render(parameters);
+    }
+
+
+    static CompiledTemplate compile(final AysMailTemplate template, final String content) {
+
+        final int titleStartIndex = content.indexOf("<title>");
+        final int titleEndIndex = content.indexOf("</title>");
+        if (titleStartIndex < 0 || titleEndIndex < titleStartIndex) {
+            throw new IllegalStateException(template + " mail template has no title");
+        }
+        final String title = content.substring(titleStartIndex + "<title>".length(), titleEndIndex);
+
+        final List<String> literals = new ArrayList<>();
+        final List<String> placeholders = new ArrayList<>();
+
+        final Matcher matcher = PLACEHOLDER_PATTERN.matcher(content);
+        int literalStartIndex = 0;
+        while (matcher.find()) {
+            literals.add(content.substring(literalStartIndex, matcher.start()));
+            placeholders.add(matcher.group(1));
+            literalStartIndex = matcher.end();
+        }
+        literals.add(content.substring(literalStartIndex));
+
+        final Set<String> unknownPlaceholders = new HashSet<>(placeholders);
+        unknownPlaceholders.removeAll(template.getParameterNames());
+        if (!unknownPlaceholders.isEmpty()) {
+            throw new IllegalStateException(template + " mail template has unknown placeholders " + unknownPlaceholders);
+        }
+
+        final Set<String> missingPlaceholders = new HashSet<>(template.getParameterNames());
+        placeholders.forEach(missingPlaceholders::remove);
+        if (!missingPlaceholders.isEmpty()) {
+            throw new IllegalStateException(template + " mail template has no placeholders for " + missingPlaceholders);
+        }
+
+        return new CompiledTemplate(
+                template,
+                title,
+                literals.toArray(String[]::new),
+                placeholders.toArray(String[]::new)
+        );
+    }
+
+    private static String read(final AysMailTemplate template) {
+        try {
+            final ClassPathResource resource = new ClassPathResource(TEMPLATE_DIRECTORY + template.getFile());
+            final byte[] binaryData = FileCopyUtils.copyToByteArray(resource.getInputStream());
+            return new String(binaryData, StandardCharsets.UTF_8);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(template + " mail template could not be read", exception);
+        }
+    }
+
+
+    /**
+     * A template split into its literal chunks and the placeholders between them.
+     * There is always one more literal than placeholders, and a placeholder is rendered after the literal of its index.
+     */
+    static final class CompiledTemplate {
+
+        private final AysMailTemplate template;
+
+        @Getter
+        private final String title;
+
+        private final String[] literals;
+        private final String[] placeholders;
+        private final int literalsLength;
+
+        private CompiledTemplate(final AysMailTemplate template,
+                                 final String title,
+                                 final String[] literals,
+                                 final String[] placeholders) {
+
+            this.template = template;
+            this.title = title;
+            this.literals = literals;
+            this.placeholders = placeholders;
+
+            int length = 0;
+            for (final String literal : literals) {
+                length += literal.length();
+            }
+            this.literalsLength = length;
+        }
+
+        String render(final Map<String, Object> parameters) {
+
+            final String[] values = new String[this.placeholders.length];
+            int length = this.literalsLength;
+            for (int i = 0; i < this.placeholders.length; i++) {
+                final Object value = parameters.get(this.placeholders[i]);
+                if (value == null) {
+                    throw new IllegalArgumentException(
+                            this.placeholders[i] + " parameter of " + this.template + " mail template is missing"
+                    );
+                }
+                values[i] = value.toString();
+                length += values[i].length();
+            }
+
+            final StringBuilder content = new StringBuilder(length);
+            for (int i = 0; i < values.length; i++) {
+                content.append(this.literals[i]).append(values[i]);
+            }
+            return content.append(this.literals[this.literals.length - 1]).toString();
+        }
+
+    }
+
+}
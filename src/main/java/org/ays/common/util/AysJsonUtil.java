@@ -4,6 +4,8 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import lombok.experimental.UtilityClass;
 
+import java.lang.reflect.Type;
+
 /**
  * This is a utility class to handle JSON operations within the project.
  */
@@ -21,4 +23,17 @@ public class AysJsonUtil {
     public static String toJson(Object object) {
         return GSON.toJson(object);
     }
+
+    /**
+     * Converts a JSON string to an object of the given type.
+     *
+     * @param json the JSON string to convert
+     * @param type the type of the object, which can be a parameterized type
+     * @param <T>  the type of the object
+     * @return the object represented by the JSON string
+     */
+    public static <T> T fromJson(String json, Type type) {
+        return GSON.fromJson(json, type);
+    }
+
 }
@@ -0,0 +1,181 @@
+package org.ays.common.util;
+
+import java.util.UUID;
+
+/**
+ * A compact set of {@link UUID} values backed by primitive arrays with open addressing and linear probing.
+ * <p>
+ * Each UUID is stored as its two 64-bit halves together with the epoch second it was added at,
+ * so that entries older than a threshold can be removed in bulk through {@link #removeAllAddedBefore(long)}.
+ * Compared to a {@code Set<String>}, an entry costs three longs instead of a string object, its backing array and a map node.
+ * </p>
+ * <p>
+ * This class is not thread-safe, callers must guard concurrent access themselves.
+ * </p>
+ */
+public class AysUUIDSet {
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private long[] mostSignificantBits;
+    private long[] leastSignificantBits;
+
+    /**
+     * Epoch seconds the entries were added at, zero marks an empty slot.
+     */
+    private long[] addedAts;
+
+    private int size;
+
+    public AysUUIDSet() {
+        this.allocate(MINIMUM_CAPACITY);
+    }
+
+
+    /**
+     * Adds the given UUID to the set.
+     *
+     * @param uuid    the UUID to add
+     * @param addedAt the epoch second the UUID is added at, must be positive
+     * @return {@code true} if the UUID was not already in the set
+     */
+    public boolean add(final UUID uuid, final long addedAt) {
+
+        if ((this.size + 1) * 2 > this.addedAts.length) {
+            this.rehash(this.addedAts.length * 2);
+        }
+
+        final long most = uuid.getMostSignificantBits();
+        final long least = uuid.getLeastSignificantBits();
+        final int mask = this.addedAts.length - 1;
+
+        int slot = hash(most, least) & mask;
+        while (this.addedAts[slot] != 0) {
+            if (this.mostSignificantBits[slot] == most && this.leastSignificantBits[slot] == least) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        this.mostSignificantBits[slot] = most;
+        this.leastSignificantBits[slot] = least;
+        this.addedAts[slot] = Math.max(addedAt, 1);
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Checks whether the given UUID is in the set.
+     *
+     * @param uuid the UUID to look for
+     * @return {@code true} if the set contains the UUID
+     */
+    public boolean contains(final UUID uuid) {
+
+        final long most = uuid.getMostSignificantBits();
+        final long least = uuid.getLeastSignificantBits();
+        final int mask = this.addedAts.length - 1;
+
+        int slot = hash(most, least) & mask;
+        while (this.addedAts[slot] != 0) {
+            if (this.mostSignificantBits[slot] == most && this.leastSignificantBits[slot] == least) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all entries which were added before the given epoch second and shrinks the set when possible.
+     *
+     * @param threshold the epoch second before which entries are removed
+     * @return the number of removed entries
+     */
+    public int removeAllAddedBefore(final long threshold) {
+
+        int remaining = 0;
+        for (final long addedAt : this.addedAts) {
+            if (addedAt >= threshold) {
+                remaining++;
+            }
+        }
+
+        final int removed = this.size - remaining;
+        if (removed == 0) {
+            return 0;
+        }
+
+        final long[] oldMostSignificantBits = this.mostSignificantBits;
+        final long[] oldLeastSignificantBits = this.leastSignificantBits;
+        final long[] oldAddedAts = this.addedAts;
+
+        this.allocate(capacityFor(remaining));
+        for (int slot = 0; slot < oldAddedAts.length; slot++) {
+            if (oldAddedAts[slot] >= threshold) {
+                this.insert(oldMostSignificantBits[slot], oldLeastSignificantBits[slot], oldAddedAts[slot]);
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the number of entries in the set.
+     *
+     * @return the size of the set
+     */
+    public int size() {
+        return this.size;
+    }
+
+
+    private void rehash(final int capacity) {
+
+        final long[] oldMostSignificantBits = this.mostSignificantBits;
+        final long[] oldLeastSignificantBits = this.leastSignificantBits;
+        final long[] oldAddedAts = this.addedAts;
+
+        this.allocate(capacity);
+        for (int slot = 0; slot < oldAddedAts.length; slot++) {
+            if (oldAddedAts[slot] != 0) {
+                this.insert(oldMostSignificantBits[slot], oldLeastSignificantBits[slot], oldAddedAts[slot]);
+            }
+        }
+    }
+
+    private void insert(final long most, final long least, final long addedAt) {
+        final int mask = this.addedAts.length - 1;
+        int slot = hash(most, least) & mask;
+        while (this.addedAts[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        this.mostSignificantBits[slot] = most;
+        this.leastSignificantBits[slot] = least;
+        this.addedAts[slot] = addedAt;
+        this.size++;
+    }
+
+    private void allocate(final int capacity) {
+        this.mostSignificantBits = new long[capacity];
+        this.leastSignificantBits = new long[capacity];
+        this.addedAts = new long[capacity];
+        this.size = 0;
+    }
+
+    private static int capacityFor(final int size) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(final long most, final long least) {
+        long hash = most ^ least;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash;
+    }
+
+}
@@ -0,0 +1,25 @@
+package org.ays.common.util.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception to be thrown when the cursor of a paging request cannot be read or does not belong to its sorting.
+ */
+public final class AysPageCursorNotValidException extends AysBadRequestException {
+
+    /**
+     * Unique identifier for serialization.
+     */
+    @Serial
+    private static final long serialVersionUID = 3512284934162043721L;
+
+    /**
+     * Constructs a new {@link AysPageCursorNotValidException} with the specified cursor.
+     *
+     * @param cursor the cursor which is not valid
+     */
+    public AysPageCursorNotValidException(final String cursor) {
+        super("page cursor is not valid! cursor:" + cursor);
+    }
+
+}
@@ -0,0 +1,26 @@
+package org.ays.common.util.exception;
+
+import java.io.Serial;
+
+/**
+ * Exception to be thrown when a request cannot be processed because the application is saturated
+ * and the request should be retried later.
+ */
+public abstract class AysTooManyRequestsException extends RuntimeException {
+
+    /**
+     * Unique identifier for serialization.
+     */
+    @Serial
+    private static final long serialVersionUID = -2297465146390722934L;
+
+    /**
+     * Constructs a new {@link AysTooManyRequestsException} with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    protected AysTooManyRequestsException(final String message) {
+        super(message);
+    }
+
+}
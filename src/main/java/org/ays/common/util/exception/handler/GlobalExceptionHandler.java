@@ -9,6 +9,7 @@ import org.ays.common.util.exception.AysAuthException;
 import org.ays.common.util.exception.AysBadRequestException;
 import org.ays.common.util.exception.AysNotExistException;
 import org.ays.common.util.exception.AysProcessException;
+import org.ays.common.util.exception.AysTooManyRequestsException;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -123,6 +124,17 @@ class GlobalExceptionHandler {
                 .build();
     }
 
+    @ExceptionHandler(AysTooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    AysErrorResponse handleTooManyRequestsError(final AysTooManyRequestsException exception) {
+        log.warn(exception.getMessage());
+
+        return AysErrorResponse.builder()
+                .header(AysErrorResponse.Header.TOO_MANY_REQUESTS.getName())
+                .message(exception.getMessage())
+                .build();
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     AysErrorResponse handleProcessError(final Exception exception) {
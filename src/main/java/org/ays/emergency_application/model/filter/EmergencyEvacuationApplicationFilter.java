@@ -3,7 +3,6 @@ package org.ays.emergency_application.model.filter;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
-import org.apache.commons.collections4.CollectionUtils;
 import org.ays.common.model.AysFilter;
 import org.ays.common.util.validation.NoSpecialCharacters;
 import org.ays.emergency_application.model.entity.EmergencyEvacuationApplicationEntity;
@@ -54,53 +53,34 @@ public class EmergencyEvacuationApplicationFilter implements AysFilter {
     @Override
     public Specification<EmergencyEvacuationApplicationEntity> toSpecification() {
 
-        Specification<EmergencyEvacuationApplicationEntity> specification = Specification.where(null);
-
-        if (this.referenceNumber != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(root.get("referenceNumber"), "%" + this.referenceNumber + "%"));
-        }
-
-        if (this.sourceCity != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(root.get("sourceCity"), "%" + this.sourceCity + "%"));
-        }
-
-        if (this.sourceDistrict != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(root.get("sourceDistrict"), "%" + this.sourceDistrict + "%"));
-        }
-
-        if (this.seatingCount != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.equal(root.get("seatingCount"), this.seatingCount));
-        }
-
-        if (this.targetCity != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(root.get("targetCity"), "%" + this.targetCity + "%"));
-        }
-
-        if (this.targetDistrict != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.like(root.get("targetDistrict"), "%" + this.targetDistrict + "%"));
-        }
-
-        if (!CollectionUtils.isEmpty(this.statuses)) {
-            Specification<EmergencyEvacuationApplicationEntity> statusSpecification = this.statuses.stream()
-                    .map(status -> (Specification<EmergencyEvacuationApplicationEntity>) (root, query, criteriaBuilder) ->
-                            criteriaBuilder.equal(root.get("status"), status))
-                    .reduce(Specification::or).orElse(null);
-
-            specification = specification.and(statusSpecification);
-        }
-
-        if (this.isInPerson != null) {
-            specification = specification.and((root, query, criteriaBuilder) ->
-                    criteriaBuilder.equal(root.get("isInPerson"), this.isInPerson));
-        }
-
-        return specification;
+        return Specification.<EmergencyEvacuationApplicationEntity>where(null)
+                .and(AysFilter.containsByFullText("referenceNumber", this.referenceNumber))
+                .and(AysFilter.containsByFullText("sourceCity", this.sourceCity))
+                .and(AysFilter.containsByFullText("sourceDistrict", this.sourceDistrict))
+                .and(AysFilter.equal("seatingCount", this.seatingCount))
+                .and(AysFilter.containsByFullText("targetCity", this.targetCity))
+                .and(AysFilter.containsByFullText("targetDistrict", this.targetDistrict))
+                .and(AysFilter.in("status", this.statuses))
+                .and(AysFilter.equal("isInPerson", this.isInPerson));
+    }
+
+    /**
+     * Builds the key of the emergency evacuation applications matched by this filter, from all of its criteria.
+     *
+     * @return the key of this filter
+     */
+    @Override
+    public String toCountKey() {
+        return AysFilter.CountKey.builder()
+                .with("referenceNumber", this.referenceNumber)
+                .with("sourceCity", this.sourceCity)
+                .with("sourceDistrict", this.sourceDistrict)
+                .with("seatingCount", this.seatingCount)
+                .with("targetCity", this.targetCity)
+                .with("targetDistrict", this.targetDistrict)
+                .withAll("statuses", this.statuses)
+                .with("isInPerson", this.isInPerson)
+                .build();
     }
 
 }
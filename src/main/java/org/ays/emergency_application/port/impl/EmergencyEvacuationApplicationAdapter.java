@@ -3,6 +3,7 @@ package org.ays.emergency_application.port.impl;
 import lombok.RequiredArgsConstructor;
 import org.ays.common.model.AysPage;
 import org.ays.common.model.AysPageable;
+import org.ays.common.repository.AysPageRepository;
 import org.ays.emergency_application.model.EmergencyEvacuationApplication;
 import org.ays.emergency_application.model.entity.EmergencyEvacuationApplicationEntity;
 import org.ays.emergency_application.model.filter.EmergencyEvacuationApplicationFilter;
@@ -11,13 +12,10 @@ import org.ays.emergency_application.model.mapper.EmergencyEvacuationApplication
 import org.ays.emergency_application.port.EmergencyEvacuationApplicationReadPort;
 import org.ays.emergency_application.port.EmergencyEvacuationApplicationSavePort;
 import org.ays.emergency_application.repository.EmergencyEvacuationApplicationRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -35,6 +33,8 @@ class EmergencyEvacuationApplicationAdapter implements EmergencyEvacuationApplic
 
     private final EmergencyEvacuationApplicationRepository emergencyEvacuationApplicationRepository;
 
+    private final AysPageRepository pageRepository;
+
 
     private final EmergencyEvacuationApplicationEntityToDomainMapper emergencyEvacuationApplicationEntityToDomainMapper = EmergencyEvacuationApplicationEntityToDomainMapper.initialize();
     private final EmergencyEvacuationApplicationToEntityMapper emergencyEvacuationApplicationToEntityMapper = EmergencyEvacuationApplicationToEntityMapper.initialize();
@@ -43,8 +43,8 @@ class EmergencyEvacuationApplicationAdapter implements EmergencyEvacuationApplic
     /**
      * Retrieves a paginated list of emergency evacuation applications based on the provided pageable and filter.
      * <p>
-     * Converts the {@link AysPageable} and {@link EmergencyEvacuationApplicationFilter} into a JPA {@link Pageable}
-     * and {@link Specification}, respectively, to query the repository.
+     * Converts the {@link EmergencyEvacuationApplicationFilter} into a JPA {@link Specification}
+     * to query the page requested by the {@link AysPageable} through the {@link AysPageRepository}.
      * Maps the results to domain objects using the {@link EmergencyEvacuationApplicationEntityToDomainMapper}.
      * </p>
      *
@@ -56,24 +56,15 @@ class EmergencyEvacuationApplicationAdapter implements EmergencyEvacuationApplic
     public AysPage<EmergencyEvacuationApplication> findAll(final AysPageable aysPageable,
                                                            final EmergencyEvacuationApplicationFilter filter) {
 
-        final Pageable pageable = aysPageable.toPageable();
-
         final Specification<EmergencyEvacuationApplicationEntity> specification = Optional
                 .ofNullable(filter)
                 .map(EmergencyEvacuationApplicationFilter::toSpecification)
                 .orElse(Specification.allOf());
 
-        final Page<EmergencyEvacuationApplicationEntity> emergencyEvacuationApplicationEntities = emergencyEvacuationApplicationRepository
-                .findAll(specification, pageable);
-
-        final List<EmergencyEvacuationApplication> emergencyEvacuationApplications = emergencyEvacuationApplicationEntityToDomainMapper
-                .map(emergencyEvacuationApplicationEntities.getContent());
+        final AysPage<EmergencyEvacuationApplicationEntity> emergencyEvacuationApplicationEntitiesPage = pageRepository
+                .findAll(EmergencyEvacuationApplicationEntity.class, specification, aysPageable, filter);
 
-        return AysPage.of(
-                filter,
-                emergencyEvacuationApplicationEntities,
-                emergencyEvacuationApplications
-        );
+        return emergencyEvacuationApplicationEntitiesPage.map(emergencyEvacuationApplicationEntityToDomainMapper::map);
     }
 
 
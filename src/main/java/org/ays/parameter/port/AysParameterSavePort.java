@@ -0,0 +1,22 @@
+package org.ays.parameter.port;
+
+import org.ays.parameter.model.AysParameter;
+
+/**
+ * A port interface for saving {@link AysParameter} data.
+ * Defines a method to update the definition of an {@link AysParameter} by its name without overwriting concurrent changes.
+ */
+public interface AysParameterSavePort {
+
+    /**
+     * Updates the definition of the {@link AysParameter} with the name of the given parameter,
+     * if its definition is still the given previous definition.
+     *
+     * @param parameter          the {@link AysParameter} with the name and the new definition
+     * @param previousDefinition the definition which the parameter is expected to have
+     * @return {@code true} if the definition is updated, {@code false} if the parameter does not exist
+     * or its definition has been changed in the meantime
+     */
+    boolean updateDefinition(AysParameter parameter, String previousDefinition);
+
+}
@@ -5,23 +5,25 @@ import org.ays.parameter.model.AysParameter;
 import org.ays.parameter.model.entity.AysParameterEntity;
 import org.ays.parameter.model.mapper.AysParameterEntityToDomainMapper;
 import org.ays.parameter.port.AysParameterReadPort;
+import org.ays.parameter.port.AysParameterSavePort;
 import org.ays.parameter.repository.AysParameterRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
- * An adapter class implementing {@link AysParameterReadPort} for accessing {@link AysParameter} entities.
+ * An adapter class implementing {@link AysParameterReadPort} and {@link AysParameterSavePort} for accessing {@link AysParameter} entities.
  * This class interacts with the underlying repository to fetch the data and uses a mapper
  * to convert entity objects to domain objects.
  */
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
-class AysParameterAdapter implements AysParameterReadPort {
+class AysParameterAdapter implements AysParameterReadPort, AysParameterSavePort {
 
     private final AysParameterRepository parameterRepository;
 
@@ -55,4 +57,25 @@ class AysParameterAdapter implements AysParameterReadPort {
         return parameterEntity.map(parameterEntityToParameterMapper::map);
     }
 
+
+    /**
+     * Updates the definition of the {@link AysParameter} with the name of the given parameter
+     * with a single conditional update statement, if its definition is still the given previous definition.
+     *
+     * @param parameter          the {@link AysParameter} with the name and the new definition
+     * @param previousDefinition the definition which the parameter is expected to have
+     * @return {@code true} if the definition is updated, otherwise {@code false}
+     */
+    @Override
+    @Transactional
+    public boolean updateDefinition(final AysParameter parameter, final String previousDefinition) {
+        final int updatedCount = parameterRepository.updateDefinitionByNameAndDefinition(
+                parameter.getName(),
+                previousDefinition,
+                parameter.getDefinition(),
+                LocalDateTime.now()
+        );
+        return updatedCount > 0;
+    }
+
 }
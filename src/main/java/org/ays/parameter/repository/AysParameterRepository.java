@@ -3,7 +3,10 @@ package org.ays.parameter.repository;
 import org.ays.parameter.model.AysParameter;
 import org.ays.parameter.model.entity.AysParameterEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
 
@@ -29,4 +32,20 @@ public interface AysParameterRepository extends JpaRepository<AysParameterEntity
      */
     Optional<AysParameterEntity> findByName(String name);
 
+    /**
+     * Updates the definition of the {@link AysParameterEntity} with the specified name,
+     * if its definition is still the specified previous definition.
+     *
+     * @param name               the name of the parameter
+     * @param previousDefinition the definition which the parameter is expected to have
+     * @param definition         the new definition
+     * @param updatedAt          the update date
+     * @return the number of updated entities
+     */
+    @Modifying
+    @Query("UPDATE AysParameterEntity parameter " +
+            "SET parameter.definition = :definition, parameter.updatedUser = 'AYS', parameter.updatedAt = :updatedAt " +
+            "WHERE parameter.name = :name AND parameter.definition = :previousDefinition")
+    int updateDefinitionByNameAndDefinition(String name, String previousDefinition, String definition, LocalDateTime updatedAt);
+
 }
@@ -25,4 +25,14 @@ public interface AysParameterService {
      */
     AysParameter findByName(String name);
 
+    /**
+     * Updates the definition of the AysParameter that has the name of the specified parameter,
+     * if its definition is still the specified previous definition.
+     *
+     * @param parameter          the parameter with the name and the new definition
+     * @param previousDefinition the definition which the parameter is expected to have
+     * @return true if the definition is updated, false if the parameter does not exist or its definition has been changed
+     */
+    boolean updateDefinition(AysParameter parameter, String previousDefinition);
+
 }
@@ -3,6 +3,7 @@ package org.ays.parameter.service.impl;
 import lombok.RequiredArgsConstructor;
 import org.ays.parameter.model.AysParameter;
 import org.ays.parameter.port.AysParameterReadPort;
+import org.ays.parameter.port.AysParameterSavePort;
 import org.ays.parameter.service.AysParameterService;
 import org.ays.parameter.util.exception.AysParameterNotExistException;
 import org.springframework.stereotype.Service;
@@ -10,14 +11,15 @@ import org.springframework.stereotype.Service;
 import java.util.Set;
 
 /**
- * Service implementation for retrieving {@link AysParameter} entities.
- * Provides methods to fetch {@link AysParameter} entities based on name or name prefix.
+ * Service implementation for retrieving and saving {@link AysParameter} entities.
+ * Provides methods to fetch {@link AysParameter} entities based on name or name prefix, and to update their definitions.
  */
 @Service
 @RequiredArgsConstructor
 class AysParameterServiceImpl implements AysParameterService {
 
     private final AysParameterReadPort parameterReadPort;
+    private final AysParameterSavePort parameterSavePort;
 
 
     /**
@@ -46,4 +48,18 @@ class AysParameterServiceImpl implements AysParameterService {
                 .orElseThrow(() -> new AysParameterNotExistException(name));
     }
 
+
+    /**
+     * Updates the definition of the {@link AysParameter} that has the name of the given parameter,
+     * if its definition is still the given previous definition.
+     *
+     * @param parameter          the {@link AysParameter} with the name and the new definition
+     * @param previousDefinition the definition which the parameter is expected to have
+     * @return {@code true} if the definition is updated, otherwise {@code false}
+     */
+    @Override
+    public boolean updateDefinition(final AysParameter parameter, final String previousDefinition) {
+        return parameterSavePort.updateDefinition(parameter, previousDefinition);
+    }
+
 }
@@ -77,8 +77,10 @@ public abstract class AysRestControllerTest extends AysTestContainerConfiguratio
         );
         Mockito.when(parameterService.findAll(Mockito.anyString()))
                 .thenReturn(parameters);
+        Mockito.when(parameterService.updateDefinition(Mockito.any(AysParameter.class), Mockito.anyString()))
+                .thenReturn(true);
 
-        this.tokenConfiguration = new AysTokenConfigurationParameter(parameterService);
+        this.tokenConfiguration = new AysTokenConfigurationParameter(parameterService, 60000L);
 
         final Optional<AysUser> superAdmin = userReadPort.findById(AysValidTestData.SuperAdmin.ID);
         final Claims claimsOfMockSuperAdminToken = superAdmin.get().getClaims();
@@ -0,0 +1,66 @@
+package org.ays.auth.model;
+
+import org.ays.AysUnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class AysAuthoritySetTest extends AysUnitTest {
+
+    @Test
+    void givenIdenticalPermissionLists_whenSetsCreated_thenReturnSameInstance() {
+        // Given
+        List<String> mockPermissions = new ArrayList<>(List.of("user:list", "user:detail"));
+        List<String> mockSamePermissions = List.of("user:list", "user:detail");
+
+        // When
+        AysAuthoritySet authoritySet = AysAuthoritySet.of(mockPermissions);
+
+        // Then
+        Assertions.assertSame(authoritySet, AysAuthoritySet.of(mockSamePermissions));
+        Assertions.assertEquals(2, authoritySet.size());
+    }
+
+    @Test
+    void givenPermissions_whenAuthoritiesChecked_thenReturnMembership() {
+        // Given
+        List<String> mockPermissions = List.of("user:list", "user:detail", "user:list");
+
+        // When
+        AysAuthoritySet authoritySet = AysAuthoritySet.of(mockPermissions);
+
+        // Then
+        Assertions.assertEquals(2, authoritySet.size());
+        Assertions.assertTrue(authoritySet.hasAuthority("user:list"));
+        Assertions.assertFalse(authoritySet.hasAuthority("user:create"));
+        Assertions.assertTrue(authoritySet.hasAnyAuthority("user:create", "user:detail"));
+        Assertions.assertFalse(authoritySet.hasAnyAuthority("user:create", "user:update"));
+        Assertions.assertTrue(authoritySet.contains(new SimpleGrantedAuthority("user:detail")));
+        Assertions.assertFalse(authoritySet.isSuperPermitted());
+    }
+
+    @Test
+    void givenSuperPermission_whenSetCreated_thenReturnSuperPermitted() {
+        // Given
+        List<String> mockPermissions = List.of("user:list", AysAuthoritySet.SUPER_PERMISSION);
+
+        // When
+        AysAuthoritySet authoritySet = AysAuthoritySet.of(mockPermissions);
+
+        // Then
+        Assertions.assertTrue(authoritySet.isSuperPermitted());
+    }
+
+    @Test
+    void givenNoPermissions_whenSetCreated_thenReturnEmptySet() {
+
+        // Then
+        Assertions.assertTrue(AysAuthoritySet.of(null).isEmpty());
+        Assertions.assertSame(AysAuthoritySet.of(null), AysAuthoritySet.of(List.of()));
+        Assertions.assertFalse(AysAuthoritySet.of(null).isSuperPermitted());
+    }
+
+}
@@ -0,0 +1,125 @@
+package org.ays.auth.model;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import org.apache.commons.lang3.time.DateUtils;
+import org.ays.AysUnitTest;
+import org.ays.auth.model.enums.AysTokenClaims;
+import org.ays.common.util.AysRandomUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+class AysIdentityTest extends AysUnitTest {
+
+    private final AysIdentity identity = new AysIdentity();
+
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+
+    @Test
+    void givenAuthenticationOfVerifiedToken_whenIdentityRequested_thenReturnSnapshotOfToken() {
+        // Given
+        String mockUserId = AysRandomUtil.generateUUID();
+        String mockInstitutionId = AysRandomUtil.generateUUID();
+        AysVerifiedToken mockVerifiedToken = this.generateVerifiedToken(mockUserId, mockInstitutionId);
+
+        UsernamePasswordAuthenticationToken mockAuthentication = mockVerifiedToken.getAuthentication();
+        SecurityContextHolder.getContext().setAuthentication(mockAuthentication);
+
+        // Then
+        AysIdentity.Snapshot snapshot = identity.getSnapshot();
+
+        Assertions.assertSame(mockAuthentication.getDetails(), snapshot);
+        Assertions.assertEquals(mockUserId, identity.getUserId());
+        Assertions.assertEquals(mockInstitutionId, identity.getInstitutionId());
+        Assertions.assertEquals(mockVerifiedToken.getValue(), identity.getAccessToken());
+        Assertions.assertEquals(mockVerifiedToken.getId(), identity.getAccessTokenId());
+        Assertions.assertSame(mockVerifiedToken.getAuthorities(), identity.getAuthorities());
+        Assertions.assertTrue(identity.isSuperAdmin());
+    }
+
+    @Test
+    void givenAuthenticationWithoutSnapshot_whenIdentityRequested_thenReturnSnapshotOfJwt() {
+        // Given
+        String mockUserId = AysRandomUtil.generateUUID();
+        Jwt mockJwt = Jwt.withTokenValue(AysRandomUtil.generateUUID())
+                .header(AysTokenClaims.TYPE.getValue(), "Bearer")
+                .jti(AysRandomUtil.generateUUID())
+                .claim(AysTokenClaims.USER_ID.getValue(), mockUserId)
+                .issuedAt(Instant.now())
+                .build();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(mockJwt, null, List.of(new SimpleGrantedAuthority("user:list")))
+        );
+
+        // Then
+        Assertions.assertEquals(mockUserId, identity.getUserId());
+        Assertions.assertNull(identity.getInstitutionId());
+        Assertions.assertEquals(mockJwt.getTokenValue(), identity.getAccessToken());
+        Assertions.assertEquals(mockJwt.getId(), identity.getAccessTokenId());
+        Assertions.assertTrue(identity.getAuthorities().hasAuthority("user:list"));
+        Assertions.assertFalse(identity.isSuperAdmin());
+    }
+
+    @Test
+    void givenAuthenticationOfVerifiedToken_whenIdentityReadInAsyncTask_thenReturnSameIdentity() throws Exception {
+        // Given
+        String mockUserId = AysRandomUtil.generateUUID();
+        AysVerifiedToken mockVerifiedToken = this.generateVerifiedToken(mockUserId, AysRandomUtil.generateUUID());
+        SecurityContextHolder.getContext().setAuthentication(mockVerifiedToken.getAuthentication());
+
+        ExecutorService executor = new DelegatingSecurityContextExecutorService(Executors.newSingleThreadExecutor());
+
+        // Then
+        try {
+            AysIdentity.Snapshot snapshot = executor.submit(identity::getSnapshot).get();
+
+            Assertions.assertSame(identity.getSnapshot(), snapshot);
+            Assertions.assertEquals(mockUserId, snapshot.getUserId());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+
+    private AysVerifiedToken generateVerifiedToken(String userId, String institutionId) {
+        JwsHeader mockHeader = Mockito.mock(JwsHeader.class);
+        Mockito.when(mockHeader.getType()).thenReturn("Bearer");
+        Mockito.when(mockHeader.getAlgorithm()).thenReturn("RS512");
+
+        Date issuedAt = new Date();
+        return AysVerifiedToken.builder()
+                .value(AysRandomUtil.generateUUID())
+                .header(mockHeader)
+                .claims(
+                        Jwts.claims()
+                                .id(AysRandomUtil.generateUUID())
+                                .issuedAt(issuedAt)
+                                .expiration(DateUtils.addMinutes(issuedAt, 10))
+                                .add(AysTokenClaims.USER_ID.getValue(), userId)
+                                .add(AysTokenClaims.INSTITUTION_ID.getValue(), institutionId)
+                                .build()
+                )
+                .authorities(AysAuthoritySet.of(List.of(AysAuthoritySet.SUPER_PERMISSION)))
+                .build();
+    }
+
+}
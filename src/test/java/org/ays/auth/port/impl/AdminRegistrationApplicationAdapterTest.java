@@ -15,15 +15,14 @@ import org.ays.common.model.AysPage;
 import org.ays.common.model.AysPageBuilder;
 import org.ays.common.model.AysPageable;
 import org.ays.common.model.AysPageableBuilder;
+import org.ays.common.repository.AysPageRepository;
 import org.ays.common.util.AysRandomUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
@@ -38,6 +37,9 @@ class AdminRegistrationApplicationAdapterTest extends AysUnitTest {
     @Mock
     private AdminRegistrationApplicationRepository adminRegistrationApplicationRepository;
 
+    @Mock
+    private AysPageRepository pageRepository;
+
 
     private final AdminRegistrationApplicationEntityToDomainMapper adminRegistrationApplicationEntityToDomainMapper = AdminRegistrationApplicationEntityToDomainMapper.initialize();
     private final AdminRegistrationApplicationToEntityMapper adminRegistrationApplicationToEntityMapper = AdminRegistrationApplicationToEntityMapper.initialize();
@@ -59,8 +61,8 @@ class AdminRegistrationApplicationAdapterTest extends AysUnitTest {
                         .withValidValues()
                         .build()
         );
-        Page<AdminRegistrationApplicationEntity> mockApplicationEntitiesPage = new PageImpl<>(mockApplicationEntities);
-        Mockito.when(adminRegistrationApplicationRepository.findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class)))
+        AysPage<AdminRegistrationApplicationEntity> mockApplicationEntitiesPage = AysPage.of(mockFilter, new PageImpl<>(mockApplicationEntities), mockApplicationEntities);
+        Mockito.when(pageRepository.findAll(Mockito.eq(AdminRegistrationApplicationEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any()))
                 .thenReturn(mockApplicationEntitiesPage);
 
         List<AdminRegistrationApplication> mockApplications = adminRegistrationApplicationEntityToDomainMapper
@@ -75,8 +77,8 @@ class AdminRegistrationApplicationAdapterTest extends AysUnitTest {
         AysPageBuilder.assertEquals(mockApplicationsPage, applicationsPage);
 
         // Verify
-        Mockito.verify(adminRegistrationApplicationRepository, Mockito.times(1))
-                .findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class));
+        Mockito.verify(pageRepository, Mockito.times(1))
+                .findAll(Mockito.eq(AdminRegistrationApplicationEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any());
     }
 
     @Test
@@ -99,8 +101,8 @@ class AdminRegistrationApplicationAdapterTest extends AysUnitTest {
                         .withStatus(AdminRegistrationApplicationStatus.WAITING)
                         .build()
         );
-        Page<AdminRegistrationApplicationEntity> mockApplicationEntitiesPage = new PageImpl<>(mockApplicationEntities);
-        Mockito.when(adminRegistrationApplicationRepository.findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class)))
+        AysPage<AdminRegistrationApplicationEntity> mockApplicationEntitiesPage = AysPage.of(mockFilter, new PageImpl<>(mockApplicationEntities), mockApplicationEntities);
+        Mockito.when(pageRepository.findAll(Mockito.eq(AdminRegistrationApplicationEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any()))
                 .thenReturn(mockApplicationEntitiesPage);
 
         List<AdminRegistrationApplication> mockApplications = adminRegistrationApplicationEntityToDomainMapper
@@ -115,8 +117,8 @@ class AdminRegistrationApplicationAdapterTest extends AysUnitTest {
         AysPageBuilder.assertEquals(mockApplicationsPage, applicationsPage);
 
         // Verify
-        Mockito.verify(adminRegistrationApplicationRepository, Mockito.times(1))
-                .findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class));
+        Mockito.verify(pageRepository, Mockito.times(1))
+                .findAll(Mockito.eq(AdminRegistrationApplicationEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any());
     }
 
 
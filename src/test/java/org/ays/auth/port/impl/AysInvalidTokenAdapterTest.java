@@ -9,11 +9,15 @@ import org.ays.auth.repository.AysInvalidTokenRepository;
 import org.ays.common.util.AysRandomUtil;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -27,6 +31,9 @@ class AysInvalidTokenAdapterTest extends AysUnitTest {
     @Mock
     private AysInvalidTokenRepository invalidTokenRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
 
     @Test
     void givenValidTokenId_whenInvalidTokenFound_thenReturnOptionalInvalidToken() {
@@ -75,6 +82,33 @@ class AysInvalidTokenAdapterTest extends AysUnitTest {
     }
 
 
+    @Test
+    void givenValidCreatedAtAndIdAndLimit_whenInvalidTokensFoundCreatedAfter_thenReturnInvalidTokens() {
+        // Given
+        LocalDateTime mockCreatedAt = LocalDateTime.now().minusMinutes(1);
+        Long mockId = 10L;
+        int mockLimit = 2;
+
+        // When
+        List<AysInvalidTokenEntity> mockInvalidTokenEntities = List.of(
+                new AysInvalidTokenEntityBuilder().withValidValues().id(11L).build(),
+                new AysInvalidTokenEntityBuilder().withValidValues().id(5L).build()
+        );
+        Mockito.when(invalidTokenRepository.findAllCreatedAfter(mockCreatedAt, mockId, Limit.of(mockLimit)))
+                .thenReturn(mockInvalidTokenEntities);
+
+        // Then
+        List<AysInvalidToken> invalidTokens = invalidTokenAdapter.findAllCreatedAfter(mockCreatedAt, mockId, mockLimit);
+
+        Assertions.assertEquals(mockInvalidTokenEntities.size(), invalidTokens.size());
+        Assertions.assertEquals(11L, invalidTokens.get(0).getId());
+        Assertions.assertEquals(mockInvalidTokenEntities.get(1).getTokenId(), invalidTokens.get(1).getTokenId());
+
+        // Verify
+        Mockito.verify(invalidTokenRepository, Mockito.times(1))
+                .findAllCreatedAfter(mockCreatedAt, mockId, Limit.of(mockLimit));
+    }
+
     @Test
     void givenValidInvalidTokens_whenTokensSaved_thenDoNothing() {
         // Given
@@ -88,39 +122,93 @@ class AysInvalidTokenAdapterTest extends AysUnitTest {
         );
 
         // When
-        List<AysInvalidTokenEntity> mockInvalidTokenEntities = List.of(
-                new AysInvalidTokenEntityBuilder().withValidValues().build()
-        );
-
-        Mockito
-                .when(invalidTokenRepository.saveAll(Mockito.anyList()))
-                .thenReturn(mockInvalidTokenEntities);
+        Mockito.when(jdbcTemplate.update(Mockito.anyString(), Mockito.any(Object[].class)))
+                .thenReturn(invalidTokens.size());
 
         // Then
         invalidTokenAdapter.saveAll(invalidTokens);
 
         // Verify
-        Mockito.verify(invalidTokenRepository, Mockito.times(1))
+        Mockito.verify(jdbcTemplate, Mockito.times(1))
+                .update(
+                        Mockito.eq("INSERT INTO AYS_INVALID_TOKEN (TOKEN_ID, CREATED_USER, CREATED_AT) VALUES (?, ?, ?), (?, ?, ?)"),
+                        Mockito.any(Object[].class)
+                );
+
+        Mockito.verify(invalidTokenRepository, Mockito.never())
                 .saveAll(Mockito.anyList());
     }
 
+    @Test
+    void givenManyValidInvalidTokens_whenTokensSaved_thenInsertTokensInBatches() {
+        // Given
+        Set<AysInvalidToken> invalidTokens = new HashSet<>();
+        for (int i = 0; i < 1200; i++) {
+            invalidTokens.add(new AysInvalidTokenBuilder().withValidValues().build());
+        }
+
+        // When
+        Mockito.when(jdbcTemplate.update(Mockito.anyString(), Mockito.any(Object[].class)))
+                .thenReturn(500);
+
+        // Then
+        invalidTokenAdapter.saveAll(invalidTokens);
+
+        // Verify
+        ArgumentCaptor<Object[]> parametersCaptor = ArgumentCaptor.forClass(Object[].class);
+        Mockito.verify(jdbcTemplate, Mockito.times(3))
+                .update(Mockito.anyString(), parametersCaptor.capture());
+
+        List<Integer> parameterCounts = parametersCaptor.getAllValues().stream()
+                .map(parameters -> parameters.length)
+                .toList();
+        Assertions.assertEquals(List.of(1500, 1500, 600), parameterCounts);
+    }
+
 
     @Test
-    void givenValidExpirationThreshold_whenTokensDeletedBeforeThresholdDate_thenDoNothing() {
+    void givenValidExpirationThreshold_whenTokensDeletedBeforeThresholdDate_thenReturnDeletedCount() {
         // Given
         LocalDateTime expirationThreshold = LocalDateTime.now().minusDays(3);
+        int mockLimit = 3;
 
         // When
-        Mockito.doNothing()
-                .when(invalidTokenRepository)
-                .deleteAllByCreatedAtBefore(Mockito.any(LocalDateTime.class));
+        Mockito.when(invalidTokenRepository.findAllIdsByCreatedAtBefore(expirationThreshold, Limit.of(mockLimit)))
+                .thenReturn(List.of(7L, 4L, 9L));
+        Mockito.when(invalidTokenRepository.deleteAllByIdIn(List.of(7L, 4L, 9L)))
+                .thenReturn(3);
 
         // Then
-        invalidTokenAdapter.deleteAllByCreatedAtBefore(expirationThreshold);
+        int deletedCount = invalidTokenAdapter.deleteAllByCreatedAtBefore(expirationThreshold, mockLimit);
+
+        Assertions.assertEquals(3, deletedCount);
 
         // Verify
         Mockito.verify(invalidTokenRepository, Mockito.times(1))
-                .deleteAllByCreatedAtBefore(Mockito.any(LocalDateTime.class));
+                .findAllIdsByCreatedAtBefore(expirationThreshold, Limit.of(mockLimit));
+
+        Mockito.verify(invalidTokenRepository, Mockito.times(1))
+                .deleteAllByIdIn(List.of(7L, 4L, 9L));
+    }
+
+    @Test
+    void givenExpirationThresholdWithoutTokensBeforeIt_whenTokensDeletedBeforeThresholdDate_thenReturnZero() {
+        // Given
+        LocalDateTime expirationThreshold = LocalDateTime.now().minusDays(3);
+        int mockLimit = 3;
+
+        // When
+        Mockito.when(invalidTokenRepository.findAllIdsByCreatedAtBefore(expirationThreshold, Limit.of(mockLimit)))
+                .thenReturn(List.of());
+
+        // Then
+        int deletedCount = invalidTokenAdapter.deleteAllByCreatedAtBefore(expirationThreshold, mockLimit);
+
+        Assertions.assertEquals(0, deletedCount);
+
+        // Verify
+        Mockito.verify(invalidTokenRepository, Mockito.never())
+                .deleteAllByIdIn(Mockito.anyCollection());
     }
 
 }
@@ -16,6 +16,7 @@ import org.ays.common.model.AysPage;
 import org.ays.common.model.AysPageBuilder;
 import org.ays.common.model.AysPageable;
 import org.ays.common.model.AysPageableBuilder;
+import org.ays.common.repository.AysPageRepository;
 import org.ays.common.util.AysRandomUtil;
 import org.ays.institution.model.entity.InstitutionEntity;
 import org.ays.institution.model.entity.InstitutionEntityBuilder;
@@ -24,9 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
@@ -41,6 +40,9 @@ class AysRoleAdapterTest extends AysUnitTest {
     @Mock
     private AysRoleRepository roleRepository;
 
+    @Mock
+    private AysPageRepository pageRepository;
+
 
     private final AysRoleToEntityMapper roleToEntityMapper = AysRoleToEntityMapper.initialize();
     private final AysRoleEntityToDomainMapper roleEntityToDomainMapper = AysRoleEntityToDomainMapper.initialize();
@@ -91,8 +93,8 @@ class AysRoleAdapterTest extends AysUnitTest {
                         .withValidValues()
                         .build()
         );
-        Page<AysRoleEntity> mockEntitiesPage = new PageImpl<>(mockEntities);
-        Mockito.when(roleRepository.findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class)))
+        AysPage<AysRoleEntity> mockEntitiesPage = AysPage.of(mockFilter, new PageImpl<>(mockEntities), mockEntities);
+        Mockito.when(pageRepository.findAll(Mockito.eq(AysRoleEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any()))
                 .thenReturn(mockEntitiesPage);
 
         List<AysRole> mockRoles = roleEntityToDomainMapper.map(mockEntities);
@@ -104,8 +106,8 @@ class AysRoleAdapterTest extends AysUnitTest {
         AysPageBuilder.assertEquals(mockRolesPage, rolesPage);
 
         // Verify
-        Mockito.verify(roleRepository, Mockito.times(1))
-                .findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class));
+        Mockito.verify(pageRepository, Mockito.times(1))
+                .findAll(Mockito.eq(AysRoleEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any());
     }
 
     @Test
@@ -128,8 +130,8 @@ class AysRoleAdapterTest extends AysUnitTest {
                         .withStatus(AysRoleStatus.ACTIVE)
                         .build()
         );
-        Page<AysRoleEntity> mockRoleEntitiesPage = new PageImpl<>(mockRoleEntities);
-        Mockito.when(roleRepository.findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class)))
+        AysPage<AysRoleEntity> mockRoleEntitiesPage = AysPage.of(mockFilter, new PageImpl<>(mockRoleEntities), mockRoleEntities);
+        Mockito.when(pageRepository.findAll(Mockito.eq(AysRoleEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any()))
                 .thenReturn(mockRoleEntitiesPage);
 
         List<AysRole> mockRoles = roleEntityToDomainMapper.map(mockRoleEntities);
@@ -141,8 +143,8 @@ class AysRoleAdapterTest extends AysUnitTest {
         AysPageBuilder.assertEquals(mockRolesPage, rolesPage);
 
         // Verify
-        Mockito.verify(roleRepository, Mockito.times(1))
-                .findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class));
+        Mockito.verify(pageRepository, Mockito.times(1))
+                .findAll(Mockito.eq(AysRoleEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any());
     }
 
 
@@ -6,15 +6,20 @@ import org.ays.auth.model.AysUserBuilder;
 import org.ays.auth.model.AysUserFilter;
 import org.ays.auth.model.AysUserFilterBuilder;
 import org.ays.auth.model.entity.AysUserEntity;
+import org.ays.auth.model.entity.AysRoleEntity;
+import org.ays.auth.model.entity.AysRoleEntityBuilder;
 import org.ays.auth.model.entity.AysUserEntityBuilder;
 import org.ays.auth.model.enums.AysUserStatus;
 import org.ays.auth.model.mapper.AysUserEntityToDomainMapper;
 import org.ays.auth.model.mapper.AysUserToEntityMapper;
+import org.ays.auth.repository.AysUserLoginAttemptRepository;
+import org.ays.auth.repository.AysUserPasswordRepository;
 import org.ays.auth.repository.AysUserRepository;
 import org.ays.common.model.AysPage;
 import org.ays.common.model.AysPageBuilder;
 import org.ays.common.model.AysPageable;
 import org.ays.common.model.AysPageableBuilder;
+import org.ays.common.repository.AysPageRepository;
 import org.ays.common.model.AysPhoneNumber;
 import org.ays.common.model.AysPhoneNumberBuilder;
 import org.ays.common.util.AysRandomUtil;
@@ -23,12 +28,16 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -40,6 +49,15 @@ class AysUserAdapterTest extends AysUnitTest {
     @Mock
     private AysUserRepository userRepository;
 
+    @Mock
+    private AysPageRepository pageRepository;
+
+    @Mock
+    private AysUserPasswordRepository userPasswordRepository;
+
+    @Mock
+    private AysUserLoginAttemptRepository userLoginAttemptRepository;
+
 
     private final AysUserToEntityMapper userToEntityMapper = AysUserToEntityMapper.initialize();
     private final AysUserEntityToDomainMapper userEntityToDomainMapper = AysUserEntityToDomainMapper.initialize();
@@ -64,8 +82,8 @@ class AysUserAdapterTest extends AysUnitTest {
                         .withValidValues()
                         .build()
         );
-        Page<AysUserEntity> mockEntitiesPage = new PageImpl<>(mockEntities);
-        Mockito.when(userRepository.findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class)))
+        AysPage<AysUserEntity> mockEntitiesPage = AysPage.of(mockFilter, new PageImpl<>(mockEntities), mockEntities);
+        Mockito.when(pageRepository.findAll(Mockito.eq(AysUserEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any()))
                 .thenReturn(mockEntitiesPage);
 
         List<AysUser> mockUsers = userEntityToDomainMapper.map(mockEntities);
@@ -77,8 +95,8 @@ class AysUserAdapterTest extends AysUnitTest {
         AysPageBuilder.assertEquals(mockUsersPage, usersPage);
 
         // Verify
-        Mockito.verify(userRepository, Mockito.times(1))
-                .findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class));
+        Mockito.verify(pageRepository, Mockito.times(1))
+                .findAll(Mockito.eq(AysUserEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any());
     }
 
     @Test
@@ -103,8 +121,8 @@ class AysUserAdapterTest extends AysUnitTest {
                         .withStatus(AysUserStatus.ACTIVE)
                         .build()
         );
-        Page<AysUserEntity> mockUserEntitiesPage = new PageImpl<>(mockUserEntities);
-        Mockito.when(userRepository.findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class)))
+        AysPage<AysUserEntity> mockUserEntitiesPage = AysPage.of(mockFilter, new PageImpl<>(mockUserEntities), mockUserEntities);
+        Mockito.when(pageRepository.findAll(Mockito.eq(AysUserEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any()))
                 .thenReturn(mockUserEntitiesPage);
 
         List<AysUser> mockUsers = userEntityToDomainMapper.map(mockUserEntities);
@@ -116,8 +134,8 @@ class AysUserAdapterTest extends AysUnitTest {
         AysPageBuilder.assertEquals(mockUsersPage, usersPage);
 
         // Verify
-        Mockito.verify(userRepository, Mockito.times(1))
-                .findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class));
+        Mockito.verify(pageRepository, Mockito.times(1))
+                .findAll(Mockito.eq(AysUserEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any());
     }
 
     @Test
@@ -195,6 +213,68 @@ class AysUserAdapterTest extends AysUnitTest {
                 .findByEmailAddress(mockEmailAddress);
     }
 
+    @Test
+    void givenValidEmailAddress_whenUserFoundForLoginByEmailAddress_thenReturnOptionalUserWithLoginFields() {
+
+        // Given
+        String mockEmailAddress = "test@afetyonetimsistemi.org";
+
+        // When
+        AysUserEntity mockUserEntity = new AysUserEntityBuilder()
+                .withValidValues()
+                .withEmailAddress(mockEmailAddress)
+                .withRoles(List.of(
+                        new AysRoleEntityBuilder().withValidValues().build(),
+                        new AysRoleEntityBuilder().withValidValues().withPermissions(List.of()).build()
+                ))
+                .build();
+        List<AysUserRepository.LoginProjection> mockLoginProjections = this.toLoginProjections(mockUserEntity);
+        Mockito.when(userRepository.findLoginProjectionsByEmailAddress(mockEmailAddress))
+                .thenReturn(mockLoginProjections);
+
+        AysUser mockUser = userEntityToDomainMapper.map(mockUserEntity);
+
+        // Then
+        Optional<AysUser> user = userAdapter.findForLoginByEmailAddress(mockEmailAddress);
+
+        Assertions.assertTrue(user.isPresent());
+        Assertions.assertEquals(mockUser.getId(), user.get().getId());
+        Assertions.assertEquals(mockUser.getStatus(), user.get().getStatus());
+        Assertions.assertEquals(mockUser.getPassword().getId(), user.get().getPassword().getId());
+        Assertions.assertEquals(mockUser.getPassword().getValue(), user.get().getPassword().getValue());
+        Assertions.assertEquals(mockUser.getLoginAttempt().getId(), user.get().getLoginAttempt().getId());
+        Assertions.assertEquals(mockUser.getClaims(), user.get().getClaims());
+        Assertions.assertEquals(2, user.get().getRoles().size());
+        Assertions.assertTrue(user.get().getRoles().get(1).getPermissions().isEmpty());
+
+        // Verify
+        Mockito.verify(userRepository, Mockito.times(1))
+                .findLoginProjectionsByEmailAddress(mockEmailAddress);
+
+        Mockito.verify(userRepository, Mockito.never())
+                .findByEmailAddress(Mockito.anyString());
+    }
+
+    @Test
+    void givenValidEmailAddress_whenUserNotFoundForLoginByEmailAddress_thenReturnOptionalEmpty() {
+
+        // Given
+        String mockEmailAddress = "test@afetyonetimsistemi.org";
+
+        // When
+        Mockito.when(userRepository.findLoginProjectionsByEmailAddress(mockEmailAddress))
+                .thenReturn(List.of());
+
+        // Then
+        Optional<AysUser> user = userAdapter.findForLoginByEmailAddress(mockEmailAddress);
+
+        Assertions.assertFalse(user.isPresent());
+
+        // Verify
+        Mockito.verify(userRepository, Mockito.times(1))
+                .findLoginProjectionsByEmailAddress(mockEmailAddress);
+    }
+
     @Test
     void givenValidEmailAddress_whenUserNotFoundByEmailAddress_thenReturnOptionalEmpty() {
 
@@ -509,4 +589,118 @@ class AysUserAdapterTest extends AysUnitTest {
                 .findByPasswordId(Mockito.anyString());
     }
 
+
+    @Test
+    void givenValidPassword_whenPasswordSaved_thenUpdateOnlyPasswordValue() {
+
+        // Given
+        AysUser.Password mockPassword = new AysUserBuilder.PasswordBuilder()
+                .withValidValues()
+                .build();
+
+        // When
+        Mockito.when(userPasswordRepository.updateValueById(Mockito.eq(mockPassword.getId()), Mockito.eq(mockPassword.getValue()), Mockito.any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // Then
+        userAdapter.savePassword(mockPassword);
+
+        // Verify
+        Mockito.verify(userPasswordRepository, Mockito.times(1))
+                .updateValueById(Mockito.eq(mockPassword.getId()), Mockito.eq(mockPassword.getValue()), Mockito.any(LocalDateTime.class));
+
+        Mockito.verify(userRepository, Mockito.never())
+                .save(Mockito.any(AysUserEntity.class));
+    }
+
+    @Test
+    void givenValidUserWithLoginAttempt_whenLoginAttemptSaved_thenUpdateOnlyLastLoginAt() {
+
+        // Given
+        AysUser mockUser = new AysUserBuilder()
+                .withValidValues()
+                .withLoginAttempt(new AysUserBuilder.LoginAttemptBuilder().withValidValues().build())
+                .build();
+        mockUser.getLoginAttempt().success();
+
+        // When
+        Mockito.when(userLoginAttemptRepository.updateLastLoginAtById(mockUser.getLoginAttempt().getId(), mockUser.getLoginAttempt().getLastLoginAt()))
+                .thenReturn(1);
+
+        // Then
+        userAdapter.saveLoginAttempt(mockUser);
+
+        // Verify
+        Mockito.verify(userLoginAttemptRepository, Mockito.times(1))
+                .updateLastLoginAtById(mockUser.getLoginAttempt().getId(), mockUser.getLoginAttempt().getLastLoginAt());
+
+        Mockito.verify(userLoginAttemptRepository, Mockito.never())
+                .save(Mockito.any(AysUserEntity.LoginAttemptEntity.class));
+
+        Mockito.verify(userRepository, Mockito.never())
+                .save(Mockito.any(AysUserEntity.class));
+    }
+
+    @Test
+    void givenValidUserWithoutSavedLoginAttempt_whenLoginAttemptSaved_thenUpsertLoginAttemptByUserId() {
+
+        // Given
+        AysUser mockUser = new AysUserBuilder()
+                .withValidValues()
+                .build();
+        mockUser.setLoginAttempt(AysUser.LoginAttempt.builder().build());
+        mockUser.getLoginAttempt().success();
+
+        // When
+        Mockito.when(userLoginAttemptRepository.upsertLastLoginAtByUserId(Mockito.anyString(), Mockito.eq(mockUser.getId()), Mockito.any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // Then
+        userAdapter.saveLoginAttempt(mockUser);
+
+        // Verify
+        Mockito.verify(userLoginAttemptRepository, Mockito.times(1))
+                .upsertLastLoginAtByUserId(Mockito.anyString(), Mockito.eq(mockUser.getId()), Mockito.eq(mockUser.getLoginAttempt().getLastLoginAt()));
+
+        Mockito.verify(userLoginAttemptRepository, Mockito.never())
+                .save(Mockito.any(AysUserEntity.LoginAttemptEntity.class));
+
+        Mockito.verify(userLoginAttemptRepository, Mockito.never())
+                .updateLastLoginAtById(Mockito.anyString(), Mockito.any(LocalDateTime.class));
+    }
+
+
+    private List<AysUserRepository.LoginProjection> toLoginProjections(final AysUserEntity userEntity) {
+
+        final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
+        final List<AysUserRepository.LoginProjection> loginProjections = new ArrayList<>();
+        for (final AysRoleEntity roleEntity : userEntity.getRoles()) {
+
+            final List<String> permissionNames = new ArrayList<>();
+            roleEntity.getPermissions().forEach(permissionEntity -> permissionNames.add(permissionEntity.getName()));
+            if (permissionNames.isEmpty()) {
+                permissionNames.add(null);
+            }
+
+            for (final String permissionName : permissionNames) {
+                final Map<String, Object> row = new HashMap<>();
+                row.put("id", userEntity.getId());
+                row.put("emailAddress", userEntity.getEmailAddress());
+                row.put("firstName", userEntity.getFirstName());
+                row.put("lastName", userEntity.getLastName());
+                row.put("status", userEntity.getStatus());
+                row.put("passwordId", userEntity.getPassword().getId());
+                row.put("passwordValue", userEntity.getPassword().getValue());
+                row.put("loginAttemptId", userEntity.getLoginAttempt().getId());
+                row.put("lastLoginAt", userEntity.getLoginAttempt().getLastLoginAt());
+                row.put("institutionId", userEntity.getInstitution().getId());
+                row.put("institutionName", userEntity.getInstitution().getName());
+                row.put("roleId", roleEntity.getId());
+                row.put("permissionName", permissionName);
+                loginProjections.add(projectionFactory.createProjection(AysUserRepository.LoginProjection.class, row));
+            }
+        }
+        return loginProjections;
+    }
+
 }
@@ -0,0 +1,122 @@
+package org.ays.auth.repository;
+
+import org.ays.AysEndToEndTest;
+import org.ays.auth.model.AysUser;
+import org.ays.auth.model.AysUserFilter;
+import org.ays.auth.port.AysUserReadPort;
+import org.ays.common.model.AysPage;
+import org.ays.common.model.AysPageable;
+import org.ays.common.model.AysPageableBuilder;
+import org.ays.util.AysValidTestData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+class AysUserIndexEndToEndTest extends AysEndToEndTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AysUserReadPort userReadPort;
+
+
+    @Test
+    void givenInstitutionAndStatuses_whenUsersExplained_thenUseInstitutionStatusCreatedAtIndex() {
+        // Given
+        String query = """
+                EXPLAIN SELECT ID FROM AYS_USER
+                WHERE INSTITUTION_ID = ? AND STATUS IN (?, ?)
+                ORDER BY CREATED_AT DESC, ID
+                """;
+
+        // Then
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                query, AysValidTestData.Admin.INSTITUTION_ID, "ACTIVE", "PASSIVE"
+        );
+
+        Assertions.assertTrue(
+                this.isPossibleKey(plan, "I__AYS_USER__INSTITUTION_ID__STATUS__CREATED_AT")
+        );
+    }
+
+    @Test
+    void givenInstitutionAndFirstNamePrefix_whenUsersExplained_thenUseInstitutionFirstNameIndex() {
+        // Given
+        String query = """
+                EXPLAIN SELECT ID FROM AYS_USER
+                WHERE INSTITUTION_ID = ? AND FIRST_NAME LIKE ?
+                """;
+
+        // Then
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                query, AysValidTestData.Admin.INSTITUTION_ID, "ky%"
+        );
+
+        Assertions.assertTrue(
+                this.isPossibleKey(plan, "I__AYS_USER__INSTITUTION_ID__FIRST_NAME")
+        );
+    }
+
+    @Test
+    void givenLowerCasePrefixOfFirstName_whenUsersFound_thenMatchFirstNameCaseInsensitively() {
+        // Given
+        AysUser admin = userReadPort.findById(AysValidTestData.Admin.ID).orElseThrow();
+
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withPageSize(10)
+                .withoutOrders()
+                .build();
+        AysUserFilter mockFilter = AysUserFilter.builder()
+                .institutionId(AysValidTestData.Admin.INSTITUTION_ID)
+                .firstName(admin.getFirstName().substring(0, 2).toLowerCase())
+                .build();
+
+        // Then
+        AysPage<AysUser> usersPage = userReadPort.findAll(mockAysPageable, mockFilter);
+
+        Assertions.assertTrue(
+                usersPage.getContent().stream()
+                        .anyMatch(user -> user.getId().equals(AysValidTestData.Admin.ID))
+        );
+    }
+
+    @Test
+    void givenInfixOfFirstName_whenUsersFound_thenNotMatchFirstName() {
+        // Given
+        AysUser admin = userReadPort.findById(AysValidTestData.Admin.ID).orElseThrow();
+
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withPageSize(10)
+                .withoutOrders()
+                .build();
+        AysUserFilter mockFilter = AysUserFilter.builder()
+                .institutionId(AysValidTestData.Admin.INSTITUTION_ID)
+                .firstName(admin.getFirstName().substring(1))
+                .build();
+
+        // Then
+        AysPage<AysUser> usersPage = userReadPort.findAll(mockAysPageable, mockFilter);
+
+        Assertions.assertTrue(
+                usersPage.getContent().stream()
+                        .noneMatch(user -> user.getId().equals(AysValidTestData.Admin.ID))
+        );
+    }
+
+
+    private boolean isPossibleKey(final List<Map<String, Object>> plan, final String indexName) {
+        return plan.stream()
+                .map(row -> row.get("possible_keys"))
+                .filter(Objects::nonNull)
+                .anyMatch(possibleKeys -> possibleKeys.toString().contains(indexName));
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.ays.auth.repository;
+
+import org.ays.AysEndToEndTest;
+import org.ays.common.util.AysRandomUtil;
+import org.ays.util.AysValidTestData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+class AysUserLoginAttemptRepositoryEndToEndTest extends AysEndToEndTest {
+
+    @Autowired
+    private AysUserLoginAttemptRepository userLoginAttemptRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+
+    @Test
+    void givenUserWithLoginAttempt_whenLoginAttemptsUpsertedTwice_thenKeepOneLoginAttemptWithLatestLastLoginAt() {
+        // Given
+        String userId = AysValidTestData.User.ID;
+        LocalDateTime lastLoginAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        // Then
+        transactionTemplate.executeWithoutResult(status -> userLoginAttemptRepository
+                .upsertLastLoginAtByUserId(AysRandomUtil.generateUUID(), userId, lastLoginAt));
+        transactionTemplate.executeWithoutResult(status -> userLoginAttemptRepository
+                .upsertLastLoginAtByUserId(AysRandomUtil.generateUUID(), userId, lastLoginAt.minusMinutes(1)));
+
+        List<Timestamp> lastLoginAts = jdbcTemplate.queryForList(
+                "SELECT LAST_LOGIN_AT FROM AYS_USER_LOGIN_ATTEMPT WHERE USER_ID = ?", Timestamp.class, userId
+        );
+
+        Assertions.assertEquals(1, lastLoginAts.size());
+        Assertions.assertEquals(lastLoginAt, lastLoginAts.get(0).toLocalDateTime());
+    }
+
+}
@@ -3,19 +3,21 @@ package org.ays.auth.scheduler;
 import org.ays.AysUnitTest;
 import org.ays.auth.model.enums.AysConfigurationParameter;
 import org.ays.auth.port.AysInvalidTokenDeletePort;
+import org.ays.common.config.AysSchedulerLock;
 import org.ays.parameter.model.AysParameter;
 import org.ays.parameter.port.AysParameterReadPort;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 class AysInvalidTokenDeletionSchedulerTest extends AysUnitTest {
 
-    @InjectMocks
     private AysInvalidTokenDeletionScheduler invalidTokenDeletionScheduler;
 
     @Mock
@@ -24,20 +26,41 @@ class AysInvalidTokenDeletionSchedulerTest extends AysUnitTest {
     @Mock
     private AysInvalidTokenDeletePort invalidTokenDeletePort;
 
+    @Mock
+    private AysSchedulerLock schedulerLock;
+
+    private static final int CHUNK_SIZE = 2;
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    @BeforeEach
+    void setUp() {
+        invalidTokenDeletionScheduler = new AysInvalidTokenDeletionScheduler(
+                CHUNK_SIZE, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                invalidTokenDeletePort, parameterReadPort, schedulerLock
+        );
+    }
+
 
     @Test
     void whenInvalidTokensToExpiredAfterExpirationOfRefreshToken_thenDeleteAllExpiredTokenIds() {
 
         // When
+        AysSchedulerLock.Lease mockLease = new AysSchedulerLock.Lease("INVALID_TOKENS_DELETION", 1L, LocalDateTime.now());
+        this.mockExecuteWithLock(mockLease);
+        Mockito.when(schedulerLock.isHeld(mockLease))
+                .thenReturn(true);
+
         Optional<AysParameter> mockParameter = Optional.of(
                 AysParameter.from(AysConfigurationParameter.AUTH_REFRESH_TOKEN_EXPIRE_DAY)
         );
         Mockito.when(parameterReadPort.findByName(Mockito.anyString()))
                 .thenReturn(mockParameter);
 
-        Mockito.doNothing()
-                .when(invalidTokenDeletePort)
-                .deleteAllByCreatedAtBefore(Mockito.any(LocalDateTime.class));
+        Mockito.when(invalidTokenDeletePort.deleteAllByCreatedAtBefore(Mockito.any(LocalDateTime.class), Mockito.eq(CHUNK_SIZE)))
+                .thenReturn(CHUNK_SIZE)
+                .thenReturn(CHUNK_SIZE)
+                .thenReturn(1);
 
         // Then
         invalidTokenDeletionScheduler.deleteInvalidTokens();
@@ -46,8 +69,68 @@ class AysInvalidTokenDeletionSchedulerTest extends AysUnitTest {
         Mockito.verify(parameterReadPort, Mockito.times(1))
                 .findByName(Mockito.anyString());
 
+        Mockito.verify(invalidTokenDeletePort, Mockito.times(3))
+                .deleteAllByCreatedAtBefore(Mockito.any(LocalDateTime.class), Mockito.eq(CHUNK_SIZE));
+
+        Mockito.verify(schedulerLock, Mockito.times(2))
+                .isHeld(mockLease);
+    }
+
+    @Test
+    void givenLostLease_whenInvalidTokensDeleted_thenStopDeletingChunks() {
+
+        // When
+        AysSchedulerLock.Lease mockLease = new AysSchedulerLock.Lease("INVALID_TOKENS_DELETION", 1L, LocalDateTime.now());
+        this.mockExecuteWithLock(mockLease);
+        Mockito.when(schedulerLock.isHeld(mockLease))
+                .thenReturn(false);
+
+        Mockito.when(parameterReadPort.findByName(Mockito.anyString()))
+                .thenReturn(Optional.empty());
+
+        Mockito.when(invalidTokenDeletePort.deleteAllByCreatedAtBefore(Mockito.any(LocalDateTime.class), Mockito.eq(CHUNK_SIZE)))
+                .thenReturn(CHUNK_SIZE);
+
+        // Then
+        invalidTokenDeletionScheduler.deleteInvalidTokens();
+
+        // Verify
         Mockito.verify(invalidTokenDeletePort, Mockito.times(1))
-                .deleteAllByCreatedAtBefore(Mockito.any(LocalDateTime.class));
+                .deleteAllByCreatedAtBefore(Mockito.any(LocalDateTime.class), Mockito.eq(CHUNK_SIZE));
+    }
+
+    @Test
+    void givenLockHeldByAnotherNode_whenInvalidTokensDeleted_thenSkipDeletion() {
+
+        // When
+        Mockito.when(schedulerLock.executeWithLock(
+                        Mockito.eq("INVALID_TOKENS_DELETION"),
+                        Mockito.eq(LOCK_AT_MOST_FOR),
+                        Mockito.eq(LOCK_AT_LEAST_FOR),
+                        Mockito.any()
+                ))
+                .thenReturn(false);
+
+        // Then
+        invalidTokenDeletionScheduler.deleteInvalidTokens();
+
+        // Verify
+        Mockito.verifyNoInteractions(parameterReadPort, invalidTokenDeletePort);
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private void mockExecuteWithLock(AysSchedulerLock.Lease lease) {
+        Mockito.when(schedulerLock.executeWithLock(
+                        Mockito.eq("INVALID_TOKENS_DELETION"),
+                        Mockito.eq(LOCK_AT_MOST_FOR),
+                        Mockito.eq(LOCK_AT_LEAST_FOR),
+                        Mockito.any()
+                ))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(3, Consumer.class).accept(lease);
+                    return true;
+                });
     }
 
 }
@@ -0,0 +1,161 @@
+package org.ays.auth.security;
+
+import org.ays.AysUnitTest;
+import org.ays.auth.config.AysTokenConfigurationParameter;
+import org.ays.auth.model.AysInvalidToken;
+import org.ays.auth.model.AysInvalidTokenBuilder;
+import org.ays.auth.port.AysInvalidTokenReadPort;
+import org.ays.common.util.AysRandomUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+class AysInvalidTokenIndexTest extends AysUnitTest {
+
+    @Mock
+    private AysInvalidTokenReadPort invalidTokenReadPort;
+
+    @Mock
+    private AysTokenConfigurationParameter tokenConfiguration;
+
+    private static final long MAX_COMMIT_LAG_MILLIS = 60_000L;
+
+
+    @Test
+    void givenInvalidTokens_whenIndexLoaded_thenContainOnlyNotExpiredTokenIds() {
+        // Initialize
+        AysInvalidTokenIndex invalidTokenIndex = new AysInvalidTokenIndex(true, 2, MAX_COMMIT_LAG_MILLIS, invalidTokenReadPort, tokenConfiguration);
+
+        // Given
+        AysInvalidToken mockExpiredInvalidToken = new AysInvalidTokenBuilder()
+                .withValidValues()
+                .withId(2L)
+                .withCreatedAt(LocalDateTime.now().minusDays(2))
+                .build();
+        AysInvalidToken mockInvalidToken = new AysInvalidTokenBuilder()
+                .withValidValues()
+                .withId(1L)
+                .withCreatedAt(LocalDateTime.now().minusHours(1))
+                .build();
+        AysInvalidToken mockNextInvalidToken = new AysInvalidTokenBuilder()
+                .withValidValues()
+                .withId(3L)
+                .withCreatedAt(LocalDateTime.now().minusMinutes(1))
+                .build();
+
+        // When
+        Mockito.when(tokenConfiguration.getRefreshTokenExpireDay())
+                .thenReturn(1);
+        Mockito.when(invalidTokenReadPort.findAllCreatedAfter(Mockito.any(LocalDateTime.class), Mockito.eq(0L), Mockito.eq(2)))
+                .thenReturn(List.of(mockExpiredInvalidToken, mockInvalidToken));
+        Mockito.when(invalidTokenReadPort.findAllCreatedAfter(mockInvalidToken.getCreatedAt(), 1L, 2))
+                .thenReturn(List.of(mockNextInvalidToken));
+
+        // Then
+        Assertions.assertFalse(invalidTokenIndex.isResolvable(mockInvalidToken.getTokenId()));
+
+        invalidTokenIndex.load();
+
+        Assertions.assertTrue(invalidTokenIndex.isResolvable(mockInvalidToken.getTokenId()));
+        Assertions.assertTrue(invalidTokenIndex.contains(mockInvalidToken.getTokenId()));
+        Assertions.assertTrue(invalidTokenIndex.contains(mockNextInvalidToken.getTokenId()));
+        Assertions.assertFalse(invalidTokenIndex.contains(mockExpiredInvalidToken.getTokenId()));
+        Assertions.assertFalse(invalidTokenIndex.contains(AysRandomUtil.generateUUID()));
+        Assertions.assertEquals(2, invalidTokenIndex.size());
+
+        // Verify
+        Mockito.verify(invalidTokenReadPort, Mockito.times(2))
+                .findAllCreatedAfter(Mockito.any(LocalDateTime.class), Mockito.anyLong(), Mockito.eq(2));
+    }
+
+    @Test
+    void givenTokenCommittedAfterRefreshWithLowerId_whenIndexRefreshed_thenContainTokenId() {
+        // Initialize
+        AysInvalidTokenIndex invalidTokenIndex = new AysInvalidTokenIndex(true, 10, MAX_COMMIT_LAG_MILLIS, invalidTokenReadPort, tokenConfiguration);
+
+        // Given
+        AysInvalidToken mockInvalidToken = new AysInvalidTokenBuilder()
+                .withValidValues()
+                .withId(2L)
+                .withCreatedAt(LocalDateTime.now())
+                .build();
+        AysInvalidToken mockLateCommittedInvalidToken = new AysInvalidTokenBuilder()
+                .withValidValues()
+                .withId(1L)
+                .withCreatedAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+
+        // When
+        Mockito.when(tokenConfiguration.getRefreshTokenExpireDay())
+                .thenReturn(1);
+        Mockito.when(invalidTokenReadPort.findAllCreatedAfter(Mockito.any(LocalDateTime.class), Mockito.eq(0L), Mockito.eq(10)))
+                .thenReturn(List.of(mockInvalidToken))
+                .thenReturn(List.of(mockLateCommittedInvalidToken, mockInvalidToken));
+
+        // Then
+        LocalDateTime firstRefreshStartedAt = LocalDateTime.now();
+        invalidTokenIndex.load();
+
+        Assertions.assertFalse(invalidTokenIndex.contains(mockLateCommittedInvalidToken.getTokenId()));
+
+        invalidTokenIndex.refresh();
+
+        Assertions.assertTrue(invalidTokenIndex.contains(mockLateCommittedInvalidToken.getTokenId()));
+        Assertions.assertTrue(invalidTokenIndex.contains(mockInvalidToken.getTokenId()));
+        Assertions.assertEquals(2, invalidTokenIndex.size());
+
+        // Verify
+        ArgumentCaptor<LocalDateTime> fromCreatedAtCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(invalidTokenReadPort, Mockito.times(2))
+                .findAllCreatedAfter(fromCreatedAtCaptor.capture(), Mockito.eq(0L), Mockito.eq(10));
+
+        LocalDateTime secondFromCreatedAt = fromCreatedAtCaptor.getAllValues().get(1);
+        Assertions.assertFalse(secondFromCreatedAt.isAfter(firstRefreshStartedAt.minusSeconds(59)));
+        Assertions.assertTrue(secondFromCreatedAt.isAfter(LocalDateTime.now().minusHours(1)));
+    }
+
+    @Test
+    void givenTokenIds_whenTokenIdsAdded_thenContainTokenIds() {
+        // Initialize
+        AysInvalidTokenIndex invalidTokenIndex = new AysInvalidTokenIndex(true, 10, MAX_COMMIT_LAG_MILLIS, invalidTokenReadPort, tokenConfiguration);
+
+        // Given
+        String mockTokenId = AysRandomUtil.generateUUID();
+
+        // When
+        Mockito.when(tokenConfiguration.getRefreshTokenExpireDay())
+                .thenReturn(1);
+        Mockito.when(invalidTokenReadPort.findAllCreatedAfter(Mockito.any(LocalDateTime.class), Mockito.eq(0L), Mockito.eq(10)))
+                .thenReturn(List.of());
+
+        // Then
+        invalidTokenIndex.load();
+        invalidTokenIndex.addAll(Set.of(mockTokenId));
+
+        Assertions.assertTrue(invalidTokenIndex.contains(mockTokenId));
+    }
+
+    @Test
+    void givenDisabledIndex_whenIndexLoaded_thenNotResolvable() {
+        // Initialize
+        AysInvalidTokenIndex invalidTokenIndex = new AysInvalidTokenIndex(false, 10, MAX_COMMIT_LAG_MILLIS, invalidTokenReadPort, tokenConfiguration);
+
+        // Given
+        String mockTokenId = AysRandomUtil.generateUUID();
+
+        // Then
+        invalidTokenIndex.load();
+
+        Assertions.assertFalse(invalidTokenIndex.isResolvable(mockTokenId));
+
+        // Verify
+        Mockito.verifyNoInteractions(invalidTokenReadPort);
+    }
+
+}
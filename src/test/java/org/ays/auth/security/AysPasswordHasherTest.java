@@ -0,0 +1,119 @@
+package org.ays.auth.security;
+
+import org.awaitility.Awaitility;
+import org.ays.AysUnitTest;
+import org.ays.auth.util.exception.AysPasswordHashingSaturatedException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class AysPasswordHasherTest extends AysUnitTest {
+
+    private static final String MOCK_RAW_PASSWORD = "AysPassword123!";
+
+
+    @Test
+    void givenEncodedPassword_whenMatched_thenReturnWhetherRawPasswordMatches() {
+        // Given
+        AysPasswordHasher passwordHasher = new AysPasswordHasher(this.delegatingPasswordEncoder(4), 1, 1);
+        String mockEncodedPassword = passwordHasher.encode(MOCK_RAW_PASSWORD);
+
+        // Then
+        Assertions.assertTrue(mockEncodedPassword.startsWith("{bcrypt}"));
+        Assertions.assertTrue(passwordHasher.matches(MOCK_RAW_PASSWORD, mockEncodedPassword));
+        Assertions.assertFalse(passwordHasher.matches("AysWrongPassword123!", mockEncodedPassword));
+    }
+
+    @Test
+    void givenNullEncodedPassword_whenMatched_thenReturnFalse() {
+        // Given
+        AysPasswordHasher passwordHasher = new AysPasswordHasher(this.delegatingPasswordEncoder(4), 1, 1);
+
+        // Then
+        Assertions.assertFalse(passwordHasher.matches(MOCK_RAW_PASSWORD, null));
+    }
+
+    @Test
+    void givenPasswordEncodedWithoutIdOrWithLowerStrength_whenUpgradeEncodingChecked_thenReturnTrue() {
+        // Given
+        AysPasswordHasher passwordHasher = new AysPasswordHasher(this.delegatingPasswordEncoder(5), 1, 1);
+        String mockPasswordWithoutId = new BCryptPasswordEncoder(5).encode(MOCK_RAW_PASSWORD);
+        String mockPasswordWithLowerStrength = this.delegatingPasswordEncoder(4).encode(MOCK_RAW_PASSWORD);
+        String mockPasswordWithCurrentStrength = passwordHasher.encode(MOCK_RAW_PASSWORD);
+
+        // Then
+        Assertions.assertTrue(passwordHasher.matches(MOCK_RAW_PASSWORD, mockPasswordWithoutId));
+        Assertions.assertTrue(passwordHasher.upgradeEncoding(mockPasswordWithoutId));
+        Assertions.assertTrue(passwordHasher.upgradeEncoding(mockPasswordWithLowerStrength));
+        Assertions.assertFalse(passwordHasher.upgradeEncoding(mockPasswordWithCurrentStrength));
+    }
+
+    @Test
+    void givenBusyHashingThreadAndFullQueue_whenMatched_thenThrowPasswordHashingSaturatedException() throws Exception {
+        // Given
+        PasswordEncoder mockPasswordEncoder = Mockito.mock(PasswordEncoder.class);
+        Mockito.when(mockPasswordEncoder.encode(Mockito.anyString()))
+                .thenReturn("mockDummyEncodedPassword");
+
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch releaseLatch = new CountDownLatch(1);
+        Mockito.when(mockPasswordEncoder.matches(Mockito.anyString(), Mockito.anyString()))
+                .thenAnswer(invocation -> {
+                    startedLatch.countDown();
+                    return releaseLatch.await(10, TimeUnit.SECONDS);
+                });
+
+        AysPasswordHasher passwordHasher = new AysPasswordHasher(mockPasswordEncoder, 1, 1);
+
+        // When
+        CompletableFuture<Boolean> runningMatch = CompletableFuture
+                .supplyAsync(() -> passwordHasher.matches(MOCK_RAW_PASSWORD, "mockEncodedPassword"));
+        Assertions.assertTrue(startedLatch.await(10, TimeUnit.SECONDS));
+
+        Thread queuedMatchThread = new Thread(() -> passwordHasher.matches(MOCK_RAW_PASSWORD, "mockEncodedPassword"));
+        queuedMatchThread.start();
+        Awaitility.await()
+                .atMost(10, TimeUnit.SECONDS)
+                .until(() -> queuedMatchThread.getState() == Thread.State.WAITING);
+
+        // Then
+        try {
+            Assertions.assertThrows(
+                    AysPasswordHashingSaturatedException.class,
+                    () -> passwordHasher.matches(MOCK_RAW_PASSWORD, "mockEncodedPassword")
+            );
+        } finally {
+            releaseLatch.countDown();
+        }
+
+        Assertions.assertTrue(runningMatch.get(10, TimeUnit.SECONDS));
+        queuedMatchThread.join(10000);
+        Assertions.assertFalse(queuedMatchThread.isAlive());
+
+        // Verify
+        Mockito.verify(mockPasswordEncoder, Mockito.times(2))
+                .matches(Mockito.anyString(), Mockito.anyString());
+
+        passwordHasher.shutdown();
+    }
+
+
+    private PasswordEncoder delegatingPasswordEncoder(final int strength) {
+        final BCryptPasswordEncoder bcryptPasswordEncoder = new BCryptPasswordEncoder(strength);
+        final DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(
+                "bcrypt",
+                Map.of("bcrypt", bcryptPasswordEncoder)
+        );
+        passwordEncoder.setDefaultPasswordEncoderForMatches(bcryptPasswordEncoder);
+        return passwordEncoder;
+    }
+
+}
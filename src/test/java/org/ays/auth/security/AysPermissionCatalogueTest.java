@@ -0,0 +1,113 @@
+package org.ays.auth.security;
+
+import org.ays.AysUnitTest;
+import org.ays.auth.model.AysAuthoritySet;
+import org.ays.auth.model.AysPermission;
+import org.ays.auth.model.AysPermissionBuilder;
+import org.ays.auth.port.AysPermissionReadPort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+class AysPermissionCatalogueTest extends AysUnitTest {
+
+    private AysPermissionCatalogue permissionCatalogue;
+
+    @Mock
+    private AysPermissionReadPort permissionReadPort;
+
+    @BeforeEach
+    void setUp() {
+        permissionCatalogue = new AysPermissionCatalogue(true, permissionReadPort);
+    }
+
+
+    @Test
+    void givenPermissionsInCatalogue_whenEncodedAndDecoded_thenReturnAuthoritySet() {
+        // Given
+        List<String> mockPermissionNames = List.of("user:update", "user:list", "super");
+
+        // When
+        Mockito.when(permissionReadPort.findAll())
+                .thenReturn(MOCK_PERMISSIONS);
+
+        // Then
+        Optional<String> permissionBitmap = permissionCatalogue.encode(mockPermissionNames);
+        Assertions.assertTrue(permissionBitmap.isPresent());
+        Assertions.assertTrue(permissionBitmap.get().length() < String.join("\",\"", mockPermissionNames).length());
+
+        Optional<AysAuthoritySet> authoritySet = permissionCatalogue.decode(permissionBitmap.get());
+        Assertions.assertTrue(authoritySet.isPresent());
+        Assertions.assertEquals(3, authoritySet.get().size());
+        Assertions.assertTrue(authoritySet.get().hasAuthority("user:update"));
+        Assertions.assertTrue(authoritySet.get().hasAuthority("user:list"));
+        Assertions.assertFalse(authoritySet.get().hasAuthority("user:detail"));
+        Assertions.assertTrue(authoritySet.get().isSuperPermitted());
+        Assertions.assertSame(authoritySet.get(), permissionCatalogue.decode(permissionBitmap.get()).get());
+
+        // Verify
+        Mockito.verify(permissionReadPort, Mockito.times(1))
+                .findAll();
+    }
+
+    @Test
+    void givenPermissionNotInCatalogue_whenEncoded_thenReturnEmpty() {
+        // Given
+        List<String> mockPermissionNames = List.of("user:list", "user:delete");
+
+        // When
+        Mockito.when(permissionReadPort.findAll())
+                .thenReturn(MOCK_PERMISSIONS);
+
+        // Then
+        Assertions.assertTrue(permissionCatalogue.encode(mockPermissionNames).isEmpty());
+    }
+
+    @Test
+    void givenBitmapOfUnknownCatalogueVersion_whenDecodedWithinReloadInterval_thenReturnEmpty() {
+
+        // When
+        Mockito.when(permissionReadPort.findAll())
+                .thenReturn(MOCK_PERMISSIONS);
+
+        Optional<String> permissionBitmap = permissionCatalogue.encode(List.of("user:list"));
+
+        // Then
+        Assertions.assertTrue(permissionBitmap.isPresent());
+        Assertions.assertTrue(permissionCatalogue.decode("0badc0de:Aw").isEmpty());
+        Assertions.assertTrue(permissionCatalogue.decode(permissionBitmap.get()).isPresent());
+
+        // Verify
+        Mockito.verify(permissionReadPort, Mockito.times(1))
+                .findAll();
+    }
+
+    @Test
+    void givenMalformedBitmap_whenDecoded_thenReturnEmpty() {
+
+        // When
+        Mockito.when(permissionReadPort.findAll())
+                .thenReturn(MOCK_PERMISSIONS);
+
+        String version = permissionCatalogue.encode(List.of("user:list")).orElseThrow().split(":")[0];
+
+        // Then
+        Assertions.assertTrue(permissionCatalogue.decode("no-separator").isEmpty());
+        Assertions.assertTrue(permissionCatalogue.decode(version + ":not*base64").isEmpty());
+        Assertions.assertTrue(permissionCatalogue.decode(version + ":__8").isEmpty());
+    }
+
+
+    private static final List<AysPermission> MOCK_PERMISSIONS = List.of(
+            new AysPermissionBuilder().withValidValues().withName("user:list").build(),
+            new AysPermissionBuilder().withValidValues().withName("user:detail").build(),
+            new AysPermissionBuilder().withValidValues().withName("user:update").build(),
+            new AysPermissionBuilder().withValidValues().withName("super").withIsSuper(true).build()
+    );
+
+}
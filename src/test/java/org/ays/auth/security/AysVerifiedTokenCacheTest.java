@@ -0,0 +1,114 @@
+package org.ays.auth.security;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.commons.lang3.time.DateUtils;
+import org.ays.AysUnitTest;
+import org.ays.auth.model.AysVerifiedToken;
+import org.ays.common.util.AysRandomUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Set;
+
+class AysVerifiedTokenCacheTest extends AysUnitTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+
+    @Test
+    void givenCachedToken_whenTokenRequested_thenReturnVerifiedToken() {
+        // Initialize
+        AysVerifiedTokenCache verifiedTokenCache = new AysVerifiedTokenCache(true, 10, meterRegistry);
+
+        // Given
+        AysVerifiedToken mockVerifiedToken = this.generateVerifiedToken(DateUtils.addMinutes(new Date(), 10));
+        verifiedTokenCache.put(mockVerifiedToken);
+
+        // Then
+        AysVerifiedToken verifiedToken = verifiedTokenCache.get(mockVerifiedToken.getValue());
+
+        Assertions.assertSame(mockVerifiedToken, verifiedToken);
+        Assertions.assertEquals(1.0, this.count("ays.auth.verified-token-cache.requests", "hit"));
+    }
+
+    @Test
+    void givenDisabledCache_whenTokenRequested_thenReturnNull() {
+        // Initialize
+        AysVerifiedTokenCache verifiedTokenCache = new AysVerifiedTokenCache(false, 10, meterRegistry);
+
+        // Given
+        AysVerifiedToken mockVerifiedToken = this.generateVerifiedToken(DateUtils.addMinutes(new Date(), 10));
+        verifiedTokenCache.put(mockVerifiedToken);
+
+        // Then
+        Assertions.assertNull(verifiedTokenCache.get(mockVerifiedToken.getValue()));
+    }
+
+    @Test
+    void givenExpiredCachedToken_whenTokenRequested_thenReturnNull() {
+        // Initialize
+        AysVerifiedTokenCache verifiedTokenCache = new AysVerifiedTokenCache(true, 10, meterRegistry);
+
+        // Given
+        AysVerifiedToken mockVerifiedToken = this.generateVerifiedToken(DateUtils.addMinutes(new Date(), -1));
+        verifiedTokenCache.put(mockVerifiedToken);
+
+        // Then
+        Assertions.assertNull(verifiedTokenCache.get(mockVerifiedToken.getValue()));
+        Assertions.assertEquals(1.0, this.count("ays.auth.verified-token-cache.requests", "miss"));
+        Assertions.assertEquals(0.0, meterRegistry.get("ays.auth.verified-token-cache.size").gauge().value());
+    }
+
+    @Test
+    void givenCachedToken_whenTokenEvicted_thenReturnNull() {
+        // Initialize
+        AysVerifiedTokenCache verifiedTokenCache = new AysVerifiedTokenCache(true, 10, meterRegistry);
+
+        // Given
+        AysVerifiedToken mockVerifiedToken = this.generateVerifiedToken(DateUtils.addMinutes(new Date(), 10));
+        verifiedTokenCache.put(mockVerifiedToken);
+
+        // When
+        verifiedTokenCache.evict(Set.of(mockVerifiedToken.getId()));
+
+        // Then
+        Assertions.assertNull(verifiedTokenCache.get(mockVerifiedToken.getValue()));
+        Assertions.assertEquals(1.0, meterRegistry.get("ays.auth.verified-token-cache.evictions").counter().count());
+    }
+
+    @Test
+    void givenFullCache_whenTokenCached_thenKeepCacheSizeBounded() {
+        // Initialize
+        AysVerifiedTokenCache verifiedTokenCache = new AysVerifiedTokenCache(true, 2, meterRegistry);
+
+        // Given
+        for (int i = 0; i < 5; i++) {
+            verifiedTokenCache.put(this.generateVerifiedToken(DateUtils.addMinutes(new Date(), 10)));
+        }
+
+        // Then
+        Assertions.assertEquals(2.0, meterRegistry.get("ays.auth.verified-token-cache.size").gauge().value());
+        Assertions.assertEquals(3.0, meterRegistry.get("ays.auth.verified-token-cache.evictions").counter().count());
+    }
+
+
+    private double count(String name, String result) {
+        return meterRegistry.get(name).tag("result", result).counter().count();
+    }
+
+    private AysVerifiedToken generateVerifiedToken(Date expiresAt) {
+        return AysVerifiedToken.builder()
+                .value(AysRandomUtil.generateUUID())
+                .claims(
+                        Jwts.claims()
+                                .id(AysRandomUtil.generateUUID())
+                                .expiration(expiresAt)
+                                .build()
+                )
+                .build();
+    }
+
+}
@@ -19,6 +19,7 @@ import org.ays.auth.port.AysRoleReadPort;
 import org.ays.auth.port.AysRoleSavePort;
 import org.ays.auth.port.AysUserReadPort;
 import org.ays.auth.port.AysUserSavePort;
+import org.ays.auth.security.AysPasswordHasher;
 import org.ays.auth.util.exception.AysAdminRegistrationApplicationNotExistByIdException;
 import org.ays.auth.util.exception.AysUserAlreadyExistsByEmailAddressException;
 import org.ays.auth.util.exception.AysUserAlreadyExistsByPhoneNumberException;
@@ -32,7 +33,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
 import java.util.Optional;
@@ -66,7 +66,7 @@ class AdminRegistrationCompleteServiceImplTest extends AysUnitTest {
     private AysPermissionReadPort permissionReadPort;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private AysPasswordHasher passwordHasher;
 
 
     @Test
@@ -119,7 +119,7 @@ class AdminRegistrationCompleteServiceImplTest extends AysUnitTest {
         Mockito.when(userSavePort.save(Mockito.any(AysUser.class)))
                 .thenReturn(mockUser);
 
-        Mockito.when(passwordEncoder.encode(Mockito.anyString()))
+        Mockito.when(passwordHasher.encode(Mockito.anyString()))
                 .thenReturn("encodedPassword");
 
         AdminRegistrationApplication mockCompletedApplication = new AdminRegistrationApplicationBuilder()
@@ -156,7 +156,7 @@ class AdminRegistrationCompleteServiceImplTest extends AysUnitTest {
         Mockito.verify(userSavePort, Mockito.times(1))
                 .save(Mockito.any(AysUser.class));
 
-        Mockito.verify(passwordEncoder, Mockito.times(1))
+        Mockito.verify(passwordHasher, Mockito.times(1))
                 .encode(Mockito.any(String.class));
 
         Mockito.verify(adminRegistrationApplicationSavePort, Mockito.times(1))
@@ -204,7 +204,7 @@ class AdminRegistrationCompleteServiceImplTest extends AysUnitTest {
         Mockito.when(userSavePort.save(Mockito.any(AysUser.class)))
                 .thenReturn(mockUser);
 
-        Mockito.when(passwordEncoder.encode(Mockito.anyString()))
+        Mockito.when(passwordHasher.encode(Mockito.anyString()))
                 .thenReturn("encodedPassword");
 
         AdminRegistrationApplication mockCompletedApplication = new AdminRegistrationApplicationBuilder()
@@ -241,7 +241,7 @@ class AdminRegistrationCompleteServiceImplTest extends AysUnitTest {
         Mockito.verify(userSavePort, Mockito.times(1))
                 .save(Mockito.any(AysUser.class));
 
-        Mockito.verify(passwordEncoder, Mockito.times(1))
+        Mockito.verify(passwordHasher, Mockito.times(1))
                 .encode(Mockito.any(String.class));
 
         Mockito.verify(adminRegistrationApplicationSavePort, Mockito.times(1))
@@ -288,7 +288,7 @@ class AdminRegistrationCompleteServiceImplTest extends AysUnitTest {
         Mockito.verify(userSavePort, Mockito.never())
                 .save(Mockito.any(AysUser.class));
 
-        Mockito.verify(passwordEncoder, Mockito.never())
+        Mockito.verify(passwordHasher, Mockito.never())
                 .encode(Mockito.any(String.class));
 
         Mockito.verify(adminRegistrationApplicationSavePort, Mockito.never())
@@ -340,7 +340,7 @@ class AdminRegistrationCompleteServiceImplTest extends AysUnitTest {
         Mockito.verify(userSavePort, Mockito.never())
                 .save(Mockito.any(AysUser.class));
 
-        Mockito.verify(passwordEncoder, Mockito.never())
+        Mockito.verify(passwordHasher, Mockito.never())
                 .encode(Mockito.any(String.class));
 
         Mockito.verify(adminRegistrationApplicationSavePort, Mockito.never())
@@ -394,7 +394,7 @@ class AdminRegistrationCompleteServiceImplTest extends AysUnitTest {
         Mockito.verify(userSavePort, Mockito.never())
                 .save(Mockito.any(AysUser.class));
 
-        Mockito.verify(passwordEncoder, Mockito.never())
+        Mockito.verify(passwordHasher, Mockito.never())
                 .encode(Mockito.any(String.class));
 
         Mockito.verify(adminRegistrationApplicationSavePort, Mockito.never())
@@ -458,7 +458,7 @@ class AdminRegistrationCompleteServiceImplTest extends AysUnitTest {
         Mockito.verify(userSavePort, Mockito.never())
                 .save(Mockito.any(AysUser.class));
 
-        Mockito.verify(passwordEncoder, Mockito.never())
+        Mockito.verify(passwordHasher, Mockito.never())
                 .encode(Mockito.any(String.class));
 
         Mockito.verify(adminRegistrationApplicationSavePort, Mockito.never())
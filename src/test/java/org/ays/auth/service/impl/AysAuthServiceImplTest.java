@@ -11,6 +11,7 @@ import org.ays.auth.model.AysToken;
 import org.ays.auth.model.AysTokenBuilder;
 import org.ays.auth.model.AysUser;
 import org.ays.auth.model.AysUserBuilder;
+import org.ays.auth.model.AysVerifiedToken;
 import org.ays.auth.model.enums.AysPermissionCategory;
 import org.ays.auth.model.enums.AysSourcePage;
 import org.ays.auth.model.enums.AysUserStatus;
@@ -18,9 +19,11 @@ import org.ays.auth.model.request.AysLoginRequest;
 import org.ays.auth.model.request.AysLoginRequestBuilder;
 import org.ays.auth.port.AysUserReadPort;
 import org.ays.auth.port.AysUserSavePort;
+import org.ays.auth.security.AysPasswordHasher;
 import org.ays.auth.service.AysInvalidTokenService;
 import org.ays.auth.service.AysTokenService;
 import org.ays.auth.util.exception.AysEmailAddressNotValidException;
+import org.ays.auth.util.exception.AysPasswordHashingSaturatedException;
 import org.ays.auth.util.exception.AysPasswordNotValidException;
 import org.ays.auth.util.exception.AysTokenAlreadyInvalidatedException;
 import org.ays.auth.util.exception.AysTokenNotValidException;
@@ -32,7 +35,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
 import java.util.Optional;
@@ -50,7 +52,7 @@ class AysAuthServiceImplTest extends AysUnitTest {
     private AysUserSavePort userSavePort;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private AysPasswordHasher passwordHasher;
 
     @Mock
     private AysTokenService tokenService;
@@ -62,6 +64,9 @@ class AysAuthServiceImplTest extends AysUnitTest {
     @Mock
     private AysIdentity identity;
 
+    @Mock
+    private AysLoginAttemptRecorder loginAttemptRecorder;
+
     @Test
     void givenValidLoginRequest_whenUserAuthenticatedForInstitution_thenReturnAysToken() {
         // Given
@@ -90,10 +95,10 @@ class AysAuthServiceImplTest extends AysUnitTest {
                 .withRoles(mockRoles)
                 .withValidPassword()
                 .build();
-        Mockito.when(userReadPort.findByEmailAddress(mockLoginRequest.getEmailAddress()))
+        Mockito.when(userReadPort.findForLoginByEmailAddress(mockLoginRequest.getEmailAddress()))
                 .thenReturn(Optional.of(mockUser));
 
-        Mockito.when(passwordEncoder.matches(mockLoginRequest.getPassword(), mockUser.getPassword().getValue()))
+        Mockito.when(passwordHasher.matches(mockLoginRequest.getPassword(), mockUser.getPassword().getValue()))
                 .thenReturn(true);
 
         Optional.ofNullable(mockUser.getLoginAttempt())
@@ -102,8 +107,9 @@ class AysAuthServiceImplTest extends AysUnitTest {
                             mockUser.setLoginAttempt(AysUser.LoginAttempt.builder().build());
                             mockUser.getLoginAttempt().success();
                         });
-        Mockito.when(userSavePort.save(Mockito.any(AysUser.class)))
-                .thenReturn(mockUser);
+        Mockito.doNothing()
+                .when(loginAttemptRecorder)
+                .record(Mockito.any(AysUser.class));
 
         Mockito.when(tokenService.generate(Mockito.any(Claims.class)))
                 .thenReturn(mockUserToken);
@@ -115,13 +121,13 @@ class AysAuthServiceImplTest extends AysUnitTest {
 
         // Verify
         Mockito.verify(userReadPort, Mockito.times(1))
-                .findByEmailAddress(Mockito.anyString());
+                .findForLoginByEmailAddress(Mockito.anyString());
 
-        Mockito.verify(passwordEncoder, Mockito.times(1))
+        Mockito.verify(passwordHasher, Mockito.times(1))
                 .matches(Mockito.anyString(), Mockito.anyString());
 
-        Mockito.verify(userSavePort, Mockito.times(1))
-                .save(Mockito.any(AysUser.class));
+        Mockito.verify(loginAttemptRecorder, Mockito.times(1))
+                .record(Mockito.any(AysUser.class));
 
         Mockito.verify(tokenService, Mockito.times(1))
                 .generate(Mockito.any(Claims.class));
@@ -155,10 +161,10 @@ class AysAuthServiceImplTest extends AysUnitTest {
                 .withRoles(mockRoles)
                 .withValidPassword()
                 .build();
-        Mockito.when(userReadPort.findByEmailAddress(mockLoginRequest.getEmailAddress()))
+        Mockito.when(userReadPort.findForLoginByEmailAddress(mockLoginRequest.getEmailAddress()))
                 .thenReturn(Optional.of(mockUser));
 
-        Mockito.when(passwordEncoder.matches(mockLoginRequest.getPassword(), mockUser.getPassword().getValue()))
+        Mockito.when(passwordHasher.matches(mockLoginRequest.getPassword(), mockUser.getPassword().getValue()))
                 .thenReturn(true);
 
         Optional.ofNullable(mockUser.getLoginAttempt())
@@ -167,8 +173,9 @@ class AysAuthServiceImplTest extends AysUnitTest {
                             mockUser.setLoginAttempt(AysUser.LoginAttempt.builder().build());
                             mockUser.getLoginAttempt().success();
                         });
-        Mockito.when(userSavePort.save(Mockito.any(AysUser.class)))
-                .thenReturn(mockUser);
+        Mockito.doNothing()
+                .when(loginAttemptRecorder)
+                .record(Mockito.any(AysUser.class));
 
         Mockito.when(tokenService.generate(Mockito.any(Claims.class)))
                 .thenReturn(mockUserToken);
@@ -180,13 +187,13 @@ class AysAuthServiceImplTest extends AysUnitTest {
 
         // Verify
         Mockito.verify(userReadPort, Mockito.times(1))
-                .findByEmailAddress(Mockito.anyString());
+                .findForLoginByEmailAddress(Mockito.anyString());
 
-        Mockito.verify(passwordEncoder, Mockito.times(1))
+        Mockito.verify(passwordHasher, Mockito.times(1))
                 .matches(Mockito.anyString(), Mockito.anyString());
 
-        Mockito.verify(userSavePort, Mockito.times(1))
-                .save(Mockito.any(AysUser.class));
+        Mockito.verify(loginAttemptRecorder, Mockito.times(1))
+                .record(Mockito.any(AysUser.class));
 
         Mockito.verify(tokenService, Mockito.times(1))
                 .generate(Mockito.any(Claims.class));
@@ -200,7 +207,7 @@ class AysAuthServiceImplTest extends AysUnitTest {
                 .build();
 
         // When
-        Mockito.when(userReadPort.findByEmailAddress(mockLoginRequest.getEmailAddress()))
+        Mockito.when(userReadPort.findForLoginByEmailAddress(mockLoginRequest.getEmailAddress()))
                 .thenReturn(Optional.empty());
 
         // Then
@@ -211,18 +218,182 @@ class AysAuthServiceImplTest extends AysUnitTest {
 
         // Verify
         Mockito.verify(userReadPort, Mockito.times(1))
-                .findByEmailAddress(Mockito.anyString());
+                .findForLoginByEmailAddress(Mockito.anyString());
 
-        Mockito.verify(passwordEncoder, Mockito.never())
-                .matches(Mockito.anyString(), Mockito.anyString());
+        Mockito.verify(passwordHasher, Mockito.times(1))
+                .matches(Mockito.anyString(), Mockito.isNull());
 
-        Mockito.verify(userSavePort, Mockito.never())
-                .save(Mockito.any(AysUser.class));
+        Mockito.verify(loginAttemptRecorder, Mockito.never())
+                .record(Mockito.any(AysUser.class));
+
+        Mockito.verify(tokenService, Mockito.never())
+                .generate(Mockito.any(Claims.class));
+    }
+
+    @Test
+    void givenValidLoginRequest_whenPasswordHashingSaturated_thenThrowPasswordHashingSaturatedException() {
+        // Given
+        AysLoginRequest mockLoginRequest = new AysLoginRequestBuilder()
+                .withValidValues()
+                .build();
+
+        // When
+        AysUser mockUser = new AysUserBuilder()
+                .withValidValues()
+                .withEmailAddress(mockLoginRequest.getEmailAddress())
+                .withValidPassword()
+                .build();
+        Mockito.when(userReadPort.findForLoginByEmailAddress(mockLoginRequest.getEmailAddress()))
+                .thenReturn(Optional.of(mockUser));
+
+        Mockito.when(passwordHasher.matches(mockLoginRequest.getPassword(), mockUser.getPassword().getValue()))
+                .thenThrow(new AysPasswordHashingSaturatedException());
+
+        // Then
+        Assertions.assertThrows(
+                AysPasswordHashingSaturatedException.class,
+                () -> userAuthService.authenticate(mockLoginRequest)
+        );
+
+        // Verify
+        Mockito.verify(loginAttemptRecorder, Mockito.never())
+                .record(Mockito.any(AysUser.class));
 
         Mockito.verify(tokenService, Mockito.never())
                 .generate(Mockito.any(Claims.class));
     }
 
+    @Test
+    void givenValidLoginRequestAndOutdatedPasswordEncoding_whenUserAuthenticated_thenSaveUpgradedPassword() {
+        // Given
+        AysSourcePage mockSourcePage = AysSourcePage.INSTITUTION;
+        AysLoginRequest mockLoginRequest = new AysLoginRequestBuilder()
+                .withValidValues()
+                .withSourcePage(mockSourcePage)
+                .build();
+
+        // When
+        List<AysPermission> mockPermissions = List.of(
+                new AysPermissionBuilder()
+                        .withValidValues()
+                        .withName(mockSourcePage.getPermission())
+                        .build()
+        );
+        List<AysRole> mockRoles = List.of(
+                new AysRoleBuilder()
+                        .withValidValues()
+                        .withPermissions(mockPermissions)
+                        .build()
+        );
+        AysUser mockUser = new AysUserBuilder()
+                .withValidValues()
+                .withEmailAddress(mockLoginRequest.getEmailAddress())
+                .withRoles(mockRoles)
+                .withValidPassword()
+                .build();
+        String mockOutdatedPassword = mockUser.getPassword().getValue();
+        Mockito.when(userReadPort.findForLoginByEmailAddress(mockLoginRequest.getEmailAddress()))
+                .thenReturn(Optional.of(mockUser));
+
+        Mockito.when(passwordHasher.matches(mockLoginRequest.getPassword(), mockOutdatedPassword))
+                .thenReturn(true);
+
+        Mockito.when(passwordHasher.upgradeEncoding(mockOutdatedPassword))
+                .thenReturn(true);
+
+        String mockUpgradedPassword = "{bcrypt}" + mockOutdatedPassword;
+        Mockito.when(passwordHasher.encode(mockLoginRequest.getPassword()))
+                .thenReturn(mockUpgradedPassword);
+
+        Mockito.doNothing()
+                .when(loginAttemptRecorder)
+                .record(Mockito.any(AysUser.class));
+
+        Mockito.when(tokenService.generate(Mockito.any(Claims.class)))
+                .thenReturn(mockUserToken);
+
+        // Then
+        AysToken token = userAuthService.authenticate(mockLoginRequest);
+
+        Assertions.assertEquals(mockUserToken, token);
+        Assertions.assertEquals(mockUpgradedPassword, mockUser.getPassword().getValue());
+
+        // Verify
+        Mockito.verify(passwordHasher, Mockito.times(1))
+                .encode(mockLoginRequest.getPassword());
+
+        Mockito.verify(userSavePort, Mockito.times(1))
+                .savePassword(Mockito.argThat(password -> mockUpgradedPassword.equals(password.getValue())));
+
+        Mockito.verify(loginAttemptRecorder, Mockito.times(1))
+                .record(mockUser);
+    }
+
+    @Test
+    void givenValidLoginRequestAndOutdatedPasswordEncoding_whenPasswordHashingSaturatedDuringUpgrade_thenReturnAysTokenWithoutUpgrade() {
+        // Given
+        AysSourcePage mockSourcePage = AysSourcePage.INSTITUTION;
+        AysLoginRequest mockLoginRequest = new AysLoginRequestBuilder()
+                .withValidValues()
+                .withSourcePage(mockSourcePage)
+                .build();
+
+        // When
+        List<AysPermission> mockPermissions = List.of(
+                new AysPermissionBuilder()
+                        .withValidValues()
+                        .withName(mockSourcePage.getPermission())
+                        .build()
+        );
+        List<AysRole> mockRoles = List.of(
+                new AysRoleBuilder()
+                        .withValidValues()
+                        .withPermissions(mockPermissions)
+                        .build()
+        );
+        AysUser mockUser = new AysUserBuilder()
+                .withValidValues()
+                .withEmailAddress(mockLoginRequest.getEmailAddress())
+                .withRoles(mockRoles)
+                .withValidPassword()
+                .build();
+        String mockOutdatedPassword = mockUser.getPassword().getValue();
+        Mockito.when(userReadPort.findForLoginByEmailAddress(mockLoginRequest.getEmailAddress()))
+                .thenReturn(Optional.of(mockUser));
+
+        Mockito.when(passwordHasher.matches(mockLoginRequest.getPassword(), mockOutdatedPassword))
+                .thenReturn(true);
+
+        Mockito.when(passwordHasher.upgradeEncoding(mockOutdatedPassword))
+                .thenReturn(true);
+
+        Mockito.when(passwordHasher.encode(mockLoginRequest.getPassword()))
+                .thenThrow(new AysPasswordHashingSaturatedException());
+
+        Mockito.doNothing()
+                .when(loginAttemptRecorder)
+                .record(Mockito.any(AysUser.class));
+
+        Mockito.when(tokenService.generate(Mockito.any(Claims.class)))
+                .thenReturn(mockUserToken);
+
+        // Then
+        AysToken token = userAuthService.authenticate(mockLoginRequest);
+
+        Assertions.assertEquals(mockUserToken, token);
+        Assertions.assertEquals(mockOutdatedPassword, mockUser.getPassword().getValue());
+
+        // Verify
+        Mockito.verify(passwordHasher, Mockito.times(1))
+                .encode(mockLoginRequest.getPassword());
+
+        Mockito.verify(userSavePort, Mockito.never())
+                .savePassword(Mockito.any(AysUser.Password.class));
+
+        Mockito.verify(loginAttemptRecorder, Mockito.times(1))
+                .record(mockUser);
+    }
+
     @Test
     void givenInvalidLoginRequest_whenUserNotAuthenticated_thenThrowPasswordNotValidException() {
         // Given
@@ -236,10 +407,10 @@ class AysAuthServiceImplTest extends AysUnitTest {
                 .withEmailAddress(mockLoginRequest.getEmailAddress())
                 .withValidPassword()
                 .build();
-        Mockito.when(userReadPort.findByEmailAddress(mockLoginRequest.getEmailAddress()))
+        Mockito.when(userReadPort.findForLoginByEmailAddress(mockLoginRequest.getEmailAddress()))
                 .thenReturn(Optional.of(mockUser));
 
-        Mockito.when(passwordEncoder.matches(mockLoginRequest.getEmailAddress(), mockUser.getPassword().getValue()))
+        Mockito.when(passwordHasher.matches(mockLoginRequest.getEmailAddress(), mockUser.getPassword().getValue()))
                 .thenReturn(false);
 
         // Then
@@ -250,13 +421,13 @@ class AysAuthServiceImplTest extends AysUnitTest {
 
         // Verify
         Mockito.verify(userReadPort, Mockito.times(1))
-                .findByEmailAddress(Mockito.anyString());
+                .findForLoginByEmailAddress(Mockito.anyString());
 
-        Mockito.verify(passwordEncoder, Mockito.times(1))
+        Mockito.verify(passwordHasher, Mockito.times(1))
                 .matches(Mockito.anyString(), Mockito.anyString());
 
-        Mockito.verify(userSavePort, Mockito.never())
-                .save(Mockito.any(AysUser.class));
+        Mockito.verify(loginAttemptRecorder, Mockito.never())
+                .record(Mockito.any(AysUser.class));
 
         Mockito.verify(tokenService, Mockito.never())
                 .generate(Mockito.any(Claims.class));
@@ -276,10 +447,10 @@ class AysAuthServiceImplTest extends AysUnitTest {
                 .withStatus(AysUserStatus.PASSIVE)
                 .withValidPassword()
                 .build();
-        Mockito.when(userReadPort.findByEmailAddress(mockLoginRequest.getEmailAddress()))
+        Mockito.when(userReadPort.findForLoginByEmailAddress(mockLoginRequest.getEmailAddress()))
                 .thenReturn(Optional.of(mockUser));
 
-        Mockito.when(passwordEncoder.matches(Mockito.anyString(), Mockito.anyString()))
+        Mockito.when(passwordHasher.matches(Mockito.anyString(), Mockito.anyString()))
                 .thenReturn(true);
 
         // Then
@@ -290,13 +461,13 @@ class AysAuthServiceImplTest extends AysUnitTest {
 
         // Verify
         Mockito.verify(userReadPort, Mockito.times(1))
-                .findByEmailAddress(Mockito.anyString());
+                .findForLoginByEmailAddress(Mockito.anyString());
 
-        Mockito.verify(passwordEncoder, Mockito.times(1))
+        Mockito.verify(passwordHasher, Mockito.times(1))
                 .matches(Mockito.anyString(), Mockito.anyString());
 
-        Mockito.verify(userSavePort, Mockito.never())
-                .save(Mockito.any(AysUser.class));
+        Mockito.verify(loginAttemptRecorder, Mockito.never())
+                .record(Mockito.any(AysUser.class));
 
         Mockito.verify(tokenService, Mockito.never())
                 .generate(Mockito.any(Claims.class));
@@ -330,10 +501,10 @@ class AysAuthServiceImplTest extends AysUnitTest {
                 .withRoles(mockRoles)
                 .withValidPassword()
                 .build();
-        Mockito.when(userReadPort.findByEmailAddress(mockLoginRequest.getEmailAddress()))
+        Mockito.when(userReadPort.findForLoginByEmailAddress(mockLoginRequest.getEmailAddress()))
                 .thenReturn(Optional.of(mockUser));
 
-        Mockito.when(passwordEncoder.matches(mockLoginRequest.getPassword(), mockUser.getPassword().getValue()))
+        Mockito.when(passwordHasher.matches(mockLoginRequest.getPassword(), mockUser.getPassword().getValue()))
                 .thenReturn(true);
 
         // Then
@@ -344,13 +515,13 @@ class AysAuthServiceImplTest extends AysUnitTest {
 
         // Verify
         Mockito.verify(userReadPort, Mockito.times(1))
-                .findByEmailAddress(Mockito.anyString());
+                .findForLoginByEmailAddress(Mockito.anyString());
 
-        Mockito.verify(passwordEncoder, Mockito.times(1))
+        Mockito.verify(passwordHasher, Mockito.times(1))
                 .matches(Mockito.anyString(), Mockito.anyString());
 
-        Mockito.verify(userSavePort, Mockito.never())
-                .save(Mockito.any(AysUser.class));
+        Mockito.verify(loginAttemptRecorder, Mockito.never())
+                .record(Mockito.any(AysUser.class));
 
         Mockito.verify(tokenService, Mockito.never())
                 .generate(Mockito.any(Claims.class));
@@ -376,16 +547,17 @@ class AysAuthServiceImplTest extends AysUnitTest {
                 """;
 
         // When
-        Mockito.doNothing().when(tokenService)
-                .verifyAndValidate(mockRefreshToken);
-
         AysUser mockUser = new AysUserBuilder()
                 .withValidValues()
                 .build();
 
         Claims mockClaims = AysTokenBuilder.addValidTokenClaims(mockUser.getClaims());
-        Mockito.when(tokenService.getPayload(mockRefreshToken))
-                .thenReturn(mockClaims);
+        AysVerifiedToken mockVerifiedRefreshToken = AysVerifiedToken.builder()
+                .value(mockRefreshToken)
+                .claims(mockClaims)
+                .build();
+        Mockito.when(tokenService.verifyAndValidate(mockRefreshToken))
+                .thenReturn(mockVerifiedRefreshToken);
 
         Mockito.doNothing().when(invalidTokenService)
                 .checkForInvalidityOfToken(Mockito.anyString());
@@ -408,9 +580,6 @@ class AysAuthServiceImplTest extends AysUnitTest {
         Mockito.verify(tokenService, Mockito.times(1))
                 .verifyAndValidate(Mockito.anyString());
 
-        Mockito.verify(tokenService, Mockito.times(1))
-                .getPayload(Mockito.anyString());
-
         Mockito.verify(invalidTokenService, Mockito.times(1))
                 .checkForInvalidityOfToken(Mockito.anyString());
 
@@ -444,9 +613,6 @@ class AysAuthServiceImplTest extends AysUnitTest {
         Mockito.verify(tokenService, Mockito.times(1))
                 .verifyAndValidate(mockRefreshToken);
 
-        Mockito.verify(tokenService, Mockito.never())
-                .getPayload(mockRefreshToken);
-
         Mockito.verify(invalidTokenService, Mockito.never())
                 .checkForInvalidityOfToken(Mockito.anyString());
 
@@ -470,16 +636,17 @@ class AysAuthServiceImplTest extends AysUnitTest {
                 """;
 
         // When
-        Mockito.doNothing().when(tokenService)
-                .verifyAndValidate(mockRefreshToken);
-
         AysUser mockUser = new AysUserBuilder()
                 .withValidValues()
                 .build();
 
         Claims mockClaims = AysTokenBuilder.addValidTokenClaims(mockUser.getClaims());
-        Mockito.when(tokenService.getPayload(mockRefreshToken))
-                .thenReturn(mockClaims);
+        AysVerifiedToken mockVerifiedRefreshToken = AysVerifiedToken.builder()
+                .value(mockRefreshToken)
+                .claims(mockClaims)
+                .build();
+        Mockito.when(tokenService.verifyAndValidate(mockRefreshToken))
+                .thenReturn(mockVerifiedRefreshToken);
 
         Mockito.doThrow(AysTokenAlreadyInvalidatedException.class)
                 .when(invalidTokenService)
@@ -495,9 +662,6 @@ class AysAuthServiceImplTest extends AysUnitTest {
         Mockito.verify(tokenService, Mockito.times(1))
                 .verifyAndValidate(Mockito.anyString());
 
-        Mockito.verify(tokenService, Mockito.times(1))
-                .getPayload(Mockito.anyString());
-
         Mockito.verify(invalidTokenService, Mockito.times(1))
                 .checkForInvalidityOfToken(Mockito.anyString());
 
@@ -527,17 +691,18 @@ class AysAuthServiceImplTest extends AysUnitTest {
                 """;
 
         // When
-        Mockito.doNothing().when(tokenService)
-                .verifyAndValidate(mockRefreshToken);
-
         AysUser mockUser = new AysUserBuilder()
                 .withValidValues()
                 .build();
 
 
         Claims mockClaims = AysTokenBuilder.addValidTokenClaims(mockUser.getClaims());
-        Mockito.when(tokenService.getPayload(mockRefreshToken))
-                .thenReturn(mockClaims);
+        AysVerifiedToken mockVerifiedRefreshToken = AysVerifiedToken.builder()
+                .value(mockRefreshToken)
+                .claims(mockClaims)
+                .build();
+        Mockito.when(tokenService.verifyAndValidate(mockRefreshToken))
+                .thenReturn(mockVerifiedRefreshToken);
 
         Mockito.doNothing().when(invalidTokenService)
                 .checkForInvalidityOfToken(Mockito.anyString());
@@ -555,9 +720,6 @@ class AysAuthServiceImplTest extends AysUnitTest {
         Mockito.verify(tokenService, Mockito.times(1))
                 .verifyAndValidate(Mockito.anyString());
 
-        Mockito.verify(tokenService, Mockito.times(1))
-                .getPayload(Mockito.anyString());
-
         Mockito.verify(invalidTokenService, Mockito.times(1))
                 .checkForInvalidityOfToken(Mockito.anyString());
 
@@ -587,17 +749,18 @@ class AysAuthServiceImplTest extends AysUnitTest {
                 """;
 
         // When
-        Mockito.doNothing().when(tokenService)
-                .verifyAndValidate(mockRefreshToken);
-
         AysUser mockUser = new AysUserBuilder()
                 .withValidValues()
                 .withStatus(AysUserStatus.PASSIVE)
                 .build();
 
         Claims mockClaims = AysTokenBuilder.addValidTokenClaims(mockUser.getClaims());
-        Mockito.when(tokenService.getPayload(mockRefreshToken))
-                .thenReturn(mockClaims);
+        AysVerifiedToken mockVerifiedRefreshToken = AysVerifiedToken.builder()
+                .value(mockRefreshToken)
+                .claims(mockClaims)
+                .build();
+        Mockito.when(tokenService.verifyAndValidate(mockRefreshToken))
+                .thenReturn(mockVerifiedRefreshToken);
 
         Mockito.doNothing().when(invalidTokenService)
                 .checkForInvalidityOfToken(Mockito.anyString());
@@ -615,9 +778,6 @@ class AysAuthServiceImplTest extends AysUnitTest {
         Mockito.verify(tokenService, Mockito.times(1))
                 .verifyAndValidate(Mockito.anyString());
 
-        Mockito.verify(tokenService, Mockito.times(1))
-                .getPayload(Mockito.anyString());
-
         Mockito.verify(invalidTokenService, Mockito.times(1))
                 .checkForInvalidityOfToken(Mockito.anyString());
 
@@ -636,7 +796,6 @@ class AysAuthServiceImplTest extends AysUnitTest {
                 .withValidValues()
                 .build();
 
-        String mockAccessToken = mockUserToken.getAccessToken();
         Claims mockAccessTokenClaims = AysTokenBuilder.addValidTokenClaims(mockUser.getClaims());
         String mockAccessTokenId = mockAccessTokenClaims.getId();
 
@@ -646,19 +805,17 @@ class AysAuthServiceImplTest extends AysUnitTest {
         String mockRefreshTokenId = mockRefreshTokenClaims.getId();
 
         // When
-        Mockito.doNothing().when(tokenService)
-                .verifyAndValidate(mockRefreshToken);
-
-        Mockito.when(tokenService.getPayload(mockRefreshToken))
-                .thenReturn(mockRefreshTokenClaims);
+        AysVerifiedToken mockVerifiedRefreshToken = AysVerifiedToken.builder()
+                .value(mockRefreshToken)
+                .claims(mockRefreshTokenClaims)
+                .build();
+        Mockito.when(tokenService.verifyAndValidate(mockRefreshToken))
+                .thenReturn(mockVerifiedRefreshToken);
         Mockito.doNothing().when(invalidTokenService)
                 .checkForInvalidityOfToken(mockRefreshTokenId);
 
-        Mockito.when(identity.getAccessToken())
-                .thenReturn(mockAccessToken);
-
-        Mockito.when(tokenService.getPayload(mockAccessToken))
-                .thenReturn(mockAccessTokenClaims);
+        Mockito.when(identity.getAccessTokenId())
+                .thenReturn(mockAccessTokenId);
 
         Mockito.doNothing().when(invalidTokenService)
                 .invalidateTokens(Set.of(mockAccessTokenId, mockRefreshTokenId));
@@ -670,14 +827,11 @@ class AysAuthServiceImplTest extends AysUnitTest {
         Mockito.verify(tokenService, Mockito.times(1))
                 .verifyAndValidate(Mockito.anyString());
 
-        Mockito.verify(tokenService, Mockito.times(2))
-                .getPayload(Mockito.anyString());
-
         Mockito.verify(invalidTokenService, Mockito.times(1))
                 .checkForInvalidityOfToken(Mockito.anyString());
 
         Mockito.verify(identity, Mockito.times(1))
-                .getAccessToken();
+                .getAccessTokenId();
 
         Mockito.verify(invalidTokenService, Mockito.times(1))
                 .invalidateTokens(Mockito.anySet());
@@ -702,14 +856,11 @@ class AysAuthServiceImplTest extends AysUnitTest {
         Mockito.verify(tokenService, Mockito.times(1))
                 .verifyAndValidate(Mockito.anyString());
 
-        Mockito.verify(tokenService, Mockito.never())
-                .getPayload(Mockito.anyString());
-
         Mockito.verify(invalidTokenService, Mockito.never())
                 .checkForInvalidityOfToken(Mockito.anyString());
 
         Mockito.verify(identity, Mockito.never())
-                .getAccessToken();
+                .getAccessTokenId();
 
         Mockito.verify(invalidTokenService, Mockito.never())
                 .invalidateTokens(Mockito.anySet());
@@ -728,11 +879,12 @@ class AysAuthServiceImplTest extends AysUnitTest {
         String mockRefreshTokenId = mockRefreshTokenClaims.getId();
 
         // When
-        Mockito.doNothing().when(tokenService)
-                .verifyAndValidate(mockRefreshToken);
-
-        Mockito.when(tokenService.getPayload(mockRefreshToken))
-                .thenReturn(mockRefreshTokenClaims);
+        AysVerifiedToken mockVerifiedRefreshToken = AysVerifiedToken.builder()
+                .value(mockRefreshToken)
+                .claims(mockRefreshTokenClaims)
+                .build();
+        Mockito.when(tokenService.verifyAndValidate(mockRefreshToken))
+                .thenReturn(mockVerifiedRefreshToken);
 
         Mockito.doThrow(AysTokenAlreadyInvalidatedException.class)
                 .when(invalidTokenService).checkForInvalidityOfToken(mockRefreshTokenId);
@@ -747,14 +899,11 @@ class AysAuthServiceImplTest extends AysUnitTest {
         Mockito.verify(tokenService, Mockito.times(1))
                 .verifyAndValidate(Mockito.anyString());
 
-        Mockito.verify(tokenService, Mockito.times(1))
-                .getPayload(Mockito.anyString());
-
         Mockito.verify(invalidTokenService, Mockito.times(1))
                 .checkForInvalidityOfToken(Mockito.anyString());
 
         Mockito.verify(identity, Mockito.never())
-                .getAccessToken();
+                .getAccessTokenId();
 
         Mockito.verify(invalidTokenService, Mockito.never())
                 .invalidateTokens(Mockito.anySet());
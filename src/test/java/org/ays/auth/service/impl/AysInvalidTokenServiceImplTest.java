@@ -5,6 +5,8 @@ import org.ays.auth.model.AysInvalidToken;
 import org.ays.auth.model.AysInvalidTokenBuilder;
 import org.ays.auth.port.AysInvalidTokenReadPort;
 import org.ays.auth.port.AysInvalidTokenSavePort;
+import org.ays.auth.security.AysInvalidTokenIndex;
+import org.ays.auth.security.AysVerifiedTokenCache;
 import org.ays.auth.util.exception.AysTokenAlreadyInvalidatedException;
 import org.ays.common.util.AysRandomUtil;
 import org.junit.jupiter.api.Assertions;
@@ -12,6 +14,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 import java.util.Set;
@@ -27,6 +31,12 @@ class AysInvalidTokenServiceImplTest extends AysUnitTest {
     @Mock
     private AysInvalidTokenSavePort invalidTokenSavePort;
 
+    @Mock
+    private AysVerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private AysInvalidTokenIndex invalidTokenIndex;
+
 
     @Test
     void givenValidTokenIds_whenTokensInvalid_thenInvalidateTokens() {
@@ -44,6 +54,49 @@ class AysInvalidTokenServiceImplTest extends AysUnitTest {
         // Verify
         Mockito.verify(invalidTokenSavePort, Mockito.times(1))
                 .saveAll(Mockito.anySet());
+
+        Mockito.verify(invalidTokenIndex, Mockito.times(1))
+                .addAll(mockTokenIds);
+
+        Mockito.verify(verifiedTokenCache, Mockito.times(1))
+                .evict(mockTokenIds);
+    }
+
+    @Test
+    void givenValidTokenIdsInTransaction_whenTokensInvalid_thenRevokeTokensAfterCommit() {
+        // Given
+        Set<String> mockTokenIds = Set.of(AysRandomUtil.generateUUID(), AysRandomUtil.generateUUID());
+
+        // When
+        Mockito.doNothing()
+                .when(invalidTokenSavePort)
+                .saveAll(Mockito.anySet());
+
+        // Then
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            invalidTokenService.invalidateTokens(mockTokenIds);
+
+            Mockito.verify(invalidTokenIndex, Mockito.never())
+                    .addAll(Mockito.anySet());
+            Mockito.verify(verifiedTokenCache, Mockito.never())
+                    .evict(Mockito.anySet());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Verify
+        Mockito.verify(invalidTokenSavePort, Mockito.times(1))
+                .saveAll(Mockito.anySet());
+
+        Mockito.verify(invalidTokenIndex, Mockito.times(1))
+                .addAll(mockTokenIds);
+
+        Mockito.verify(verifiedTokenCache, Mockito.times(1))
+                .evict(mockTokenIds);
     }
 
     @Test
@@ -84,4 +137,51 @@ class AysInvalidTokenServiceImplTest extends AysUnitTest {
                 .findByTokenId(mockTokenId);
     }
 
+    @Test
+    void givenInvalidTokenIdInIndex_whenTokenIdValidated_thenThrowTokenAlreadyInvalidatedException() {
+        // Given
+        String mockTokenId = AysRandomUtil.generateUUID();
+
+        // When
+        Mockito.when(invalidTokenIndex.isResolvable(mockTokenId))
+                .thenReturn(true);
+        Mockito.when(invalidTokenIndex.contains(mockTokenId))
+                .thenReturn(true);
+
+        // Then
+        Assertions.assertThrows(
+                AysTokenAlreadyInvalidatedException.class,
+                () -> invalidTokenService.checkForInvalidityOfToken(mockTokenId)
+        );
+
+        // Verify
+        Mockito.verify(invalidTokenIndex, Mockito.times(1))
+                .contains(mockTokenId);
+
+        Mockito.verify(invalidTokenReadPort, Mockito.never())
+                .findByTokenId(Mockito.anyString());
+    }
+
+    @Test
+    void givenValidTokenIdNotInIndex_whenTokenIdValid_thenDoNothing() {
+        // Given
+        String mockTokenId = AysRandomUtil.generateUUID();
+
+        // When
+        Mockito.when(invalidTokenIndex.isResolvable(mockTokenId))
+                .thenReturn(true);
+        Mockito.when(invalidTokenIndex.contains(mockTokenId))
+                .thenReturn(false);
+
+        // Then
+        invalidTokenService.checkForInvalidityOfToken(mockTokenId);
+
+        // Verify
+        Mockito.verify(invalidTokenIndex, Mockito.times(1))
+                .contains(mockTokenId);
+
+        Mockito.verify(invalidTokenReadPort, Mockito.never())
+                .findByTokenId(Mockito.anyString());
+    }
+
 }
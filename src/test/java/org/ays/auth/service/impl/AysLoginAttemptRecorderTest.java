@@ -0,0 +1,154 @@
+package org.ays.auth.service.impl;
+
+import org.ays.AysUnitTest;
+import org.ays.auth.model.AysUser;
+import org.ays.auth.model.AysUserBuilder;
+import org.ays.auth.port.AysUserSavePort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class AysLoginAttemptRecorderTest extends AysUnitTest {
+
+    @Mock
+    private AysUserSavePort userSavePort;
+
+
+    @Test
+    void givenAsyncDisabled_whenLoginAttemptRecorded_thenSaveLoginAttemptImmediately() {
+        // Given
+        AysLoginAttemptRecorder loginAttemptRecorder = new AysLoginAttemptRecorder(false, userSavePort);
+        AysUser mockUser = this.mockUser(LocalDateTime.now());
+
+        // Then
+        loginAttemptRecorder.record(mockUser);
+        loginAttemptRecorder.flush();
+
+        // Verify
+        Mockito.verify(userSavePort, Mockito.times(1))
+                .saveLoginAttempt(mockUser);
+
+        Mockito.verify(userSavePort, Mockito.never())
+                .saveLoginAttempts(Mockito.anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenAsyncEnabledAndRepeatedLogins_whenFlushed_thenSaveLatestLoginAttemptOfEachUserOnce() {
+        // Given
+        AysLoginAttemptRecorder loginAttemptRecorder = new AysLoginAttemptRecorder(true, userSavePort);
+
+        LocalDateTime mockLastLoginAt = LocalDateTime.now();
+        AysUser mockFirstLoginOfUser = this.mockUser(mockLastLoginAt.minusSeconds(2));
+        AysUser mockLatestLoginOfUser = this.mockUser(mockLastLoginAt);
+        mockLatestLoginOfUser.setId(mockFirstLoginOfUser.getId());
+        mockLatestLoginOfUser.getLoginAttempt().setId(mockFirstLoginOfUser.getLoginAttempt().getId());
+        AysUser mockOutOfOrderLoginOfUser = this.mockUser(mockLastLoginAt.minusSeconds(1));
+        mockOutOfOrderLoginOfUser.setId(mockFirstLoginOfUser.getId());
+        mockOutOfOrderLoginOfUser.getLoginAttempt().setId(mockFirstLoginOfUser.getLoginAttempt().getId());
+
+        AysUser mockOtherUser = this.mockUser(mockLastLoginAt);
+
+        // When
+        loginAttemptRecorder.record(mockFirstLoginOfUser);
+        loginAttemptRecorder.record(mockLatestLoginOfUser);
+        loginAttemptRecorder.record(mockOutOfOrderLoginOfUser);
+        loginAttemptRecorder.record(mockOtherUser);
+
+        // Then
+        loginAttemptRecorder.flush();
+        loginAttemptRecorder.flush();
+
+        // Verify
+        ArgumentCaptor<List<AysUser>> usersCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(userSavePort, Mockito.times(1))
+                .saveLoginAttempts(usersCaptor.capture());
+
+        Mockito.verify(userSavePort, Mockito.never())
+                .saveLoginAttempt(Mockito.any(AysUser.class));
+
+        Map<String, AysUser> savedUsers = usersCaptor.getValue().stream()
+                .collect(Collectors.toMap(AysUser::getId, Function.identity()));
+        Assertions.assertEquals(2, savedUsers.size());
+        Assertions.assertEquals(mockLastLoginAt, savedUsers.get(mockFirstLoginOfUser.getId()).getLoginAttempt().getLastLoginAt());
+        Assertions.assertEquals(mockFirstLoginOfUser.getLoginAttempt().getId(), savedUsers.get(mockFirstLoginOfUser.getId()).getLoginAttempt().getId());
+        Assertions.assertEquals(mockLastLoginAt, savedUsers.get(mockOtherUser.getId()).getLoginAttempt().getLastLoginAt());
+    }
+
+    @Test
+    void givenAsyncEnabledAndFailingSave_whenFlushed_thenDropLoginAttemptsWithoutThrowing() {
+        // Given
+        AysLoginAttemptRecorder loginAttemptRecorder = new AysLoginAttemptRecorder(true, userSavePort);
+        loginAttemptRecorder.record(this.mockUser(LocalDateTime.now()));
+
+        // When
+        Mockito.doThrow(new IllegalStateException("database is not available"))
+                .when(userSavePort)
+                .saveLoginAttempts(Mockito.anyList());
+        Mockito.doThrow(new IllegalStateException("database is not available"))
+                .when(userSavePort)
+                .saveLoginAttempt(Mockito.any(AysUser.class));
+
+        // Then
+        Assertions.assertDoesNotThrow(loginAttemptRecorder::flush);
+        loginAttemptRecorder.flush();
+
+        // Verify
+        Mockito.verify(userSavePort, Mockito.times(1))
+                .saveLoginAttempts(Mockito.anyList());
+
+        Mockito.verify(userSavePort, Mockito.times(1))
+                .saveLoginAttempt(Mockito.any(AysUser.class));
+    }
+
+    @Test
+    void givenAsyncEnabledAndFailingLoginAttemptOfOneUser_whenFlushed_thenSaveLoginAttemptsOfOtherUsers() {
+        // Given
+        AysLoginAttemptRecorder loginAttemptRecorder = new AysLoginAttemptRecorder(true, userSavePort);
+        AysUser mockFailingUser = this.mockUser(LocalDateTime.now());
+        AysUser mockUser = this.mockUser(LocalDateTime.now());
+        loginAttemptRecorder.record(mockFailingUser);
+        loginAttemptRecorder.record(mockUser);
+
+        // When
+        Mockito.doThrow(new IllegalStateException("duplicate login attempt"))
+                .when(userSavePort)
+                .saveLoginAttempts(Mockito.anyList());
+        Mockito.doThrow(new IllegalStateException("duplicate login attempt"))
+                .when(userSavePort)
+                .saveLoginAttempt(Mockito.argThat(user -> user != null && mockFailingUser.getId().equals(user.getId())));
+
+        // Then
+        Assertions.assertDoesNotThrow(loginAttemptRecorder::flush);
+
+        // Verify
+        Mockito.verify(userSavePort, Mockito.times(1))
+                .saveLoginAttempts(Mockito.anyList());
+
+        Mockito.verify(userSavePort, Mockito.times(1))
+                .saveLoginAttempt(Mockito.argThat(user -> user != null && mockUser.getId().equals(user.getId())));
+
+        Mockito.verify(userSavePort, Mockito.times(2))
+                .saveLoginAttempt(Mockito.any(AysUser.class));
+    }
+
+
+    private AysUser mockUser(final LocalDateTime lastLoginAt) {
+        return new AysUserBuilder()
+                .withValidValues()
+                .withLoginAttempt(new AysUserBuilder.LoginAttemptBuilder()
+                        .withValidValues()
+                        .withLastLoginAt(lastLoginAt)
+                        .build())
+                .build();
+    }
+
+}
@@ -239,7 +239,7 @@ class AysUserCreateServiceImplTest extends AysUnitTest {
         Mockito.verify(userReadPort, Mockito.times(1))
                 .findByPhoneNumber(Mockito.any(AysPhoneNumber.class));
 
-        Mockito.verify(identity, Mockito.never())
+        Mockito.verify(identity, Mockito.times(1))
                 .getInstitutionId();
 
         Mockito.verify(roleReadPort, Mockito.times(1))
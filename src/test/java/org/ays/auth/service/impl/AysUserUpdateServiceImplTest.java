@@ -109,7 +109,7 @@ class AysUserUpdateServiceImplTest extends AysUnitTest {
         Mockito.verify(userReadPort, Mockito.times(1))
                 .findById(Mockito.anyString());
 
-        Mockito.verify(identity, Mockito.times(mockRoles.size() + 1))
+        Mockito.verify(identity, Mockito.times(2))
                 .getInstitutionId();
 
         Mockito.verify(userReadPort, Mockito.times(1))
@@ -505,7 +505,7 @@ class AysUserUpdateServiceImplTest extends AysUnitTest {
         Mockito.verify(userReadPort, Mockito.times(1))
                 .findById(mockId);
 
-        Mockito.verify(identity, Mockito.times(1))
+        Mockito.verify(identity, Mockito.times(2))
                 .getInstitutionId();
 
         Mockito.verify(userReadPort, Mockito.never())
@@ -0,0 +1,78 @@
+package org.ays.common.config;
+
+import org.ays.AysUnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+class AysSchedulerLockTest extends AysUnitTest {
+
+    private AysSchedulerLock schedulerLock;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        schedulerLock = new AysSchedulerLock(jdbcTemplate);
+    }
+
+
+    @Test
+    void givenExpiredLock_whenLockAcquired_thenReturnLeaseWithFencingTokenOfWrittenRow() {
+        // Given
+        String mockLockName = "INVALID_TOKENS_DELETION";
+
+        // When
+        Mockito.when(jdbcTemplate.update(Mockito.startsWith("UPDATE"), Mockito.any(Object[].class)))
+                .thenReturn(1);
+        Mockito.when(jdbcTemplate.queryForList(Mockito.anyString(), Mockito.eq(Long.class), Mockito.any(Object[].class)))
+                .thenReturn(List.of(5L));
+
+        // Then
+        Optional<AysSchedulerLock.Lease> lease = schedulerLock.tryAcquire(mockLockName, Duration.ofMinutes(1));
+
+        Assertions.assertTrue(lease.isPresent());
+        Assertions.assertEquals(5L, lease.get().getFencingToken());
+
+        // Verify
+        Mockito.verify(jdbcTemplate, Mockito.times(1))
+                .queryForList(
+                        Mockito.contains("LOCKED_BY = ? AND LOCKED_AT = ?"),
+                        Mockito.eq(Long.class),
+                        Mockito.eq(mockLockName),
+                        Mockito.anyString(),
+                        Mockito.eq(lease.get().getLockedAt())
+                );
+    }
+
+    @Test
+    void givenLockTakenOverAfterAcquisition_whenLockAcquired_thenReturnEmpty() {
+        // Given
+        String mockLockName = "INVALID_TOKENS_DELETION";
+
+        // When
+        Mockito.when(jdbcTemplate.update(Mockito.startsWith("UPDATE"), Mockito.any(Object[].class)))
+                .thenReturn(1);
+        Mockito.when(jdbcTemplate.queryForList(Mockito.anyString(), Mockito.eq(Long.class), Mockito.any(Object[].class)))
+                .thenReturn(List.of());
+
+        // Then
+        Optional<AysSchedulerLock.Lease> lease = schedulerLock.tryAcquire(mockLockName, Duration.ofMinutes(1));
+
+        Assertions.assertTrue(lease.isEmpty());
+
+        // Verify
+        Mockito.verify(jdbcTemplate, Mockito.never())
+                .update(Mockito.startsWith("INSERT"), Mockito.any(Object[].class));
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.ays.common.config;
+
+import org.ays.AysEndToEndTest;
+import org.ays.common.util.AysRandomUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class SchedulerLockEndToEndTest extends AysEndToEndTest {
+
+    @Autowired
+    private AysSchedulerLock schedulerLock;
+
+
+    @Test
+    void givenFreeLock_whenLockAcquired_thenReturnLeaseAndSkipOtherAcquisitions() {
+        // Given
+        String mockLockName = AysRandomUtil.generateText(10);
+
+        // Then
+        Optional<AysSchedulerLock.Lease> lease = schedulerLock.tryAcquire(mockLockName, Duration.ofMinutes(1));
+
+        Assertions.assertTrue(lease.isPresent());
+        Assertions.assertEquals(1L, lease.get().getFencingToken());
+        Assertions.assertTrue(schedulerLock.isHeld(lease.get()));
+
+        Assertions.assertTrue(schedulerLock.tryAcquire(mockLockName, Duration.ofMinutes(1)).isEmpty());
+    }
+
+    @Test
+    void givenReleasedLock_whenLockAcquired_thenReturnLeaseWithIncrementedFencingToken() {
+        // Given
+        String mockLockName = AysRandomUtil.generateText(10);
+        AysSchedulerLock.Lease firstLease = schedulerLock.tryAcquire(mockLockName, Duration.ofMinutes(1))
+                .orElseThrow();
+        schedulerLock.release(firstLease, Duration.ZERO);
+
+        // Then
+        Optional<AysSchedulerLock.Lease> secondLease = schedulerLock.tryAcquire(mockLockName, Duration.ofMinutes(1));
+
+        Assertions.assertTrue(secondLease.isPresent());
+        Assertions.assertEquals(firstLease.getFencingToken() + 1, secondLease.get().getFencingToken());
+        Assertions.assertFalse(schedulerLock.isHeld(firstLease));
+        Assertions.assertTrue(schedulerLock.isHeld(secondLease.get()));
+    }
+
+    @Test
+    void givenLockHeldAtLeastForDuration_whenJobExecutedAgain_thenSkipJob() {
+        // Given
+        String mockLockName = AysRandomUtil.generateText(10);
+        boolean isFirstExecuted = schedulerLock.executeWithLock(
+                mockLockName, Duration.ofMinutes(1), Duration.ofMinutes(1), lease -> {
+                }
+        );
+
+        // Then
+        AtomicBoolean isSecondTaskRun = new AtomicBoolean(false);
+        boolean isSecondExecuted = schedulerLock.executeWithLock(
+                mockLockName, Duration.ofMinutes(1), Duration.ofMinutes(1), lease -> isSecondTaskRun.set(true)
+        );
+
+        Assertions.assertTrue(isFirstExecuted);
+        Assertions.assertFalse(isSecondExecuted);
+        Assertions.assertFalse(isSecondTaskRun.get());
+    }
+
+}
@@ -0,0 +1,211 @@
+package org.ays.common.model;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.ays.AysUnitTest;
+import org.ays.auth.model.AysRoleFilter;
+import org.ays.auth.model.entity.AysUserEntity;
+import org.ays.auth.model.enums.AysRoleStatus;
+import org.ays.auth.model.enums.AysUserStatus;
+import org.junit.jupiter.api.Assertions;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaExpression;
+import org.hibernate.query.criteria.JpaPredicate;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+class AysFilterTest extends AysUnitTest {
+
+    @Mock
+    private Root<AysUserEntity> root;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder criteriaBuilder;
+
+    @Mock
+    private HibernateCriteriaBuilder hibernateCriteriaBuilder;
+
+    @Mock
+    private Path<Object> path;
+
+    @Mock
+    private JpaExpression<String> phrase;
+
+    @Mock
+    private JpaPredicate jpaPredicate;
+
+    @Mock
+    private Predicate predicate;
+
+
+    @Test
+    void givenThreeValues_whenInSpecificationCreated_thenReturnSingleInPredicateWithValues() {
+        // Given
+        Set<AysUserStatus> mockStatuses = new LinkedHashSet<>(List.of(
+                AysUserStatus.ACTIVE, AysUserStatus.PASSIVE, AysUserStatus.DELETED
+        ));
+
+        // When
+        Mockito.doReturn(path).when(root).get("status");
+        Mockito.when(path.in(Mockito.any(Collection.class)))
+                .thenReturn(predicate);
+
+        // Then
+        Predicate inPredicate = AysFilter.<AysUserEntity>in("status", mockStatuses)
+                .toPredicate(root, query, criteriaBuilder);
+
+        Assertions.assertEquals(predicate, inPredicate);
+
+        // Verify
+        Mockito.verify(path, Mockito.times(1))
+                .in(mockStatuses);
+        Mockito.verify(criteriaBuilder, Mockito.never())
+                .or(Mockito.any(Predicate[].class));
+    }
+
+    @Test
+    void givenEmptyValues_whenInSpecificationCreated_thenReturnNoPredicate() {
+
+        // Then
+        Predicate inPredicate = AysFilter.<AysUserEntity>in("status", Set.of())
+                .toPredicate(root, query, criteriaBuilder);
+
+        Assertions.assertNull(inPredicate);
+
+        // Verify
+        Mockito.verifyNoInteractions(root, criteriaBuilder);
+    }
+
+    @Test
+    void givenValueWithWildcards_whenStartsWithSpecificationCreated_thenReturnLikePredicateWithEscapedWildcards() {
+        // Given
+        String mockValue = "50%_off!";
+
+        // When
+        Mockito.doReturn(path).when(root).get("firstName");
+        Mockito.when(criteriaBuilder.like(Mockito.any(), Mockito.anyString(), Mockito.anyChar()))
+                .thenReturn(predicate);
+
+        // Then
+        Predicate likePredicate = AysFilter.<AysUserEntity>startsWith("firstName", mockValue)
+                .toPredicate(root, query, criteriaBuilder);
+
+        Assertions.assertEquals(predicate, likePredicate);
+
+        // Verify
+        Mockito.verify(criteriaBuilder, Mockito.times(1))
+                .like(Mockito.any(), Mockito.eq("50!%!_off!!%"), Mockito.eq('!'));
+    }
+
+    @Test
+    void givenFullTextSearchableValue_whenContainsByFullTextSpecificationCreated_thenBindValueAsParameter() {
+        // Given
+        String mockValue = "Ahmet";
+
+        // When
+        Mockito.doReturn(path).when(root).get("firstName");
+        Mockito.when(hibernateCriteriaBuilder.like(Mockito.any(), Mockito.anyString(), Mockito.anyChar()))
+                .thenReturn(jpaPredicate);
+        Mockito.when(hibernateCriteriaBuilder.value("\"Ahmet\""))
+                .thenReturn(phrase);
+        Mockito.when(hibernateCriteriaBuilder.and(Mockito.any(), Mockito.any()))
+                .thenReturn(jpaPredicate);
+
+        // Then
+        Predicate fullTextPredicate = AysFilter.<AysUserEntity>containsByFullText("firstName", mockValue)
+                .toPredicate(root, query, hibernateCriteriaBuilder);
+
+        Assertions.assertEquals(jpaPredicate, fullTextPredicate);
+
+        // Verify
+        Mockito.verify(hibernateCriteriaBuilder, Mockito.times(1))
+                .function(Mockito.anyString(), Mockito.eq(Double.class), Mockito.eq(path), Mockito.eq(phrase));
+        Mockito.verify(hibernateCriteriaBuilder, Mockito.never())
+                .literal(Mockito.any());
+    }
+
+    @Test
+    void givenOnlyLowerBound_whenBetweenSpecificationCreated_thenReturnGreaterThanOrEqualToPredicate() {
+        // Given
+        LocalDateTime mockFrom = LocalDateTime.now().minusDays(1);
+
+        // When
+        Mockito.doReturn(path).when(root).get("createdAt");
+        Mockito.when(criteriaBuilder.greaterThanOrEqualTo(Mockito.any(), Mockito.any(LocalDateTime.class)))
+                .thenReturn(predicate);
+
+        // Then
+        Predicate rangePredicate = AysFilter.<AysUserEntity, LocalDateTime>between("createdAt", mockFrom, null)
+                .toPredicate(root, query, criteriaBuilder);
+
+        Assertions.assertEquals(predicate, rangePredicate);
+
+        // Verify
+        Mockito.verify(criteriaBuilder, Mockito.never())
+                .between(Mockito.any(), Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class));
+        Mockito.verify(criteriaBuilder, Mockito.never())
+                .lessThanOrEqualTo(Mockito.any(), Mockito.any(LocalDateTime.class));
+    }
+
+    @Test
+    void givenSameStatusesInDifferentOrders_whenCountKeysBuilt_thenReturnSameKeys() {
+        // Given
+        Set<AysUserStatus> mockStatuses = new LinkedHashSet<>(List.of(AysUserStatus.ACTIVE, AysUserStatus.PASSIVE));
+        Set<AysUserStatus> mockReversedStatuses = new LinkedHashSet<>(List.of(AysUserStatus.PASSIVE, AysUserStatus.ACTIVE));
+
+        // Then
+        String countKey = AysFilter.CountKey.builder()
+                .withAll("statuses", mockStatuses)
+                .build();
+        String reversedCountKey = AysFilter.CountKey.builder()
+                .withAll("statuses", mockReversedStatuses)
+                .build();
+
+        Assertions.assertEquals(countKey, reversedCountKey);
+    }
+
+    @Test
+    void givenValueContainingNextCriterion_whenCountKeysBuilt_thenReturnDifferentKeys() {
+        // Then
+        String countKey = AysFilter.CountKey.builder()
+                .with("firstName", "John;lastName=")
+                .with("lastName", null)
+                .build();
+        String otherCountKey = AysFilter.CountKey.builder()
+                .with("firstName", "John")
+                .with("lastName", "")
+                .build();
+
+        Assertions.assertNotEquals(countKey, otherCountKey);
+    }
+
+    @Test
+    void givenRoleFiltersOfDifferentInstitutions_whenCountKeysBuilt_thenReturnDifferentKeys() {
+        // Given
+        AysRoleFilter mockRoleFilter = AysRoleFilter.builder()
+                .statuses(Set.of(AysRoleStatus.ACTIVE))
+                .institutionId("a6ab0fb1-51ff-4b1f-a1bc-7d3fb9a7c8b4")
+                .build();
+        AysRoleFilter mockOtherRoleFilter = AysRoleFilter.builder()
+                .statuses(Set.of(AysRoleStatus.ACTIVE))
+                .institutionId("ad4ef0e0-3b8c-4a2a-8b4c-9e8b2c1d4f5a")
+                .build();
+
+        // Then
+        Assertions.assertNotEquals(mockRoleFilter.toCountKey(), mockOtherRoleFilter.toCountKey());
+    }
+
+}
@@ -0,0 +1,279 @@
+package org.ays.common.model;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.ays.AysUnitTest;
+import org.ays.auth.model.entity.AysRoleEntity;
+import org.ays.auth.model.entity.AysRoleEntityBuilder;
+import org.ays.common.util.exception.AysPageCursorNotValidException;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+class AysPageCursorTest extends AysUnitTest {
+
+    @Mock
+    private Root<AysRoleEntity> root;
+
+    @Mock
+    private CriteriaQuery<?> query;
+
+    @Mock
+    private CriteriaBuilder criteriaBuilder;
+
+    @Mock
+    private HibernateCriteriaBuilder hibernateCriteriaBuilder;
+
+    @Mock
+    private Path<Object> namePath;
+
+    @Mock
+    private Path<Object> idPath;
+
+
+    @Test
+    void givenPageWithNextPage_whenNextPageRequestedWithCursor_thenSeekRowsAfterLastEntity() {
+        // Given
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withPageSize(2)
+                .build();
+        mockAysPageable.setOrders(List.of(
+                AysSort.AysOrder.builder().property("name").direction(AysSort.Direction.DESC).build()
+        ));
+
+        AysRoleEntity mockLastEntity = new AysRoleEntityBuilder()
+                .withValidValues()
+                .withName("admin")
+                .build();
+        List<AysRoleEntity> mockEntities = List.of(
+                new AysRoleEntityBuilder().withValidValues().withName("volunteer").build(),
+                mockLastEntity
+        );
+        Page<AysRoleEntity> mockEntitiesPage = new PageImpl<>(mockEntities, mockAysPageable.toPageable(), 5);
+
+        // When
+        AysPage<AysRoleEntity> page = AysPage.of(mockEntitiesPage, mockEntities);
+
+        Mockito.doReturn(namePath).when(root).get("name");
+        Mockito.doReturn(String.class).when(namePath).getJavaType();
+        Mockito.doReturn(idPath).when(root).get("id");
+        Mockito.doReturn(String.class).when(idPath).getJavaType();
+
+        // Then
+        Assertions.assertNotNull(page.getNextCursor());
+        Assertions.assertEquals(1, page.getOrderedBy().size());
+        Assertions.assertEquals("name", page.getOrderedBy().get(0).getProperty());
+
+        AysPageable mockNextAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withPageSize(2)
+                .withCursor(page.getNextCursor())
+                .build();
+        mockNextAysPageable.setOrders(mockAysPageable.getOrders());
+
+        Pageable pageable = mockNextAysPageable.toPageable();
+        Assertions.assertEquals(0, pageable.getPageNumber());
+
+        Specification<AysRoleEntity> specification = mockNextAysPageable.toSeekSpecification();
+        specification.toPredicate(root, query, criteriaBuilder);
+
+        // Verify
+        Mockito.verify(criteriaBuilder, Mockito.times(1))
+                .lessThan(Mockito.<Path<String>>any(), Mockito.eq("admin"));
+        Mockito.verify(criteriaBuilder, Mockito.times(1))
+                .equal(namePath, "admin");
+        Mockito.verify(criteriaBuilder, Mockito.times(1))
+                .greaterThan(Mockito.<Path<String>>any(), Mockito.eq(mockLastEntity.getId()));
+        Mockito.verify(criteriaBuilder, Mockito.times(1))
+                .or(Mockito.any(Predicate[].class));
+    }
+
+    @Test
+    void givenLastPage_whenPageCreated_thenReturnPageWithoutNextCursor() {
+        // Given
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withPageSize(2)
+                .withoutOrders()
+                .build();
+
+        // When
+        List<AysRoleEntity> mockEntities = List.of(
+                new AysRoleEntityBuilder().withValidValues().build()
+        );
+        Page<AysRoleEntity> mockEntitiesPage = new PageImpl<>(mockEntities, mockAysPageable.toPageable(), 1);
+
+        // Then
+        AysPage<AysRoleEntity> page = AysPage.of(mockEntitiesPage, mockEntities);
+
+        Assertions.assertNull(page.getNextCursor());
+        Assertions.assertNull(page.getOrderedBy());
+    }
+
+    @Test
+    void givenCursorOfAnotherOrders_whenSeekSpecificationCreated_thenThrowAysPageCursorNotValidException() {
+        // Given
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withoutOrders()
+                .build();
+
+        List<AysRoleEntity> mockEntities = List.of(
+                new AysRoleEntityBuilder().withValidValues().build()
+        );
+        Page<AysRoleEntity> mockEntitiesPage = new PageImpl<>(mockEntities, mockAysPageable.toPageable(), 5);
+        String mockCursor = AysPage.of(mockEntitiesPage, mockEntities).getNextCursor();
+
+        // When
+        AysPageable mockNextAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withCursor(mockCursor)
+                .build();
+        mockNextAysPageable.setOrders(List.of(
+                AysSort.AysOrder.builder().property("createdAt").direction(AysSort.Direction.ASC).build()
+        ));
+
+        // Then
+        Assertions.assertThrows(
+                AysPageCursorNotValidException.class,
+                mockNextAysPageable::toSeekSpecification
+        );
+    }
+
+    @Test
+    void givenMalformedCursor_whenSeekSpecificationCreated_thenThrowAysPageCursorNotValidException() {
+        // Given
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withoutOrders()
+                .withCursor("not-a-cursor")
+                .build();
+
+        // Then
+        Assertions.assertThrows(
+                AysPageCursorNotValidException.class,
+                mockAysPageable::toSeekSpecification
+        );
+    }
+
+    @Test
+    void givenCursorOfUnsupportedSortKeyType_whenSeekPredicateCreated_thenThrowAysPageCursorNotValidException() {
+        // Given
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withPageSize(1)
+                .build();
+        mockAysPageable.setOrders(List.of(
+                AysSort.AysOrder.builder().property("name").direction(AysSort.Direction.ASC).build()
+        ));
+
+        List<AysRoleEntity> mockEntities = List.of(
+                new AysRoleEntityBuilder().withValidValues().withName("admin").build()
+        );
+        Page<AysRoleEntity> mockEntitiesPage = new PageImpl<>(mockEntities, mockAysPageable.toPageable(), 5);
+        String mockCursor = AysPage.of(mockEntitiesPage, mockEntities).getNextCursor();
+
+        // When
+        AysPageable mockNextAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withPageSize(1)
+                .withCursor(mockCursor)
+                .build();
+        mockNextAysPageable.setOrders(mockAysPageable.getOrders());
+
+        Mockito.doReturn(namePath).when(root).get("name");
+        Mockito.doReturn(Boolean.class).when(namePath).getJavaType();
+
+        // Then
+        Specification<AysRoleEntity> specification = mockNextAysPageable.toSeekSpecification();
+        Assertions.assertThrows(
+                AysPageCursorNotValidException.class,
+                () -> specification.toPredicate(root, query, criteriaBuilder)
+        );
+    }
+
+    @Test
+    void givenLastEntityWithNullSortKey_whenNextPageRequestedWithCursor_thenSeekRowsAfterNullSortKey() {
+        // Given
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withPageSize(1)
+                .build();
+        mockAysPageable.setOrders(List.of(
+                AysSort.AysOrder.builder().property("name").direction(AysSort.Direction.ASC).build()
+        ));
+
+        AysRoleEntity mockLastEntity = new AysRoleEntityBuilder()
+                .withValidValues()
+                .withName(null)
+                .build();
+        List<AysRoleEntity> mockEntities = List.of(mockLastEntity);
+        Page<AysRoleEntity> mockEntitiesPage = new PageImpl<>(mockEntities, mockAysPageable.toPageable(), 5);
+
+        // When
+        AysPage<AysRoleEntity> page = AysPage.of(mockEntitiesPage, mockEntities);
+
+        Mockito.doReturn(namePath).when(root).get("name");
+        Mockito.doReturn(String.class).when(namePath).getJavaType();
+        Mockito.doReturn(idPath).when(root).get("id");
+        Mockito.doReturn(String.class).when(idPath).getJavaType();
+
+        // Then
+        Assertions.assertNotNull(page.getNextCursor());
+
+        AysPageable mockNextAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withPageSize(1)
+                .withCursor(page.getNextCursor())
+                .build();
+        mockNextAysPageable.setOrders(mockAysPageable.getOrders());
+
+        Specification<AysRoleEntity> specification = mockNextAysPageable.toSeekSpecification();
+        specification.toPredicate(root, query, criteriaBuilder);
+
+        // Verify
+        Mockito.verify(criteriaBuilder, Mockito.times(1))
+                .isNotNull(namePath);
+        Mockito.verify(criteriaBuilder, Mockito.times(1))
+                .isNull(namePath);
+        Mockito.verify(criteriaBuilder, Mockito.times(1))
+                .greaterThan(Mockito.<Path<String>>any(), Mockito.eq(mockLastEntity.getId()));
+    }
+
+    @Test
+    void givenAscendingAndDescendingOrders_whenOrdersCreated_thenOrderNullSortKeysAsSmallestValues() {
+        // Given
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .build();
+        mockAysPageable.setOrders(List.of(
+                AysSort.AysOrder.builder().property("name").direction(AysSort.Direction.DESC).build()
+        ));
+
+        // When
+        Mockito.doReturn(namePath).when(root).get("name");
+        Mockito.doReturn(idPath).when(root).get("id");
+
+        // Then
+        mockAysPageable.toOrders(root, hibernateCriteriaBuilder);
+
+        // Verify
+        Mockito.verify(hibernateCriteriaBuilder, Mockito.times(1))
+                .desc(namePath, false);
+        Mockito.verify(hibernateCriteriaBuilder, Mockito.times(1))
+                .asc(idPath, true);
+    }
+
+}
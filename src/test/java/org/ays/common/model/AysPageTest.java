@@ -0,0 +1,49 @@
+package org.ays.common.model;
+
+import org.ays.AysUnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+class AysPageTest extends AysUnitTest {
+
+    @Test
+    void givenSliceWithoutTotalElementCount_whenPageCreated_thenReturnPageWithoutTotalCounts() {
+        // Given
+        List<String> mockContent = List.of("first", "second");
+        Slice<String> mockSlice = new SliceImpl<>(mockContent, PageRequest.of(0, 2), true);
+
+        // Then
+        AysPage<String> page = AysPage.of(null, mockSlice, null, mockContent);
+
+        Assertions.assertEquals(1, page.getPageNumber());
+        Assertions.assertEquals(2, page.getPageSize());
+        Assertions.assertTrue(page.getHasNext());
+        Assertions.assertNull(page.getTotalElementCount());
+        Assertions.assertNull(page.getTotalPageCount());
+    }
+
+    @Test
+    void givenSliceWithTotalElementCount_whenPageCreatedAndMapped_thenReturnMappedPageWithTotalCounts() {
+        // Given
+        List<String> mockContent = List.of("first", "second");
+        Slice<String> mockSlice = new SliceImpl<>(mockContent, PageRequest.of(1, 2), true);
+
+        // When
+        AysPage<String> mockPage = AysPage.of(null, mockSlice, 5L, mockContent);
+
+        // Then
+        AysPage<Integer> page = mockPage.map(content -> content.stream().map(String::length).toList());
+
+        Assertions.assertEquals(List.of(5, 6), page.getContent());
+        Assertions.assertEquals(2, page.getPageNumber());
+        Assertions.assertEquals(5L, page.getTotalElementCount());
+        Assertions.assertEquals(3, page.getTotalPageCount());
+        Assertions.assertTrue(page.getHasNext());
+    }
+
+}
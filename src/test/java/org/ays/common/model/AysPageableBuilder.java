@@ -1,5 +1,7 @@
 package org.ays.common.model;
 
+import org.ays.common.model.enums.AysPageCount;
+
 public class AysPageableBuilder extends TestDataBuilder<AysPageable> {
 
     public AysPageableBuilder() {
@@ -9,7 +11,9 @@ public class AysPageableBuilder extends TestDataBuilder<AysPageable> {
     public AysPageableBuilder withValidValues() {
         return new AysPageableBuilder()
                 .withPage(1)
-                .withPageSize(1);
+                .withPageSize(1)
+                .withCursor(null)
+                .withCount(null);
     }
 
     public AysPageableBuilder withPage(int page) {
@@ -22,6 +26,16 @@ public class AysPageableBuilder extends TestDataBuilder<AysPageable> {
         return this;
     }
 
+    public AysPageableBuilder withCursor(String cursor) {
+        data.setCursor(cursor);
+        return this;
+    }
+
+    public AysPageableBuilder withCount(AysPageCount count) {
+        data.setCount(count);
+        return this;
+    }
+
     public AysPageableBuilder withoutOrders() {
         data.setOrders(null);
         return this;
@@ -1,5 +1,7 @@
 package org.ays.common.model;
 
+import org.ays.common.model.enums.AysPageCount;
+
 public class AysPagingBuilder extends TestDataBuilder<AysPageable> {
 
     public AysPagingBuilder() {
@@ -9,7 +11,9 @@ public class AysPagingBuilder extends TestDataBuilder<AysPageable> {
     public AysPagingBuilder withValidValues() {
         return this
                 .withPage(1)
-                .withPageSize(10);
+                .withPageSize(10)
+                .withCursor(null)
+                .withCount(null);
     }
 
     public AysPagingBuilder withPage(int page) {
@@ -22,4 +26,14 @@ public class AysPagingBuilder extends TestDataBuilder<AysPageable> {
         return this;
     }
 
+    public AysPagingBuilder withCursor(String cursor) {
+        data.setCursor(cursor);
+        return this;
+    }
+
+    public AysPagingBuilder withCount(AysPageCount count) {
+        data.setCount(count);
+        return this;
+    }
+
 }
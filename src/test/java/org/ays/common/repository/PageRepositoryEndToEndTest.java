@@ -0,0 +1,81 @@
+package org.ays.common.repository;
+
+import org.ays.AysEndToEndTest;
+import org.ays.auth.model.entity.AysRoleEntity;
+import org.ays.auth.repository.AysRoleRepository;
+import org.ays.common.model.AysPage;
+import org.ays.common.model.AysPageable;
+import org.ays.common.model.AysPageableBuilder;
+import org.ays.common.model.enums.AysPageCount;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+
+class PageRepositoryEndToEndTest extends AysEndToEndTest {
+
+    @Autowired
+    private AysPageRepository pageRepository;
+
+    @Autowired
+    private AysRoleRepository roleRepository;
+
+
+    @Test
+    void givenExactCount_whenPageFound_thenReturnPageWithTotalCounts() {
+        // Given
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withoutOrders()
+                .withCount(AysPageCount.EXACT)
+                .build();
+
+        // Then
+        AysPage<AysRoleEntity> rolesPage = pageRepository
+                .findAll(AysRoleEntity.class, Specification.allOf(), mockAysPageable, null);
+
+        long roleCount = roleRepository.count();
+        Assertions.assertEquals(roleCount, rolesPage.getTotalElementCount());
+        Assertions.assertEquals((int) roleCount, rolesPage.getTotalPageCount());
+        Assertions.assertEquals(roleCount > 1, rolesPage.getHasNext());
+        Assertions.assertEquals(1, rolesPage.getContent().size());
+    }
+
+    @Test
+    void givenEstimatedCount_whenPageFoundTwice_thenReturnSameTotalCounts() {
+        // Given
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withoutOrders()
+                .withCount(AysPageCount.ESTIMATED)
+                .build();
+
+        // Then
+        AysPage<AysRoleEntity> rolesPage = pageRepository
+                .findAll(AysRoleEntity.class, Specification.allOf(), mockAysPageable, null);
+        AysPage<AysRoleEntity> cachedRolesPage = pageRepository
+                .findAll(AysRoleEntity.class, Specification.allOf(), mockAysPageable, null);
+
+        Assertions.assertEquals(roleRepository.count(), rolesPage.getTotalElementCount());
+        Assertions.assertEquals(rolesPage.getTotalElementCount(), cachedRolesPage.getTotalElementCount());
+    }
+
+    @Test
+    void givenNoCount_whenPageFound_thenReturnPageWithoutTotalCounts() {
+        // Given
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withoutOrders()
+                .withCount(AysPageCount.NONE)
+                .build();
+
+        // Then
+        AysPage<AysRoleEntity> rolesPage = pageRepository
+                .findAll(AysRoleEntity.class, Specification.allOf(), mockAysPageable, null);
+
+        Assertions.assertNull(rolesPage.getTotalElementCount());
+        Assertions.assertNull(rolesPage.getTotalPageCount());
+        Assertions.assertEquals(roleRepository.count() > 1, rolesPage.getHasNext());
+    }
+
+}
@@ -0,0 +1,339 @@
+package org.ays.common.service.impl;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.awaitility.Awaitility;
+import org.ays.AysUnitTest;
+import org.ays.common.model.AysMail;
+import org.ays.common.model.AysMailBuilder;
+import org.ays.common.util.AysRandomUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class AysMailDispatcherTest extends AysUnitTest {
+
+    private AysMailDispatcher mailDispatcher;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private AysMailOutbox mailOutbox;
+
+    private final AysMailTemplateRenderer templateRenderer = new AysMailTemplateRenderer();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+
+    private ListAppender<ILoggingEvent> logWatcher;
+
+    @BeforeEach
+    void start() {
+        mailDispatcher = new AysMailDispatcher(
+                mailSender, mailOutbox, templateRenderer, meterRegistry, 1, 1, 2, 2, 30000, 2, 3600000, 300000
+        );
+
+        logWatcher = new ListAppender<>();
+        logWatcher.start();
+        ((Logger) LoggerFactory.getLogger(AysMailDispatcher.class))
+                .addAppender(logWatcher);
+    }
+
+    @AfterEach
+    void detach() {
+        mailDispatcher.shutdown();
+        ((Logger) LoggerFactory.getLogger(AysMailDispatcher.class))
+                .detachAndStopAllAppenders();
+    }
+
+
+    @Test
+    void givenValidMail_whenMailSendingSuccessfully_thenRemoveMailFromOutbox() {
+        // Given
+        AysMail mockMail = new AysMailBuilder()
+                .withValidValues()
+                .build();
+        AysMailOutbox.Entry mockEntry = this.generateEntry(mockMail, 0);
+
+        // When
+        Mockito.when(mailOutbox.claim(Mockito.eq(mockEntry), Mockito.any(Duration.class)))
+                .thenReturn(true);
+
+        Mockito.when(mailSender.createMimeMessage())
+                .thenReturn(Mockito.mock(MimeMessage.class));
+
+        Mockito.doNothing()
+                .when(mailSender)
+                .send(Mockito.any(MimeMessage[].class));
+
+        // Then
+        mailDispatcher.dispatch(List.of(mockEntry));
+
+        Awaitility.await()
+                .atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    // Verify
+                    Mockito.verify(mailSender, Mockito.times(1))
+                            .send(Mockito.any(MimeMessage[].class));
+
+                    Mockito.verify(mailOutbox, Mockito.times(1))
+                            .remove(mockEntry);
+
+                    Assertions.assertEquals(1L, meterRegistry.get("ays.mail.send").tag("result", "success").timer().count());
+                    Assertions.assertEquals(1.0, meterRegistry.get("ays.mail.sent").counter().count());
+                    Assertions.assertTrue(this.isLogged(Level.TRACE, "Mail " + mockEntry.getId() + " sent with " + mockMail.getTemplate() + " template"));
+                });
+    }
+
+    @Test
+    void givenValidMail_whenReceivedErrorWhileMailSending_thenRescheduleMailWithBackoff() {
+        // Given
+        AysMail mockMail = new AysMailBuilder()
+                .withValidValues()
+                .build();
+        AysMailOutbox.Entry mockEntry = this.generateEntry(mockMail, 0);
+
+        // When
+        Mockito.when(mailOutbox.claim(Mockito.eq(mockEntry), Mockito.any(Duration.class)))
+                .thenReturn(true);
+
+        Mockito.when(mailSender.createMimeMessage())
+                .thenReturn(Mockito.mock(MimeMessage.class));
+
+        Mockito.doThrow(new MailSendException("relay is not reachable"))
+                .when(mailSender)
+                .send(Mockito.any(MimeMessage[].class));
+
+        // Then
+        LocalDateTime dispatchedAt = LocalDateTime.now();
+        mailDispatcher.dispatch(List.of(mockEntry));
+
+        Awaitility.await()
+                .atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    // Verify
+                    Mockito.verify(mailOutbox, Mockito.times(1))
+                            .reschedule(
+                                    Mockito.eq(mockEntry),
+                                    Mockito.argThat(nextAttemptAt -> !nextAttemptAt.isBefore(dispatchedAt.plusSeconds(30))),
+                                    Mockito.eq("relay is not reachable")
+                            );
+
+                    Mockito.verify(mailOutbox, Mockito.never())
+                            .remove(Mockito.any(AysMailOutbox.Entry.class));
+
+                    Assertions.assertEquals(1L, meterRegistry.get("ays.mail.send").tag("result", "failure").timer().count());
+                    Assertions.assertTrue(this.isLogged(Level.WARN));
+                });
+    }
+
+    @Test
+    void givenBatchOfMails_whenRelayRejectsOneMail_thenRemoveSentMailAndRescheduleRejectedMail() {
+        // Given
+        AysMail mockMail = new AysMailBuilder()
+                .withValidValues()
+                .build();
+        AysMailOutbox.Entry mockSentEntry = this.generateEntry(mockMail, 0);
+        AysMailOutbox.Entry mockRejectedEntry = this.generateEntry(mockMail, 0);
+
+        // When
+        Mockito.when(mailOutbox.claim(Mockito.any(AysMailOutbox.Entry.class), Mockito.any(Duration.class)))
+                .thenReturn(true);
+
+        MimeMessage mockSentMessage = Mockito.mock(MimeMessage.class);
+        MimeMessage mockRejectedMessage = Mockito.mock(MimeMessage.class);
+        Mockito.when(mailSender.createMimeMessage())
+                .thenReturn(mockSentMessage, mockRejectedMessage);
+
+        Mockito.doThrow(new MailSendException(Map.of(mockRejectedMessage, new MessagingException("mailbox unavailable"))))
+                .when(mailSender)
+                .send(Mockito.any(MimeMessage[].class));
+
+        // Then
+        mailDispatcher.dispatch(List.of(mockSentEntry, mockRejectedEntry));
+
+        Awaitility.await()
+                .atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    // Verify
+                    Mockito.verify(mailSender, Mockito.times(1))
+                            .send(Mockito.any(MimeMessage[].class));
+
+                    Mockito.verify(mailOutbox, Mockito.times(1))
+                            .remove(mockSentEntry);
+
+                    Mockito.verify(mailOutbox, Mockito.times(1))
+                            .reschedule(Mockito.eq(mockRejectedEntry), Mockito.any(LocalDateTime.class), Mockito.eq("mailbox unavailable"));
+
+                    Assertions.assertEquals(1.0, meterRegistry.get("ays.mail.sent").counter().count());
+                    Assertions.assertEquals(1.0, meterRegistry.get("ays.mail.failures").counter().count());
+                    Assertions.assertEquals(2.0, meterRegistry.get("ays.mail.batch.size").summary().totalAmount());
+                });
+    }
+
+    @Test
+    void givenMailAtLastAttempt_whenReceivedErrorWhileMailSending_thenMarkMailAsFailed() {
+        // Given
+        AysMail mockMail = new AysMailBuilder()
+                .withValidValues()
+                .build();
+        AysMailOutbox.Entry mockEntry = this.generateEntry(mockMail, 1);
+
+        // When
+        Mockito.when(mailOutbox.claim(Mockito.eq(mockEntry), Mockito.any(Duration.class)))
+                .thenReturn(true);
+
+        Mockito.when(mailSender.createMimeMessage())
+                .thenReturn(Mockito.mock(MimeMessage.class));
+
+        Mockito.doThrow(new MailSendException("relay is not reachable"))
+                .when(mailSender)
+                .send(Mockito.any(MimeMessage[].class));
+
+        // Then
+        mailDispatcher.dispatch(List.of(mockEntry));
+
+        Awaitility.await()
+                .atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> {
+                    // Verify
+                    Mockito.verify(mailOutbox, Mockito.times(1))
+                            .fail(mockEntry, "relay is not reachable");
+
+                    Mockito.verify(mailOutbox, Mockito.never())
+                            .reschedule(Mockito.any(), Mockito.any(), Mockito.any());
+
+                    Assertions.assertEquals(1.0, meterRegistry.get("ays.mail.abandoned").counter().count());
+                    Assertions.assertTrue(this.isLogged(Level.ERROR));
+                    Assertions.assertFalse(this.isLoggedContaining(mockMail.getTo().get(0)));
+                });
+    }
+
+    @Test
+    void givenMailClaimedByAnotherWorker_whenMailDispatched_thenSkipMail() {
+        // Given
+        AysMailOutbox.Entry mockEntry = this.generateEntry(new AysMailBuilder().withValidValues().build(), 0);
+
+        // When
+        Mockito.when(mailOutbox.claim(Mockito.eq(mockEntry), Mockito.any(Duration.class)))
+                .thenReturn(false);
+
+        // Then
+        mailDispatcher.dispatch(List.of(mockEntry));
+
+        // Verify
+        Awaitility.await()
+                .atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> Mockito.verify(mailOutbox, Mockito.times(1))
+                        .claim(Mockito.eq(mockEntry), Mockito.any(Duration.class)));
+
+        Mockito.verifyNoInteractions(mailSender);
+        Mockito.verify(mailOutbox, Mockito.never())
+                .remove(Mockito.any(AysMailOutbox.Entry.class));
+    }
+
+    @Test
+    void givenFullQueue_whenMailDispatched_thenLeaveMailInOutbox() throws InterruptedException {
+        // Given
+        AysMail mockMail = new AysMailBuilder()
+                .withValidValues()
+                .build();
+
+        CountDownLatch workerLatch = new CountDownLatch(1);
+        CountDownLatch claimLatch = new CountDownLatch(1);
+        Mockito.when(mailOutbox.claim(Mockito.any(AysMailOutbox.Entry.class), Mockito.any(Duration.class)))
+                .thenAnswer(invocation -> {
+                    claimLatch.countDown();
+                    workerLatch.await();
+                    return false;
+                });
+
+        // When
+        mailDispatcher.dispatch(List.of(this.generateEntry(mockMail, 0)));
+        Assertions.assertTrue(claimLatch.await(1, TimeUnit.SECONDS));
+        mailDispatcher.dispatch(List.of(this.generateEntry(mockMail, 0)));
+
+        // Then
+        mailDispatcher.dispatch(List.of(this.generateEntry(mockMail, 0)));
+        mailDispatcher.dispatchDue();
+
+        workerLatch.countDown();
+
+        // Verify
+        Assertions.assertEquals(1.0, meterRegistry.get("ays.mail.dispatcher.rejections").counter().count());
+        Assertions.assertTrue(this.isLogged(Level.WARN));
+
+        Mockito.verify(mailOutbox, Mockito.never())
+                .findDue(Mockito.anyInt());
+    }
+
+    @Test
+    void givenDueMails_whenOutboxPolled_thenDispatchAsManyBatchesAsQueueCapacity() {
+        // Given
+        AysMailOutbox.Entry mockEntry = this.generateEntry(new AysMailBuilder().withValidValues().build(), 1);
+
+        // When
+        Mockito.when(mailOutbox.findDue(2))
+                .thenReturn(List.of(mockEntry));
+
+        Mockito.when(mailOutbox.claim(Mockito.eq(mockEntry), Mockito.any(Duration.class)))
+                .thenReturn(false);
+
+        // Then
+        mailDispatcher.dispatchDue();
+
+        // Verify
+        Mockito.verify(mailOutbox, Mockito.times(1))
+                .findDue(2);
+
+        Awaitility.await()
+                .atMost(1, TimeUnit.SECONDS)
+                .untilAsserted(() -> Mockito.verify(mailOutbox, Mockito.times(1))
+                        .claim(Mockito.eq(mockEntry), Mockito.any(Duration.class)));
+    }
+
+
+    private AysMailOutbox.Entry generateEntry(AysMail mail, int attemptCount) {
+        return AysMailOutbox.Entry.builder()
+                .id(AysRandomUtil.generateUUID())
+                .mail(mail)
+                .attemptCount(attemptCount)
+                .build();
+    }
+
+    private boolean isLogged(Level level) {
+        return logWatcher.list.stream()
+                .anyMatch(event -> event.getLevel() == level);
+    }
+
+    private boolean isLoggedContaining(String text) {
+        return logWatcher.list.stream()
+                .anyMatch(event -> event.getFormattedMessage().contains(text));
+    }
+
+    private boolean isLogged(Level level, String message) {
+        return logWatcher.list.stream()
+                .anyMatch(event -> event.getLevel() == level && message.equals(event.getFormattedMessage()));
+    }
+
+}
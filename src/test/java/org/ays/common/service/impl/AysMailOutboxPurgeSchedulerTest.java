@@ -0,0 +1,119 @@
+package org.ays.common.service.impl;
+
+import org.ays.AysUnitTest;
+import org.ays.common.config.AysSchedulerLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+class AysMailOutboxPurgeSchedulerTest extends AysUnitTest {
+
+    private AysMailOutboxPurgeScheduler mailOutboxPurgeScheduler;
+
+    @Mock
+    private AysMailOutbox mailOutbox;
+
+    @Mock
+    private AysSchedulerLock schedulerLock;
+
+    private static final Duration RETENTION = Duration.ofDays(7);
+    private static final int CHUNK_SIZE = 2;
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(10);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxPurgeScheduler = new AysMailOutboxPurgeScheduler(
+                RETENTION, CHUNK_SIZE, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR,
+                mailOutbox, schedulerLock
+        );
+    }
+
+
+    @Test
+    void givenFailedMailsBeforeRetention_whenFailedMailsPurged_thenDeleteAllFailedMailsChunkByChunk() {
+
+        // When
+        AysSchedulerLock.Lease mockLease = new AysSchedulerLock.Lease("MAIL_OUTBOX_PURGE", 1L, LocalDateTime.now());
+        this.mockExecuteWithLock(mockLease);
+        Mockito.when(schedulerLock.isHeld(mockLease))
+                .thenReturn(true);
+
+        Mockito.when(mailOutbox.deleteAllFailedBefore(Mockito.any(LocalDateTime.class), Mockito.eq(CHUNK_SIZE)))
+                .thenReturn(CHUNK_SIZE)
+                .thenReturn(1);
+
+        // Then
+        mailOutboxPurgeScheduler.purgeFailedMails();
+
+        // Verify
+        Mockito.verify(mailOutbox, Mockito.times(2))
+                .deleteAllFailedBefore(
+                        Mockito.argThat(threshold -> threshold.isBefore(LocalDateTime.now().minus(RETENTION).plusMinutes(1))),
+                        Mockito.eq(CHUNK_SIZE)
+                );
+
+        Mockito.verify(schedulerLock, Mockito.times(1))
+                .isHeld(mockLease);
+    }
+
+    @Test
+    void givenLostLease_whenFailedMailsPurged_thenStopDeletingChunks() {
+
+        // When
+        AysSchedulerLock.Lease mockLease = new AysSchedulerLock.Lease("MAIL_OUTBOX_PURGE", 1L, LocalDateTime.now());
+        this.mockExecuteWithLock(mockLease);
+        Mockito.when(schedulerLock.isHeld(mockLease))
+                .thenReturn(false);
+
+        Mockito.when(mailOutbox.deleteAllFailedBefore(Mockito.any(LocalDateTime.class), Mockito.eq(CHUNK_SIZE)))
+                .thenReturn(CHUNK_SIZE);
+
+        // Then
+        mailOutboxPurgeScheduler.purgeFailedMails();
+
+        // Verify
+        Mockito.verify(mailOutbox, Mockito.times(1))
+                .deleteAllFailedBefore(Mockito.any(LocalDateTime.class), Mockito.eq(CHUNK_SIZE));
+    }
+
+    @Test
+    void givenLockHeldByAnotherNode_whenFailedMailsPurged_thenSkipPurge() {
+
+        // When
+        Mockito.when(schedulerLock.executeWithLock(
+                        Mockito.eq("MAIL_OUTBOX_PURGE"),
+                        Mockito.eq(LOCK_AT_MOST_FOR),
+                        Mockito.eq(LOCK_AT_LEAST_FOR),
+                        Mockito.any()
+                ))
+                .thenReturn(false);
+
+        // Then
+        mailOutboxPurgeScheduler.purgeFailedMails();
+
+        // Verify
+        Mockito.verifyNoInteractions(mailOutbox);
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private void mockExecuteWithLock(AysSchedulerLock.Lease lease) {
+        Mockito.when(schedulerLock.executeWithLock(
+                        Mockito.eq("MAIL_OUTBOX_PURGE"),
+                        Mockito.eq(LOCK_AT_MOST_FOR),
+                        Mockito.eq(LOCK_AT_LEAST_FOR),
+                        Mockito.any()
+                ))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(3, Consumer.class).accept(lease);
+                    return true;
+                });
+    }
+
+}
@@ -1,26 +1,16 @@
 package org.ays.common.service.impl;
 
-import ch.qos.logback.classic.Level;
-import ch.qos.logback.classic.Logger;
-import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.read.ListAppender;
-import jakarta.mail.internet.MimeMessage;
-import org.awaitility.Awaitility;
 import org.ays.AysUnitTest;
 import org.ays.common.model.AysMail;
 import org.ays.common.model.AysMailBuilder;
-import org.junit.jupiter.api.AfterEach;
-import org.junit.jupiter.api.Assertions;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.slf4j.LoggerFactory;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 class AysMailServiceImplTest extends AysUnitTest {
 
@@ -28,146 +18,73 @@ class AysMailServiceImplTest extends AysUnitTest {
     private AysMailServiceImpl mailService;
 
     @Mock
-    private JavaMailSender mailSender;
+    private AysMailOutbox mailOutbox;
 
-
-    private ListAppender<ILoggingEvent> logWatcher;
-
-    @BeforeEach
-    void start() {
-        logWatcher = new ListAppender<>();
-        logWatcher.start();
-        ((Logger) LoggerFactory.getLogger(AysMailServiceImpl.class))
-                .addAppender(logWatcher);
-    }
-
-    @AfterEach
-    void detach() {
-        ((Logger) LoggerFactory.getLogger(AysMailServiceImpl.class))
-                .detachAndStopAllAppenders();
-    }
+    @Mock
+    private AysMailDispatcher mailDispatcher;
 
 
     @Test
-    void givenValidMail_whenMailSendingSuccessfully_thenLogTraceAboutMailSentSuccessfully() {
+    void givenValidMail_whenMailSentWithoutTransaction_thenAddMailToOutboxAndDispatchImmediately() {
         // Given
         AysMail mockMail = new AysMailBuilder()
                 .withValidValues()
                 .build();
 
         // When
-        Mockito.when(mailSender.createMimeMessage())
-                .thenReturn(Mockito.mock(MimeMessage.class));
-
-        Mockito.doNothing()
-                .when(mailSender)
-                .send(Mockito.any(MimeMessage.class));
-
-        // Then
-        mailService.send(mockMail);
-
-        Awaitility.await()
-                .atMost(1, TimeUnit.SECONDS)
-                .untilAsserted(() -> {
-                    // Verify
-                    Mockito.verify(mailSender, Mockito.times(1))
-                            .createMimeMessage();
-
-                    Mockito.verify(mailSender, Mockito.times(1))
-                            .send(Mockito.any(MimeMessage.class));
-
-                    Assertions.assertEquals(Level.TRACE, this.getLastLogLevel());
-                    Assertions.assertEquals(this.getLastLogMessage(), "Mail sent to " + mockMail.getTo() + " with " + mockMail.getTemplate() + " template");
-                });
-    }
-
-    @Test
-    @SuppressWarnings({"java:S2925"})
-    void givenValidMail_whenMailNotSentIn5Seconds_thenLogWarnAboutMailNotSentIn5Seconds() {
-        // Given
-        AysMail mockMail = new AysMailBuilder()
-                .withValidValues()
+        AysMailOutbox.Entry mockEntry = AysMailOutbox.Entry.builder()
+                .id("a0b1c2d3-5e6f-4a7b-8c9d-0e1f2a3b4c5d")
+                .mail(mockMail)
                 .build();
-
-        // When
-        Mockito.when(mailSender.createMimeMessage())
-                .thenReturn(Mockito.mock(MimeMessage.class));
-
-        Mockito.doAnswer(invocationOnMock -> {
-                    Thread.sleep(10000);
-                    throw Mockito.mock(MailException.class);
-                })
-                .when(mailSender)
-                .send(Mockito.any(MimeMessage.class));
+        Mockito.when(mailOutbox.add(mockMail))
+                .thenReturn(mockEntry);
 
         // Then
         mailService.send(mockMail);
 
-        Awaitility.await()
-                .atMost(6, TimeUnit.SECONDS)
-                .untilAsserted(() -> {
-                    // Verify
-                    Mockito.verify(mailSender, Mockito.times(1))
-                            .createMimeMessage();
-
-                    Mockito.verify(mailSender, Mockito.times(1))
-                            .send(Mockito.any(MimeMessage.class));
+        // Verify
+        Mockito.verify(mailOutbox, Mockito.times(1))
+                .add(mockMail);
 
-                    Assertions.assertEquals(Level.WARN, this.getLastLogLevel());
-                    Assertions.assertEquals(this.getLastLogMessage(), "Mail not sent to " + mockMail.getTo() + " in 5 seconds with " + mockMail.getTemplate() + " template");
-                });
+        Mockito.verify(mailDispatcher, Mockito.times(1))
+                .dispatch(List.of(mockEntry));
     }
 
     @Test
-    void givenValidMail_whenReceivedErrorWhileMailSending_thenLogErrorAboutReceivedErrorWhileMailSending() {
+    void givenValidMail_whenMailSentInTransaction_thenDispatchMailAfterCommit() {
         // Given
         AysMail mockMail = new AysMailBuilder()
                 .withValidValues()
                 .build();
 
         // When
-        Mockito.when(mailSender.createMimeMessage())
-                .thenReturn(Mockito.mock(MimeMessage.class));
-
-        Mockito.doThrow(Mockito.mock(MailException.class))
-                .when(mailSender)
-                .send(Mockito.any(MimeMessage.class));
+        AysMailOutbox.Entry mockEntry = AysMailOutbox.Entry.builder()
+                .id("b1c2d3e4-6f7a-4b8c-9d0e-1f2a3b4c5d6e")
+                .mail(mockMail)
+                .build();
+        Mockito.when(mailOutbox.add(mockMail))
+                .thenReturn(mockEntry);
 
         // Then
-        mailService.send(mockMail);
-
-        Awaitility.await()
-                .atMost(1, TimeUnit.SECONDS)
-                .untilAsserted(() -> {
-                    // Verify
-                    Mockito.verify(mailSender, Mockito.times(1))
-                            .createMimeMessage();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            mailService.send(mockMail);
 
-                    Mockito.verify(mailSender, Mockito.times(1))
-                            .send(Mockito.any(MimeMessage.class));
-
-                    Assertions.assertEquals(Level.ERROR, this.getLastLogLevel());
-                    Assertions.assertEquals(this.getLastLogMessage(), "Received error while sending mail to " + mockMail.getTo() + " with " + mockMail.getTemplate() + " template");
-                });
-    }
+            Mockito.verify(mailDispatcher, Mockito.never())
+                    .dispatch(Mockito.anyList());
 
-    private String getLastLogMessage() {
-        if (logWatcher.list.isEmpty()) {
-            return null;
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
         }
 
-        int logSize = logWatcher.list.size();
-        return logWatcher.list.get(logSize - 1).getFormattedMessage();
-    }
-
-    private Level getLastLogLevel() {
-
-        if (logWatcher.list.isEmpty()) {
-            return null;
-        }
+        // Verify
+        Mockito.verify(mailOutbox, Mockito.times(1))
+                .add(mockMail);
 
-        int logSize = logWatcher.list.size();
-        return logWatcher.list.get(logSize - 1).getLevel();
+        Mockito.verify(mailDispatcher, Mockito.times(1))
+                .dispatch(List.of(mockEntry));
     }
 
 }
@@ -0,0 +1,89 @@
+package org.ays.common.service.impl;
+
+import org.ays.AysUnitTest;
+import org.ays.common.model.enums.AysMailTemplate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class AysMailTemplateRendererTest extends AysUnitTest {
+
+    private final AysMailTemplateRenderer templateRenderer = new AysMailTemplateRenderer();
+
+
+    @Test
+    void givenValidParameters_whenTemplateRendered_thenReplaceAllPlaceholders() {
+        // Given
+        Map<String, Object> mockParameters = Map.of(
+                "userFullName", "Afet Yönetim Sistemi",
+                "url", "http://localhost:3000/create-password/35c2d3f7-a56f-42bd-a744-51b5e11fed28",
+                "unused", "ignored"
+        );
+
+        // Then
+        String content = templateRenderer.render(AysMailTemplate.CREATE_PASSWORD, mockParameters);
+
+        Assertions.assertTrue(content.contains("Afet Yönetim Sistemi"));
+        Assertions.assertTrue(content.contains("http://localhost:3000/create-password/35c2d3f7-a56f-42bd-a744-51b5e11fed28"));
+        Assertions.assertFalse(content.contains("{userFullName}"));
+        Assertions.assertFalse(content.contains("{url}"));
+        Assertions.assertFalse(content.contains("ignored"));
+        Assertions.assertEquals("Şifrenizi Oluşturun", templateRenderer.getTitle(AysMailTemplate.CREATE_PASSWORD));
+    }
+
+    @Test
+    void givenMissingParameter_whenTemplateRendered_thenThrowIllegalArgumentException() {
+        // Given
+        Map<String, Object> mockParameters = Map.of(
+                "userFullName", "Afet Yönetim Sistemi"
+        );
+
+        // Then
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> templateRenderer.render(AysMailTemplate.CREATE_PASSWORD, mockParameters)
+        );
+    }
+
+    @Test
+    void givenContentWithPlaceholdersAtEdges_whenTemplateCompiledAndRendered_thenReturnRenderedContent() {
+        // Given
+        String mockContent = "{url}<title>Title</title>{userFullName}, {url}";
+
+        // When
+        AysMailTemplateRenderer.CompiledTemplate compiledTemplate = AysMailTemplateRenderer
+                .compile(AysMailTemplate.CREATE_PASSWORD, mockContent);
+
+        // Then
+        String content = compiledTemplate.render(Map.of("userFullName", "Name", "url", "u"));
+
+        Assertions.assertEquals("u<title>Title</title>Name, u", content);
+        Assertions.assertEquals("Title", compiledTemplate.getTitle());
+    }
+
+    @Test
+    void givenContentWithUnknownPlaceholder_whenTemplateCompiled_thenThrowIllegalStateException() {
+        // Given
+        String mockContent = "<title>Title</title>{userFullName} {url} {unknown}";
+
+        // Then
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> AysMailTemplateRenderer.compile(AysMailTemplate.CREATE_PASSWORD, mockContent)
+        );
+    }
+
+    @Test
+    void givenContentWithoutPlaceholderOfParameter_whenTemplateCompiled_thenThrowIllegalStateException() {
+        // Given
+        String mockContent = "<title>Title</title>{userFullName}";
+
+        // Then
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> AysMailTemplateRenderer.compile(AysMailTemplate.CREATE_PASSWORD, mockContent)
+        );
+    }
+
+}
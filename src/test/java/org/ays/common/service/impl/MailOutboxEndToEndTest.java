@@ -0,0 +1,112 @@
+package org.ays.common.service.impl;
+
+import org.ays.AysEndToEndTest;
+import org.ays.common.model.AysMail;
+import org.ays.common.model.AysMailBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class MailOutboxEndToEndTest extends AysEndToEndTest {
+
+    @Autowired
+    private AysMailOutbox mailOutbox;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+
+    @Test
+    void givenAddedMail_whenDueMailsFound_thenReturnMailWithItsRecipientsAndParameters() {
+        // Given
+        AysMail mockMail = new AysMailBuilder()
+                .withValidValues()
+                .build();
+        AysMailOutbox.Entry mockEntry = mailOutbox.add(mockMail);
+
+        // Then
+        List<AysMailOutbox.Entry> entries = mailOutbox.findDue(Integer.MAX_VALUE);
+
+        AysMailOutbox.Entry entry = entries.stream()
+                .filter(dueEntry -> dueEntry.getId().equals(mockEntry.getId()))
+                .findFirst()
+                .orElseThrow();
+
+        Assertions.assertEquals(0, entry.getAttemptCount());
+        Assertions.assertEquals(mockMail.getTo(), entry.getMail().getTo());
+        Assertions.assertEquals(mockMail.getTemplate(), entry.getMail().getTemplate());
+        Assertions.assertEquals(mockMail.getParameters(), entry.getMail().getParameters());
+
+        mailOutbox.remove(mockEntry);
+    }
+
+    @Test
+    void givenClaimedMail_whenMailClaimedAgain_thenSkipClaimAndHideMailUntilLeaseExpires() {
+        // Given
+        AysMail mockMail = new AysMailBuilder()
+                .withValidValues()
+                .build();
+        AysMailOutbox.Entry mockEntry = mailOutbox.add(mockMail);
+
+        // Then
+        Assertions.assertTrue(mailOutbox.claim(mockEntry, Duration.ofMinutes(1)));
+        Assertions.assertFalse(mailOutbox.claim(mockEntry, Duration.ofMinutes(1)));
+
+        Assertions.assertTrue(
+                mailOutbox.findDue(Integer.MAX_VALUE).stream()
+                        .noneMatch(dueEntry -> dueEntry.getId().equals(mockEntry.getId()))
+        );
+
+        mailOutbox.remove(mockEntry);
+    }
+
+    @Test
+    void givenFailedMail_whenDueMailsFound_thenSkipMail() {
+        // Given
+        AysMail mockMail = new AysMailBuilder()
+                .withValidValues()
+                .build();
+        AysMailOutbox.Entry mockEntry = mailOutbox.add(mockMail);
+        mailOutbox.reschedule(mockEntry, LocalDateTime.now().minusMinutes(1), "relay is not reachable");
+
+        // When
+        mailOutbox.fail(mockEntry, "relay is not reachable");
+
+        // Then
+        Assertions.assertTrue(
+                mailOutbox.findDue(Integer.MAX_VALUE).stream()
+                        .noneMatch(dueEntry -> dueEntry.getId().equals(mockEntry.getId()))
+        );
+    }
+
+    @Test
+    void givenFailedMail_whenFailedMailsDeletedAfterItsFailure_thenClearParametersAndDeleteMail() {
+        // Given
+        AysMail mockMail = new AysMailBuilder()
+                .withValidValues()
+                .build();
+        AysMailOutbox.Entry mockEntry = mailOutbox.add(mockMail);
+
+        // When
+        mailOutbox.fail(mockEntry, "relay is not reachable");
+
+        // Then
+        String parameters = jdbcTemplate.queryForObject(
+                "SELECT PARAMETERS FROM AYS_MAIL_OUTBOX WHERE ID = ?", String.class, mockEntry.getId()
+        );
+        Assertions.assertEquals("{}", parameters);
+
+        Assertions.assertTrue(mailOutbox.deleteAllFailedBefore(LocalDateTime.now().plusMinutes(1), Integer.MAX_VALUE) >= 1);
+
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM AYS_MAIL_OUTBOX WHERE ID = ?", Integer.class, mockEntry.getId()
+        );
+        Assertions.assertEquals(0, count);
+    }
+
+}
@@ -0,0 +1,69 @@
+package org.ays.common.util;
+
+import org.ays.AysUnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class AysUUIDSetTest extends AysUnitTest {
+
+    @Test
+    void givenUUIDs_whenUUIDsAdded_thenContainAllUUIDs() {
+        // Given
+        AysUUIDSet uuidSet = new AysUUIDSet();
+        List<UUID> mockUUIDs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            mockUUIDs.add(UUID.randomUUID());
+        }
+
+        // When
+        mockUUIDs.forEach(uuid -> uuidSet.add(uuid, 100L));
+
+        // Then
+        Assertions.assertEquals(mockUUIDs.size(), uuidSet.size());
+        mockUUIDs.forEach(uuid -> Assertions.assertTrue(uuidSet.contains(uuid)));
+        Assertions.assertFalse(uuidSet.contains(UUID.randomUUID()));
+    }
+
+    @Test
+    void givenAlreadyAddedUUID_whenUUIDAdded_thenReturnFalse() {
+        // Given
+        AysUUIDSet uuidSet = new AysUUIDSet();
+        UUID mockUUID = UUID.randomUUID();
+        uuidSet.add(mockUUID, 100L);
+
+        // Then
+        Assertions.assertFalse(uuidSet.add(mockUUID, 200L));
+        Assertions.assertEquals(1, uuidSet.size());
+    }
+
+    @Test
+    void givenThreshold_whenUUIDsAddedBeforeThresholdRemoved_thenKeepOnlyNewerUUIDs() {
+        // Given
+        AysUUIDSet uuidSet = new AysUUIDSet();
+        List<UUID> mockOldUUIDs = new ArrayList<>();
+        List<UUID> mockNewUUIDs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            UUID mockOldUUID = UUID.randomUUID();
+            uuidSet.add(mockOldUUID, 100L);
+            mockOldUUIDs.add(mockOldUUID);
+
+            UUID mockNewUUID = UUID.randomUUID();
+            uuidSet.add(mockNewUUID, 200L);
+            mockNewUUIDs.add(mockNewUUID);
+        }
+
+        // When
+        int removedCount = uuidSet.removeAllAddedBefore(200L);
+
+        // Then
+        Assertions.assertEquals(mockOldUUIDs.size(), removedCount);
+        Assertions.assertEquals(mockNewUUIDs.size(), uuidSet.size());
+        mockOldUUIDs.forEach(uuid -> Assertions.assertFalse(uuidSet.contains(uuid)));
+        mockNewUUIDs.forEach(uuid -> Assertions.assertTrue(uuidSet.contains(uuid)));
+    }
+
+}
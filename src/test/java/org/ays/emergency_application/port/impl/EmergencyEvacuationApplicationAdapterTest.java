@@ -5,6 +5,7 @@ import org.ays.common.model.AysPage;
 import org.ays.common.model.AysPageBuilder;
 import org.ays.common.model.AysPageable;
 import org.ays.common.model.AysPageableBuilder;
+import org.ays.common.repository.AysPageRepository;
 import org.ays.common.util.AysRandomUtil;
 import org.ays.emergency_application.model.EmergencyEvacuationApplication;
 import org.ays.emergency_application.model.EmergencyEvacuationApplicationBuilder;
@@ -21,9 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
@@ -40,6 +39,9 @@ class EmergencyEvacuationApplicationAdapterTest extends AysUnitTest {
     @Mock
     private EmergencyEvacuationApplicationRepository emergencyEvacuationApplicationRepository;
 
+    @Mock
+    private AysPageRepository pageRepository;
+
 
     private final EmergencyEvacuationApplicationEntityToDomainMapper emergencyEvacuationApplicationEntityToDomainMapper = EmergencyEvacuationApplicationEntityToDomainMapper.initialize();
     private final EmergencyEvacuationApplicationToEntityMapper emergencyEvacuationApplicationToEntityMapper = EmergencyEvacuationApplicationToEntityMapper.initialize();
@@ -63,8 +65,8 @@ class EmergencyEvacuationApplicationAdapterTest extends AysUnitTest {
                         .withoutApplicant()
                         .build()
         );
-        Page<EmergencyEvacuationApplicationEntity> mockApplicationEntitiesPage = new PageImpl<>(mockEntities);
-        Mockito.when(emergencyEvacuationApplicationRepository.findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class)))
+        AysPage<EmergencyEvacuationApplicationEntity> mockApplicationEntitiesPage = AysPage.of(mockFilter, new PageImpl<>(mockEntities), mockEntities);
+        Mockito.when(pageRepository.findAll(Mockito.eq(EmergencyEvacuationApplicationEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any()))
                 .thenReturn(mockApplicationEntitiesPage);
 
         List<EmergencyEvacuationApplication> mockApplications = emergencyEvacuationApplicationEntityToDomainMapper
@@ -79,8 +81,8 @@ class EmergencyEvacuationApplicationAdapterTest extends AysUnitTest {
         AysPageBuilder.assertEquals(mockApplicationsPage, applicationsPage);
 
         // Verify
-        Mockito.verify(emergencyEvacuationApplicationRepository, Mockito.times(1))
-                .findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class));
+        Mockito.verify(pageRepository, Mockito.times(1))
+                .findAll(Mockito.eq(EmergencyEvacuationApplicationEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any());
     }
 
     @Test
@@ -104,8 +106,8 @@ class EmergencyEvacuationApplicationAdapterTest extends AysUnitTest {
                         .withStatus(EmergencyEvacuationApplicationStatus.PENDING)
                         .build()
         );
-        Page<EmergencyEvacuationApplicationEntity> mockApplicationEntitiesPage = new PageImpl<>(mockEntities);
-        Mockito.when(emergencyEvacuationApplicationRepository.findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class)))
+        AysPage<EmergencyEvacuationApplicationEntity> mockApplicationEntitiesPage = AysPage.of(mockFilter, new PageImpl<>(mockEntities), mockEntities);
+        Mockito.when(pageRepository.findAll(Mockito.eq(EmergencyEvacuationApplicationEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any()))
                 .thenReturn(mockApplicationEntitiesPage);
 
         List<EmergencyEvacuationApplication> mockApplications = emergencyEvacuationApplicationEntityToDomainMapper
@@ -120,8 +122,8 @@ class EmergencyEvacuationApplicationAdapterTest extends AysUnitTest {
         AysPageBuilder.assertEquals(mockApplicationsPage, applicationsPage);
 
         // Verify
-        Mockito.verify(emergencyEvacuationApplicationRepository, Mockito.times(1))
-                .findAll(Mockito.any(Specification.class), Mockito.any(Pageable.class));
+        Mockito.verify(pageRepository, Mockito.times(1))
+                .findAll(Mockito.eq(EmergencyEvacuationApplicationEntity.class), Mockito.any(Specification.class), Mockito.any(AysPageable.class), Mockito.any());
     }
 
     @Test
@@ -0,0 +1,89 @@
+package org.ays.emergency_application.port.impl;
+
+import org.ays.AysEndToEndTest;
+import org.ays.common.model.AysPage;
+import org.ays.common.model.AysPageable;
+import org.ays.common.model.AysPageableBuilder;
+import org.ays.emergency_application.model.EmergencyEvacuationApplication;
+import org.ays.emergency_application.model.EmergencyEvacuationApplicationBuilder;
+import org.ays.emergency_application.model.filter.EmergencyEvacuationApplicationFilter;
+import org.ays.emergency_application.port.EmergencyEvacuationApplicationReadPort;
+import org.ays.emergency_application.port.EmergencyEvacuationApplicationSavePort;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class EmergencyEvacuationApplicationSearchEndToEndTest extends AysEndToEndTest {
+
+    @Autowired
+    private EmergencyEvacuationApplicationSavePort emergencyEvacuationApplicationSavePort;
+
+    @Autowired
+    private EmergencyEvacuationApplicationReadPort emergencyEvacuationApplicationReadPort;
+
+
+    @Test
+    void givenPartOfCityAndDistrict_whenApplicationsSearched_thenReturnApplicationsContainingThem() {
+        // Given
+        EmergencyEvacuationApplication application = emergencyEvacuationApplicationSavePort.save(
+                new EmergencyEvacuationApplicationBuilder()
+                        .withValidValues()
+                        .withoutId()
+                        .withoutInstitution()
+                        .build()
+        );
+
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withPageSize(10)
+                .withoutOrders()
+                .build();
+
+        // When
+        EmergencyEvacuationApplicationFilter mockFilter = new EmergencyEvacuationApplicationFilter();
+        mockFilter.setSourceCity(application.getSourceCity().substring(1, 4).toUpperCase());
+        mockFilter.setTargetDistrict(application.getTargetDistrict().substring(2));
+
+        // Then
+        AysPage<EmergencyEvacuationApplication> applicationsPage = emergencyEvacuationApplicationReadPort
+                .findAll(mockAysPageable, mockFilter);
+
+        Assertions.assertTrue(
+                applicationsPage.getContent().stream()
+                        .anyMatch(foundApplication -> foundApplication.getId().equals(application.getId()))
+        );
+    }
+
+    @Test
+    void givenValueShorterThanTokenSize_whenApplicationsSearched_thenReturnApplicationsContainingIt() {
+        // Given
+        EmergencyEvacuationApplication application = emergencyEvacuationApplicationSavePort.save(
+                new EmergencyEvacuationApplicationBuilder()
+                        .withValidValues()
+                        .withoutId()
+                        .withoutInstitution()
+                        .build()
+        );
+
+        AysPageable mockAysPageable = new AysPageableBuilder()
+                .withValidValues()
+                .withPageSize(10)
+                .withoutOrders()
+                .build();
+
+        // When
+        EmergencyEvacuationApplicationFilter mockFilter = new EmergencyEvacuationApplicationFilter();
+        mockFilter.setReferenceNumber(application.getReferenceNumber().substring(9));
+        mockFilter.setSourceCity(application.getSourceCity());
+
+        // Then
+        AysPage<EmergencyEvacuationApplication> applicationsPage = emergencyEvacuationApplicationReadPort
+                .findAll(mockAysPageable, mockFilter);
+
+        Assertions.assertTrue(
+                applicationsPage.getContent().stream()
+                        .anyMatch(foundApplication -> foundApplication.getId().equals(application.getId()))
+        );
+    }
+
+}
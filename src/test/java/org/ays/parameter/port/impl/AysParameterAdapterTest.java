@@ -11,6 +11,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
 
@@ -92,4 +93,71 @@ class AysParameterAdapterTest extends AysUnitTest {
                 .findByName(mockName);
     }
 
+
+    @Test
+    void givenUnchangedParameter_whenDefinitionUpdated_thenReturnTrue() {
+        // Given
+        AysParameter mockParameter = AysParameter.builder()
+                .name("AUTH_TOKEN_VERIFICATION_KEYS")
+                .definition("[{}]")
+                .build();
+        String mockPreviousDefinition = "[]";
+
+        // When
+        Mockito.when(parameterRepository.updateDefinitionByNameAndDefinition(
+                        Mockito.eq(mockParameter.getName()),
+                        Mockito.eq(mockPreviousDefinition),
+                        Mockito.eq(mockParameter.getDefinition()),
+                        Mockito.any(LocalDateTime.class)
+                ))
+                .thenReturn(1);
+
+        // Then
+        boolean isUpdated = parameterAdapter.updateDefinition(mockParameter, mockPreviousDefinition);
+
+        Assertions.assertTrue(isUpdated);
+
+        // Verify
+        Mockito.verify(parameterRepository, Mockito.times(1))
+                .updateDefinitionByNameAndDefinition(
+                        Mockito.eq(mockParameter.getName()),
+                        Mockito.eq(mockPreviousDefinition),
+                        Mockito.eq(mockParameter.getDefinition()),
+                        Mockito.any(LocalDateTime.class)
+                );
+    }
+
+    @Test
+    void givenChangedParameter_whenDefinitionUpdated_thenReturnFalse() {
+        // Given
+        AysParameter mockParameter = AysParameter.builder()
+                .name("AUTH_TOKEN_VERIFICATION_KEYS")
+                .definition("[{}]")
+                .build();
+        String mockPreviousDefinition = "[]";
+
+        // When
+        Mockito.when(parameterRepository.updateDefinitionByNameAndDefinition(
+                        Mockito.anyString(),
+                        Mockito.anyString(),
+                        Mockito.anyString(),
+                        Mockito.any(LocalDateTime.class)
+                ))
+                .thenReturn(0);
+
+        // Then
+        boolean isUpdated = parameterAdapter.updateDefinition(mockParameter, mockPreviousDefinition);
+
+        Assertions.assertFalse(isUpdated);
+
+        // Verify
+        Mockito.verify(parameterRepository, Mockito.times(1))
+                .updateDefinitionByNameAndDefinition(
+                        Mockito.eq(mockParameter.getName()),
+                        Mockito.eq(mockPreviousDefinition),
+                        Mockito.eq(mockParameter.getDefinition()),
+                        Mockito.any(LocalDateTime.class)
+                );
+    }
+
 }
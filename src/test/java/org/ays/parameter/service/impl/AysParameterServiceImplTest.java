@@ -4,6 +4,7 @@ import org.ays.AysUnitTest;
 import org.ays.parameter.model.AysParameter;
 import org.ays.parameter.model.AysParameterBuilder;
 import org.ays.parameter.port.AysParameterReadPort;
+import org.ays.parameter.port.AysParameterSavePort;
 import org.ays.parameter.util.exception.AysParameterNotExistException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,9 @@ class AysParameterServiceImplTest extends AysUnitTest {
     @Mock
     private AysParameterReadPort parameterReadPort;
 
+    @Mock
+    private AysParameterSavePort parameterSavePort;
+
 
     @Test
     void givenValidPrefixOfParameterName_whenParametersFound_thenReturnParameters() {
@@ -99,4 +103,28 @@ class AysParameterServiceImplTest extends AysUnitTest {
                 .findByName(mockName);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void givenValidParameter_whenDefinitionUpdated_thenReturnResultOfUpdate() {
+        // Given
+        AysParameter mockParameter = new AysParameterBuilder()
+                .withName("AUTH_TOKEN_VERIFICATION_KEYS")
+                .withDefinition("[{}]")
+                .build();
+        String mockPreviousDefinition = "[]";
+
+        // When
+        Mockito.when(parameterSavePort.updateDefinition(mockParameter, mockPreviousDefinition))
+                .thenReturn(true);
+
+        // Then
+        boolean isUpdated = parameterService.updateDefinition(mockParameter, mockPreviousDefinition);
+
+        Assertions.assertTrue(isUpdated);
+
+        // Verify
+        Mockito.verify(parameterSavePort, Mockito.times(1))
+                .updateDefinition(mockParameter, mockPreviousDefinition);
+    }
+
+}